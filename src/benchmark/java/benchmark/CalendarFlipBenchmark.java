@@ -0,0 +1,71 @@
+package benchmark;
+
+import main.controller.GUIController;
+import main.viewer.GUIViewer;
+import model.CalendarWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flipping the calendar one month forward at a time, as holding the arrow key
+ * does: each flip rebinds the date blocks, shows the deadlines of the new month
+ * and lays the calendar out, all on the event dispatch thread. The calendar is a
+ * real Swing component, so this needs a display and does not run headless.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarFlipBenchmark {
+    @Param({"0", "1000", "10000"})
+    private int size;
+
+    private GUIViewer frame;
+    private int month;
+    private int year;
+
+    @Setup
+    public void setUp() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(() -> {
+            GUIController controller = new GUIController();
+            frame = controller.getFrame();
+            frame.setUp(false);
+            frame.getCalendarPanel().addDeadlines(Datasets.deadlines(size));
+            frame.pack();
+        });
+        CalendarWrapper now = CalendarWrapper.now();
+        month = now.getMonth();
+        year = now.getYear();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(() -> frame.dispose());
+    }
+
+    @Benchmark
+    public void flip() throws InterruptedException, InvocationTargetException {
+        // cycle through the months of the current year, most of which have deadlines
+        month = month % 12 + 1;
+        SwingUtilities.invokeAndWait(() -> {
+            frame.setMonthYear(month, year);
+            frame.getCalendarPanel().validate();
+        });
+    }
+}
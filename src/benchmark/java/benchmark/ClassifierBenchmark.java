@@ -0,0 +1,108 @@
+package benchmark;
+
+import model.Deadline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import webService.GradeableClassifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the status, name and team due text of a gradeable with the chained
+ * contains, replace and split calls the scrapers used to make, against the
+ * single scan of GradeableClassifier. The texts have the shapes of the rows of
+ * a course page: open, resubmitted, team and graded gradeables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassifierBenchmark {
+    private static final int SIZE = 1000;
+
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        texts = Datasets.gradeableTexts(SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void chained(Blackhole bh) {
+        for (String text : texts) {
+            if (text.contains("VIEW GRADE") || text.contains("NO SUBMISSION")
+                    || text.contains("OVERDUE SUBMISSION") || text.contains("GRADE")
+                    || text.contains("REGRADE")) {
+                continue;
+            }
+            String status;
+            if (text.contains("LATE SUBMIT")) {
+                status = Deadline.STATUS.LATE_SUBMIT;
+            } else if (text.contains("LATE RESUBMIT")) {
+                status = Deadline.STATUS.LATE_RESUBMIT;
+            } else if (text.contains("RESUBMIT")) {
+                status = Deadline.STATUS.RESUBMIT;
+            } else if (text.contains("OVERDUE SUBMISSION")) {
+                status = Deadline.STATUS.OVERDUE_SUBMISSION;
+            } else if (text.contains("NO SUBMISSION")) {
+                status = Deadline.STATUS.NO_SUBMISSION;
+            } else if (text.contains("MUST BE ON A TEAM")) {
+                status = Deadline.STATUS.MUST_ON_TEAM;
+            } else {
+                status = Deadline.STATUS.DEFAULT;
+            }
+            String name = text.replace("REGRADE", "")
+                    .replace("VIEW GRADE", "")
+                    .replace("GRADE", "")
+                    .replace("VIEW TEAM", "")
+                    .replace("LATE SUBMIT", "")
+                    .replace("LATE RESUBMIT", "")
+                    .replace("RESUBMIT", "")
+                    .replace("SUBMIT", "")
+                    .replace("OVERDUE SUBMISSION", "")
+                    .replace("NO SUBMISSION", "");
+            String[] textArr = name.split("\n");
+            name = textArr[0].trim();
+            if (text.contains("CREATE TEAM") || text.contains("MANAGE TEAM")
+                    || text.contains("CREATE/JOIN TEAM")) {
+                bh.consume(textArr.length > 1 ? textArr[1].trim() : null);
+                name = name.replace("CREATE TEAM", "")
+                        .replace("MANAGE TEAM", "")
+                        .replace("CREATE/JOIN TEAM", "");
+            }
+            bh.consume(status);
+            bh.consume(name);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void singlePass(Blackhole bh) {
+        for (String text : texts) {
+            GradeableClassifier gradeable = GradeableClassifier.classify(text);
+            if (gradeable.isSkipped()) {
+                continue;
+            }
+            if (gradeable.isTeam()) {
+                bh.consume(gradeable.getTeamDueText());
+                bh.consume(gradeable.getTeamName());
+            } else {
+                bh.consume(gradeable.getName());
+            }
+            bh.consume(gradeable.getStatus());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package benchmark;
+
+import model.Course;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting the deadlines of a single course, as the command line summary does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseBenchmark {
+    /** the number of deadlines in the course */
+    @Param({"100", "1000"})
+    private int size;
+
+    private Course course;
+
+    @Setup
+    public void setUp() {
+        // every generated course gets size deadlines
+        course = Datasets.courses(size * Datasets.COURSES).values().iterator().next();
+    }
+
+    @Benchmark
+    public List<String> getReversedSortedDeadlines() {
+        return course.getReversedSortedDeadlines();
+    }
+}
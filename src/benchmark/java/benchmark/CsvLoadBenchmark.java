@@ -0,0 +1,77 @@
+package benchmark;
+
+import localParser.Load;
+import model.Deadline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a CSV file from disk line by line through a Reader against
+ * reading its bytes directly. Deadlines are only counted, so the numbers measure
+ * parsing without the controller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvLoadBenchmark {
+    /** the number of rows in the file */
+    @Param({"10000", "100000"})
+    private int size;
+
+    private File file;
+    private int count;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("deadlines", ".csv");
+        Files.write(file.toPath(), Datasets.serialize(Datasets.courses(size), "csv")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    private void count(List<Deadline> batch) {
+        count += batch.size();
+    }
+
+    @Benchmark
+    public int loadReader() throws IOException {
+        count = 0;
+        new Load(this::count, new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8))).Csv();
+        return count;
+    }
+
+    @Benchmark
+    public int loadFile() {
+        count = 0;
+        new Load(this::count, file).Csv();
+        return count;
+    }
+}
@@ -0,0 +1,190 @@
+package benchmark;
+
+import localParser.Save;
+import model.CalendarWrapper;
+import model.Course;
+import model.Deadline;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Synthetic, reproducible deadline data sets shared by the benchmarks.
+ */
+final class Datasets {
+    /** the number of distinct courses deadlines are spread over */
+    static final int COURSES = 8;
+    private static final long SEED = 42;
+
+    private Datasets() {
+    }
+
+    /**
+     * This function generates deadlines due within half a year before or after now.
+     *
+     * @param size the number of deadlines
+     * @return a list of deadlines with unique (course, name) pairs
+     */
+    static List<Deadline> deadlines(int size) {
+        Random random = new Random(SEED);
+        CalendarWrapper now = CalendarWrapper.now();
+        List<Deadline> deadlines = new ArrayList<>(size);
+        String[] statuses = Deadline.STATUS.getAllStatus();
+        for (int i = 0; i < size; i++) {
+            Calendar cal = now.getCalendarInstance();
+            cal.add(Calendar.MINUTE, random.nextInt(525600) - 262800);
+            deadlines.add(new Deadline(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1,
+                    cal.get(Calendar.DATE), cal.get(Calendar.HOUR_OF_DAY), cal.get(Calendar.MINUTE),
+                    "Homework " + i, "CSCI " + (1000 + i % COURSES),
+                    statuses[random.nextInt(statuses.length)],
+                    "https://submitty.cs.rpi.edu/courses/f19/csci" + (1000 + i % COURSES)
+                            + "/gradeable/hw" + i));
+        }
+        return deadlines;
+    }
+
+    /**
+     * This function groups generated deadlines by course.
+     *
+     * @param size the total number of deadlines
+     * @return a map from course names to courses
+     */
+    static ConcurrentHashMap<String, Course> courses(int size) {
+        ConcurrentHashMap<String, Course> courses = new ConcurrentHashMap<>();
+        for (Deadline d : deadlines(size)) {
+            courses.computeIfAbsent(d.getCourseName(), Course::new).addDeadline(d);
+        }
+        return courses;
+    }
+
+    /**
+     * This function generates "(due MM/DD/YYYY @ HH:MM AM)" texts as shown on Submitty.
+     *
+     * @param size the number of texts
+     * @return an array of due texts
+     */
+    static String[] dueTexts(int size) {
+        Random random = new Random(SEED);
+        String[] texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            texts[i] = String.format("(due %02d/%02d/%04d @ %02d:%02d %s)",
+                    1 + random.nextInt(11), 1 + random.nextInt(28), 2019 + random.nextInt(2),
+                    1 + random.nextInt(11), random.nextInt(60), random.nextBoolean() ? "AM" : "PM");
+        }
+        return texts;
+    }
+
+    /**
+     * This function generates a Submitty course page. The rows cycle through an
+     * open gradeable, a finished one with a full progress meter, a team gradeable
+     * and a graded one, which are the shapes a course page has.
+     *
+     * @param course the course path, e.g. "f19/csci1000"
+     * @param size the number of gradeables
+     * @return the page
+     */
+    static String coursePage(String course, int size) {
+        String[] due = dueTexts(size);
+        StringBuilder page = new StringBuilder("<!DOCTYPE html>\n<html><head><title>")
+                .append(course).append("</title><script>var rows = '<tr>';</script></head>\n")
+                .append("<body><div class=\"content\"><table class=\"gradeable_list\">\n");
+        for (int i = 0; i < size; i++) {
+            String link = "/" + course + "/gradeable/hw" + i;
+            page.append("<tr class=\"gradeable_row\">\n");
+            switch (i % 4) {
+                case 0:
+                    page.append("<td><span class=\"gradeable-title\">Homework ").append(i).append("</span></td>\n")
+                            .append("<td><a class=\"btn btn-primary btn-nav btn-nav-submit\" href=\"").append(link)
+                            .append("\">SUBMIT<br/><span class=\"subtitle\">").append(due[i])
+                            .append("</span></a></td>\n");
+                    break;
+                case 1:
+                    page.append("<td>Homework ").append(i).append("</td>\n<td>")
+                            .append("<a class=\"btn btn-default btn-nav btn-nav-submit\" href=\"").append(link)
+                            .append("\">RESUBMIT<br><span class=\"subtitle\">").append(due[i])
+                            .append("</span></a>\n<div class=\"meter\"><span style=\"width: 100%\"></span></div></td>\n");
+                    break;
+                case 2:
+                    page.append("<td>Project ").append(i).append(" <a class=\"btn btn-team\" href=\"").append(link)
+                            .append("/team\">CREATE TEAM</a><br>(teams lock 10/01/2019 @ 11:59 PM)</td>\n")
+                            .append("<td><a class=\"btn btn-primary btn-nav btn-nav-submit\" href=\"").append(link)
+                            .append("\">SUBMIT<br><span class=\"subtitle\">").append(due[i])
+                            .append("</span></a></td>\n");
+                    break;
+                default:
+                    page.append("<td>Lab ").append(i).append(" &amp; Quiz</td>\n")
+                            .append("<td><a class=\"btn btn-default btn-nav btn-nav-submit\" href=\"").append(link)
+                            .append("\">VIEW GRADE</a></td>\n");
+                    break;
+            }
+            page.append("</tr>\n");
+        }
+        return page.append("</table></div></body></html>\n").toString();
+    }
+
+    /**
+     * This function generates the gradeable texts the scraper reads from the rows of
+     * {@link #coursePage(String, int)}, one per row.
+     *
+     * @param size the number of texts
+     * @return an array of gradeable texts
+     */
+    static String[] gradeableTexts(int size) {
+        String[] due = dueTexts(size);
+        String[] texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            switch (i % 4) {
+                case 0:
+                    texts[i] = "Homework " + i + "\nSUBMIT\n" + due[i];
+                    break;
+                case 1:
+                    texts[i] = "Homework " + i + "\nRESUBMIT\n" + due[i];
+                    break;
+                case 2:
+                    texts[i] = "Project " + i + " CREATE TEAM\n(teams lock 10/01/2019 @ 11:59 PM)\nSUBMIT\n" + due[i];
+                    break;
+                default:
+                    texts[i] = "Lab " + i + " & Quiz\nVIEW GRADE";
+                    break;
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * This function serializes courses with localParser.Save.
+     *
+     * @param courses the courses to serialize
+     * @param format one of "json", "csv" or "ics"
+     * @return the file content
+     */
+    static String serialize(ConcurrentHashMap<String, Course> courses, String format) {
+        StringWriter out = new StringWriter();
+        run(new Save(courses, out), format);
+        return out.toString();
+    }
+
+    /**
+     * This function runs the parser method matching a file format.
+     *
+     * @param parser a Load or Save parser
+     * @param format one of "json", "csv" or "ics"
+     * @return the parser's result
+     */
+    static boolean run(localParser.Parser parser, String format) {
+        switch (format) {
+            case "json":
+                return parser.Json();
+            case "csv":
+                return parser.Csv();
+            case "ics":
+                return parser.Ics();
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package benchmark;
+
+import model.CalendarWrapper;
+import model.Deadline;
+import model.DueTextParser;
+import model.RemainingTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-deadline hot paths: due text parsing, remaining time and comparison.
+ * Each invocation processes the whole data set, so divide by size for per-item cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeadlineBenchmark {
+    @Param({"1000"})
+    private int size;
+
+    private String[] dueTexts;
+    private List<Deadline> deadlines;
+    private CalendarWrapper now;
+    private long nowMinute;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final DueTextParser parser = new DueTextParser();
+
+    @Setup
+    public void setUp() {
+        dueTexts = Datasets.dueTexts(size);
+        deadlines = Datasets.deadlines(size);
+        now = CalendarWrapper.now();
+        nowMinute = now.getEpochMinute();
+    }
+
+    @Benchmark
+    public void parseDate(Blackhole bh) {
+        for (String text : dueTexts) {
+            bh.consume(Deadline.parseDate(text));
+        }
+    }
+
+    @Benchmark
+    public void parseEpochMinute(Blackhole bh) {
+        for (String text : dueTexts) {
+            if (parser.parse(text) == DueTextParser.OK) {
+                bh.consume(parser.getEpochMinute());
+            }
+        }
+    }
+
+    @Benchmark
+    public void getRemainPeriod(Blackhole bh) {
+        for (Deadline d : deadlines) {
+            bh.consume(d.getRemainPeriod(now));
+        }
+    }
+
+    @Benchmark
+    public void remainingTime(Blackhole bh) {
+        for (Deadline d : deadlines) {
+            bh.consume(RemainingTime.between(nowMinute, d.getDueMinute(), zone));
+        }
+    }
+
+    /** every view after the first in the same minute */
+    @Benchmark
+    public void cachedRemainingTime(Blackhole bh) {
+        for (Deadline d : deadlines) {
+            bh.consume(d.getRemainingTime(nowMinute));
+        }
+    }
+
+    @Benchmark
+    public void compareTo(Blackhole bh) {
+        Deadline previous = deadlines.get(deadlines.size() - 1);
+        for (Deadline d : deadlines) {
+            bh.consume(d.compareTo(previous));
+            previous = d;
+        }
+    }
+}
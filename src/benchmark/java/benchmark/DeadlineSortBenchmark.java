@@ -0,0 +1,91 @@
+package benchmark;
+
+import model.CalendarWrapper;
+import model.Deadline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sorting deadlines with the clock-reading natural ordering used before
+ * Deadline had a precomputed sort key against the snapshot comparator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeadlineSortBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Deadline> deadlines;
+
+    /**
+     * The ordering Deadline.compareTo had before the sort key: four clock reads and
+     * two calendar clones per comparison.
+     */
+    private static final Comparator<Deadline> LEGACY_ORDER = (d1, d2) -> {
+        if (d1.isBefore(CalendarWrapper.now()) && d2.isAfter(CalendarWrapper.now())) {
+            return 1;
+        } else if (d1.isAfter(CalendarWrapper.now()) && d2.isBefore(CalendarWrapper.now())) {
+            return -1;
+        }
+        Calendar self = d1.getTime().getCalendarInstance();
+        Calendar other = d2.getTime().getCalendarInstance();
+        self.set(Calendar.SECOND, 0);
+        self.set(Calendar.MILLISECOND, 0);
+        other.set(Calendar.SECOND, 0);
+        other.set(Calendar.MILLISECOND, 0);
+        return self.compareTo(other);
+    };
+
+    @Setup
+    public void setUp() {
+        deadlines = Datasets.deadlines(size);
+    }
+
+    @Benchmark
+    public List<Deadline> sortLegacy() {
+        List<Deadline> list = new ArrayList<>(deadlines);
+        list.sort(LEGACY_ORDER);
+        return list;
+    }
+
+    @Benchmark
+    public List<Deadline> sortNatural() {
+        List<Deadline> list = new ArrayList<>(deadlines);
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public List<Deadline> sortSnapshot() {
+        List<Deadline> list = new ArrayList<>(deadlines);
+        list.sort(Deadline.remainingTimeOrder());
+        return list;
+    }
+
+    @Benchmark
+    public TreeSet<Deadline> buildDueOrderSet() {
+        TreeSet<Deadline> set = new TreeSet<>(Deadline.DUE_ORDER);
+        set.addAll(deadlines);
+        return set;
+    }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import model.CalendarWrapper;
+import model.Deadline;
+import model.DeadlineIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the deadlines of the displayed month, as the calendar does on every
+ * month flip and refresh: filtering a map of all deadlines by month and year
+ * against a range query on DeadlineIndex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonthQueryBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private HashMap<String, Deadline> map;
+    private DeadlineIndex index;
+    private int year;
+    private int month;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    @Setup
+    public void setUp() {
+        map = new HashMap<>();
+        index = new DeadlineIndex();
+        for (Deadline d : Datasets.deadlines(size)) {
+            map.put(d.getCourseName() + d.getName(), d);
+            index.put(d);
+        }
+        CalendarWrapper now = CalendarWrapper.now();
+        year = now.getYear();
+        month = now.getMonth();
+    }
+
+    @Benchmark
+    public void scan(Blackhole bh) {
+        for (Deadline d : map.values()) {
+            if (d.getMonth() == month && d.getYear() == year) {
+                bh.consume(d);
+            }
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole bh) {
+        List<Deadline> deadlines = index.month(year, month, zone);
+        for (Deadline d : deadlines) {
+            bh.consume(d);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import localParser.Load;
+import localParser.Save;
+import main.controller.CommandLineController;
+import model.Course;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading and saving whole deadline files in every supported format.
+ * Files are kept in memory so the numbers exclude disk I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    /** the number of deadlines in the file */
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"json", "csv", "ics"})
+    private String format;
+
+    private ConcurrentHashMap<String, Course> courses;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        courses = Datasets.courses(size);
+        content = Datasets.serialize(courses, format);
+    }
+
+    @Benchmark
+    public CommandLineController load() {
+        CommandLineController controller = new CommandLineController();
+        Datasets.run(new Load(controller, new StringReader(content)), format);
+        return controller;
+    }
+
+    @Benchmark
+    public StringWriter save() {
+        StringWriter out = new StringWriter(content.length());
+        Datasets.run(new Save(courses, out), format);
+        return out;
+    }
+
+    /** the GUI save path: copy the courses for the parser thread, then save the copy */
+    @Benchmark
+    public StringWriter copyAndSave() {
+        StringWriter out = new StringWriter(content.length());
+        Datasets.run(new Save(Save.copyOf(courses), out), format);
+        return out;
+    }
+}
@@ -0,0 +1,117 @@
+package benchmark;
+
+import model.Course;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import webService.HttpSubmittyScraper;
+import webService.replay.FixtureServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing Submitty course pages without the real server. parsePage reads one
+ * page from memory; replay logs into a FixtureServer and fetches every course
+ * the way a refresh does. The gradeables counter gives gradeables per second,
+ * and running with "-prof gc" reports gc.alloc.rate.norm, the bytes allocated
+ * per page for parsePage and per refresh for replay.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// the FixtureServer answers without waiting for delayed acknowledgements
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class ScraperBenchmark {
+    /** the number of gradeables on a course page */
+    @Param({"20", "200"})
+    private int size;
+
+    private String page;
+    private FixtureServer server;
+    private String url;
+    private PrintStream err;
+
+    /**
+     * Counts the gradeables that were read, reported per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long gradeables;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            gradeables = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        // the scrapers log every gradeable
+        err = System.err;
+        System.setErr(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        }));
+        page = Datasets.coursePage("f19/csci1000", size);
+        Map<String, String> pages = new HashMap<>();
+        StringBuilder home = new StringBuilder("<html><body><table>");
+        for (int i = 0; i < Datasets.COURSES; i++) {
+            String course = "f19/csci" + (1000 + i);
+            pages.put("/" + course, Datasets.coursePage(course, size));
+            home.append("<tr><td><a class=\"btn btn-primary btn-block\" href=\"/").append(course)
+                    .append("\">Fall 2019 CSCI ").append(1000 + i).append("</a></td></tr>");
+        }
+        pages.put("/home", home.append("</table></body></html>").toString());
+        pages.put("/authentication/login", "<html><body><form action=\"/authentication/check_login\" method=\"post\">"
+                + "<input type=\"hidden\" name=\"csrf_token\" value=\"t\"><input name=\"user_id\">"
+                + "<input type=\"password\" name=\"password\"></form></body></html>");
+        server = new FixtureServer(pages, "/authentication/login", "/home");
+        url = server.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+        System.setErr(err);
+    }
+
+    @Benchmark
+    public Course parsePage(Counters counters) throws IOException {
+        Course course = HttpSubmittyScraper.readCoursePage("Fall 2019 CSCI 1000",
+                "https://submitty.cs.rpi.edu/f19/csci1000", new StringReader(page));
+        counters.gradeables += size;
+        return course;
+    }
+
+    @Benchmark
+    public int replay(Counters counters) {
+        HttpSubmittyScraper scraper = new HttpSubmittyScraper(url, "user", "password", null);
+        scraper.login();
+        scraper.parser(new HashSet<>(), null, 4);
+        scraper.close();
+        counters.gradeables += (long) size * Datasets.COURSES;
+        return scraper.getCourseMap().size();
+    }
+}
@@ -0,0 +1,324 @@
+package localParser;
+
+import main.viewer.Log;
+import model.CalendarWrapper;
+import model.Deadline;
+import model.StringPool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This class reads a CSV file written by Save.Csv() in chunks through a heap
+ * buffer that is reused for the whole file, so the file is closed, and not
+ * locked, as soon as read() returns. The date fields are parsed directly from
+ * the bytes, and a String is only created for the course name, deadline name,
+ * link and a status that is not one of Deadline.STATUS. It accepts the same
+ * lines as Load.Csv(): the first line is a header, lines with fewer than eight
+ * fields are skipped and the link is only read when a line has exactly nine
+ * fields.
+ */
+class CsvFileReader {
+    /** the number of fields in a line written by Save.Csv() */
+    private static final int FIELDS = 9;
+    /** the initial buffer size; the buffer grows when a line does not fit */
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final String[] STATUSES = Deadline.STATUS.getAllStatus();
+    private final File file;
+    private final int batchSize;
+    /** start and end offsets of every field of the current line */
+    private final int[] starts = new int[FIELDS];
+    private final int[] ends = new int[FIELDS];
+    /** the bytes read from the file; lines are parsed in place */
+    private byte[] bytes = new byte[CHUNK_SIZE];
+    /** true until the header line has been skipped */
+    private boolean header;
+    /** the last course name and status read, reused while the bytes repeat */
+    private String lastCourse = "";
+    private String lastStatus = "";
+    private String errMsg = "";
+
+    /**
+     * Constructor
+     *
+     * @param file the CSV file
+     * @param batchSize the number of deadlines handed to the sink at once
+     * @requires file != null, batchSize > 0
+     * @modifies this.file, this.batchSize
+     * @effects create a new CsvFileReader
+     */
+    CsvFileReader(File file, int batchSize) {
+        this.file = file;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * This function checks if a file can be read by this class
+     *
+     * @param file the file
+     * @requires file != null
+     * @modifies None
+     * @effects None
+     * @return true if the file exists and is a regular file
+     */
+    static boolean canRead(File file) {
+        return file.isFile();
+    }
+
+    /**
+     * This method reads every deadline in the file
+     *
+     * @param sink receives each batch of deadlines; the list is reused afterwards
+     * @requires sink != null
+     * @modifies None
+     * @effects read the file
+     * @return result: true -> successful; false -> failed
+     */
+    boolean read(Consumer<List<Deadline>> sink) {
+        List<Deadline> batch = new ArrayList<>(this.batchSize);
+        try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.wrap(this.bytes);
+            this.header = true;
+            while (true) {
+                boolean eof = channel.read(buffer) < 0;
+                int limit = buffer.position();
+                // a line ends at every '\r' or '\n'; the empty line between the two
+                // bytes of a CRLF is skipped like any other blank line
+                int from = 0;
+                for (int i = 0; i < limit; i++) {
+                    if (isLineBreak(this.bytes[i])) {
+                        this.endLine(from, i, batch, sink);
+                        from = i + 1;
+                    }
+                }
+                if (eof) {
+                    if (from < limit) {
+                        this.endLine(from, limit, batch, sink);
+                    }
+                    break;
+                }
+                // keep the unfinished line at the start of the buffer
+                int rest = limit - from;
+                if (rest == this.bytes.length) {
+                    byte[] larger = new byte[this.bytes.length * 2];
+                    System.arraycopy(this.bytes, 0, larger, 0, rest);
+                    this.bytes = larger;
+                } else {
+                    System.arraycopy(this.bytes, from, this.bytes, 0, rest);
+                }
+                buffer = ByteBuffer.wrap(this.bytes);
+                buffer.position(rest);
+            }
+        } catch (IOException e) {
+            Log.error("[CsvFileReader] Error when reading " + this.file, e);
+            this.errMsg = e.getMessage();
+            return false;
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+            batch.clear();
+        }
+        return true;
+    }
+
+    /**
+     * This method handles one line of the file, skipping the header and blank lines
+     *
+     * @param from the offset of the first byte of the line
+     * @param to the offset after the last byte of the line
+     * @param batch the deadlines not handed to the sink yet
+     * @param sink receives batch once it is full
+     * @requires from <= to
+     * @modifies header, batch
+     * @effects add the deadline on the line to batch, if there is one
+     */
+    private void endLine(int from, int to, List<Deadline> batch, Consumer<List<Deadline>> sink) {
+        if (this.header) {
+            this.header = false;
+            return;
+        }
+        if (from == to) {
+            return;
+        }
+        Deadline deadline = this.readLine(from, to);
+        if (deadline != null) {
+            batch.add(deadline);
+            if (batch.size() >= this.batchSize) {
+                sink.accept(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the error message of the last failed read
+     */
+    String getErrMsg() {
+        return this.errMsg;
+    }
+
+    /**
+     * This function parses one line into a deadline
+     *
+     * @param from the offset of the first byte of the line
+     * @param to the offset after the last byte of the line
+     * @requires None
+     * @modifies starts, ends
+     * @effects None
+     * @return the deadline, or null if the line is not valid
+     */
+    private Deadline readLine(int from, int to) {
+        // split the line, dropping trailing empty fields like String.split
+        int count = 0;
+        int fieldStart = from;
+        int nonEmpty = 0;
+        for (int i = from; i <= to; i++) {
+            if (i == to || this.bytes[i] == ',') {
+                if (count < FIELDS) {
+                    this.starts[count] = fieldStart;
+                    this.ends[count] = i;
+                }
+                count++;
+                if (i > fieldStart) {
+                    nonEmpty = count;
+                }
+                fieldStart = i + 1;
+            }
+        }
+        count = nonEmpty;
+        if (count < 8) {
+            return null;
+        }
+        int month = this.readInt(2);
+        int day = this.readInt(3);
+        int year = this.readInt(4);
+        int hour = this.readInt(5);
+        int minute = this.readInt(6);
+        if (month == Integer.MIN_VALUE || day == Integer.MIN_VALUE || year == Integer.MIN_VALUE
+                || hour == Integer.MIN_VALUE || minute == Integer.MIN_VALUE) {
+            Log.error("Error when reading csv file: bad number in \""
+                    + this.readString(from, to) + "\"");
+            return null;
+        }
+        if (!this.sameBytes(0, this.lastCourse)) {
+            this.lastCourse = StringPool.course(this.readString(this.starts[0], this.ends[0]));
+        }
+        if (!this.sameBytes(7, this.lastStatus)) {
+            this.lastStatus = this.readStatus();
+        }
+        String name = this.readString(this.starts[1], this.ends[1]);
+        String link = count == FIELDS ? this.readString(this.starts[8], this.ends[8]) : "";
+        try {
+            return new Deadline(year, month, day, hour, minute, name, this.lastCourse, this.lastStatus, link);
+        } catch (CalendarWrapper.CalendarFormatException e) {
+            Log.error("Error when reading csv file", e);
+            return null;
+        }
+    }
+
+    /**
+     * This function reads the status field, returning the Deadline.STATUS constant
+     * it holds without creating a String
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the status
+     */
+    private String readStatus() {
+        for (String status : STATUSES) {
+            if (this.sameBytes(7, status)) {
+                return status;
+            }
+        }
+        return StringPool.status(this.readString(this.starts[7], this.ends[7]));
+    }
+
+    /**
+     * This function parses a field as a decimal int the way Integer.parseInt does
+     *
+     * @param field the field index
+     * @requires field < FIELDS
+     * @modifies None
+     * @effects None
+     * @return the value, or Integer.MIN_VALUE if the field is not a number
+     */
+    private int readInt(int field) {
+        int i = this.starts[field];
+        int end = this.ends[field];
+        boolean negative = false;
+        if (i < end && (this.bytes[i] == '-' || this.bytes[i] == '+')) {
+            negative = this.bytes[i] == '-';
+            i++;
+        }
+        // the fields are dates, so more than nine digits is never valid
+        if (i == end || end - i > 9) {
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = this.bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * This function checks if a field holds the same characters as an ASCII string
+     *
+     * @param field the field index
+     * @param s the string to compare with
+     * @requires field < FIELDS
+     * @modifies None
+     * @effects None
+     * @return true if the field bytes equal s
+     */
+    private boolean sameBytes(int field, String s) {
+        int start = this.starts[field];
+        int length = this.ends[field] - start;
+        if (length != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80 || this.bytes[start + i] != (byte) c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This function decodes a range of the buffer as UTF-8
+     *
+     * @param from the first byte
+     * @param to the byte after the last one
+     * @requires from <= to
+     * @modifies None
+     * @effects None
+     * @return the decoded string
+     */
+    private String readString(int from, int to) {
+        if (from == to) {
+            return "";
+        }
+        return new String(this.bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+}
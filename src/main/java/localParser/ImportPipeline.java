@@ -0,0 +1,253 @@
+package localParser;
+
+import main.viewer.Log;
+import model.Course;
+import model.Deadline;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * This class imports several local files at once. Every file is parsed on a
+ * bounded thread pool into its own list of deadlines, and the results are merged
+ * into one course map in the order the files were given, so that a deadline in a
+ * later file replaces a deadline with the same name in the same course from an
+ * earlier file. The caller commits the merged result in a single batch.
+ */
+public class ImportPipeline {
+    /** the maximum number of files parsed at the same time */
+    public static final int MAX_THREADS = 4;
+    private final LinkedHashMap<File, String> files;
+    private final List<Future<List<Deadline>>> futures;
+    private volatile boolean cancelled;
+
+    /**
+     * This class holds the merged result of an import
+     */
+    public static final class Result {
+        private final ConcurrentHashMap<String, Course> courses;
+        private final List<Deadline> deadlines;
+        private final Map<File, String> failures;
+
+        private Result(ConcurrentHashMap<String, Course> courses, List<Deadline> deadlines,
+                       Map<File, String> failures) {
+            this.courses = courses;
+            this.deadlines = deadlines;
+            this.failures = failures;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the merged courses, by course name
+         */
+        public ConcurrentHashMap<String, Course> getCourses() {
+            return this.courses;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return every merged deadline, without duplicates
+         */
+        public List<Deadline> getDeadlines() {
+            return this.deadlines;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the error messages of the files that could not be loaded, by file
+         */
+        public Map<File, String> getFailures() {
+            return this.failures;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param files the files to import, each mapped to its extension (JSON, CSV, TXT or ICS)
+     * @requires files != null
+     * @modifies this.files
+     * @effects create a new ImportPipeline
+     */
+    public ImportPipeline(Map<File, String> files) {
+        this.files = new LinkedHashMap<>(files);
+        this.futures = new ArrayList<>(files.size());
+    }
+
+    /**
+     * This function returns the parser extension of a file based on its name
+     *
+     * @param file the file
+     * @param defaultExtension the extension to use if the file name has no supported one
+     * @requires file != null
+     * @modifies None
+     * @effects None
+     * @return the upper case extension
+     */
+    public static String extensionOf(File file, String defaultExtension) {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            String ext = name.substring(dot + 1).toLowerCase(Locale.ENGLISH);
+            for (String supported : Parser.SUPPORTED_EXTIONSION) {
+                if (supported.equals(ext)) {
+                    return ext.toUpperCase(Locale.ENGLISH);
+                }
+            }
+        }
+        return defaultExtension;
+    }
+
+    /**
+     * This method parses every file and merges the results. It blocks until all
+     * files are parsed or the import is cancelled. A file that could only be read
+     * in part keeps the deadlines read from it and is listed in the failures too.
+     *
+     * @param progress called with (files done, total files) after each file, may be null
+     * @requires run has not been called on this pipeline before
+     * @modifies futures
+     * @effects parse every file
+     * @return the merged result, or null if the import was cancelled
+     */
+    public Result run(BiConsumer<Integer, Integer> progress) {
+        int total = this.files.size();
+        AtomicInteger done = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(total,
+                Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()))), r -> {
+            Thread t = new Thread(r, "deadline-import");
+            t.setDaemon(true);
+            return t;
+        });
+        Map<File, String> errors = new ConcurrentHashMap<>();
+        try {
+            // cancel() cancels every future submitted here, so none of them is left unfinished
+            synchronized (this.futures) {
+                if (this.cancelled) {
+                    return null;
+                }
+                for (Map.Entry<File, String> file : this.files.entrySet()) {
+                    this.futures.add(pool.submit(() -> {
+                        try {
+                            return parse(file.getKey(), file.getValue(), errors);
+                        } finally {
+                            if (progress != null) {
+                                progress.accept(done.incrementAndGet(), total);
+                            }
+                        }
+                    }));
+                }
+            }
+
+            // merge in input order so later files win
+            ConcurrentHashMap<String, Course> courses = new ConcurrentHashMap<>();
+            Map<File, String> failures = new LinkedHashMap<>();
+            int i = 0;
+            for (File file : this.files.keySet()) {
+                if (this.cancelled) {
+                    return null;
+                }
+                List<Deadline> deadlines;
+                try {
+                    deadlines = this.futures.get(i++).get();
+                } catch (ExecutionException e) {
+                    Log.error("[ImportPipeline] Error when loading " + file, e.getCause());
+                    failures.put(file, e.getCause().getMessage());
+                    continue;
+                }
+                if (errors.containsKey(file)) {
+                    failures.put(file, errors.get(file));
+                }
+                for (Deadline d : deadlines) {
+                    courses.computeIfAbsent(d.getCourseName(), Course::new).addDeadline(d);
+                }
+            }
+            if (this.cancelled) {
+                return null;
+            }
+            List<Deadline> merged = new ArrayList<>();
+            for (Course c : courses.values()) {
+                merged.addAll(c.getDeadlinesView().values());
+            }
+            return new Result(courses, merged, Collections.unmodifiableMap(failures));
+        } catch (InterruptedException | CancellationException e) {
+            Log.debug("DEBUG: [ImportPipeline] import cancelled");
+            return null;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * This method stops an import. Files that are not being parsed yet are not
+     * parsed at all, the threads parsing the other files are interrupted, and
+     * run returns null without waiting for them.
+     *
+     * @requires None
+     * @modifies futures
+     * @effects cancel the import
+     */
+    public void cancel() {
+        synchronized (this.futures) {
+            this.cancelled = true;
+            for (Future<List<Deadline>> future : this.futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * This method parses a single file
+     *
+     * @param file the file
+     * @param extension the parser extension
+     * @param errors receives the error message of a file that could only be read in part
+     * @requires file != null, errors != null
+     * @modifies errors
+     * @effects read the file
+     * @return the deadlines in the file
+     * @throws IOException if the file cannot be opened or parsed
+     */
+    private static List<Deadline> parse(File file, String extension, Map<File, String> errors)
+            throws IOException {
+        List<Deadline> deadlines = new ArrayList<>();
+        Load load = new Load(deadlines::addAll, file);
+        boolean result;
+        switch (extension.toUpperCase(Locale.ENGLISH)) {
+            case "ICS":
+                result = load.Ics();
+                break;
+            case "CSV":
+            case "TXT":
+                result = load.Csv();
+                break;
+            default:
+                result = load.Json();
+        }
+        if (!result && deadlines.isEmpty()) {
+            throw new IOException(load.getErrMsg());
+        } else if (!result) {
+            errors.put(file, String.valueOf(load.getErrMsg()));
+        }
+        return deadlines;
+    }
+}
@@ -2,25 +2,31 @@ package localParser;
 
 import com.sun.istack.internal.NotNull;
 import main.controller.AbstractController;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import main.viewer.Log;
 import biweekly.Biweekly;
 import biweekly.ICalendar;
 import biweekly.component.VEvent;
+import model.CalendarWrapper;
 import model.Deadline;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This class loads data from local files
  */
 public class Load extends Parser {
-    private AbstractController parent;
+    /** the number of deadlines handed to the controller at once */
+    static final int BATCH_SIZE = 512;
+    private Consumer<List<Deadline>> sink;
     private Reader reader;
+    private File file;
 
     /**
      * Constructor
@@ -31,12 +37,61 @@ public class Load extends Parser {
      * @effects create a LocalParser.Load object
      */
     public Load(@NotNull AbstractController parent, Reader file) {
-        this.parent = parent;
+        this(parent::addDeadlines, file);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param sink receives each batch of loaded deadlines; the list is reused afterwards
+     * @param file the IO reader that will be load from.
+     * @requires sink != null
+     * @modifies this.sink, this.reader
+     * @effects create a LocalParser.Load object that does not touch any controller
+     */
+    public Load(@NotNull Consumer<List<Deadline>> sink, Reader file) {
+        this.sink = sink;
         this.reader = file;
     }
 
     /**
-     * This method would save data to a local JSON file.
+     * Constructor
+     *
+     * @param parent the controller that receives the loaded deadlines
+     * @param file the local file that will be load from.
+     * @requires parent != null, file != null
+     * @modifies this.sink, this.file
+     * @effects create a LocalParser.Load object that opens the file when it is read
+     */
+    public Load(@NotNull AbstractController parent, File file) {
+        this(parent::addDeadlines, file);
+    }
+
+    /**
+     * Constructor
+     *
+     * Loading from a file rather than a reader lets Csv() parse the file bytes
+     * directly without decoding every line.
+     *
+     * @param sink receives each batch of loaded deadlines; the list is reused afterwards
+     * @param file the local file that will be load from.
+     * @requires sink != null, file != null
+     * @modifies this.sink, this.file
+     * @effects create a LocalParser.Load object that opens the file when it is read
+     */
+    public Load(@NotNull Consumer<List<Deadline>> sink, File file) {
+        this.sink = sink;
+        this.file = file;
+    }
+
+    /**
+     * This method would load data from a local JSON file.
+     *
+     * The file is read as a stream, so only the deadline being read and the
+     * current batch are held in memory. Deadlines are handed to the controller
+     * every BATCH_SIZE entries. If the file turns out to be malformed, the
+     * batches handed over before the error stay imported, the current batch is
+     * dropped, and errMsg says how many deadlines were imported.
      *
      * @requires file != null
      * @modifies None
@@ -45,59 +100,48 @@ public class Load extends Parser {
      */
     @Override
     public synchronized boolean Json() {
-        // Read the JSON file
-        JsonElement root;
-        try {
-            root = new JsonParser().parse(this.reader);
-        } catch (Exception e) {
-            e.printStackTrace();
-            errMsg = e.getMessage();
+        if (!this.openFile()) {
             return false;
         }
+        JsonReader json = new JsonReader(this.reader);
+        json.setLenient(true);
+        List<Deadline> batch = new ArrayList<>(BATCH_SIZE);
         boolean success = false;
         errMsg = "File is empty.";
         int i = 1;
-        for (Map.Entry<String, JsonElement> course : root.getAsJsonObject().entrySet()) {
-            // iterate through each course
-            String courseName = course.getKey();
-            for (Map.Entry<String, JsonElement> deadline : course.getValue().getAsJsonObject().entrySet()) {
-                String deadlineName = deadline.getKey();
-                Integer year = null, month = null, date = null, hour = null, minute = null;
-                String status = null, link = "";
-                for (Map.Entry<String, JsonElement> entry : deadline.getValue().getAsJsonObject().entrySet()) {
-                    switch (entry.getKey()) {
-                        case "year":
-                            year = entry.getValue().getAsInt();
-                            break;
-                        case "month":
-                            month = entry.getValue().getAsInt();
-                            break;
-                        case "day":
-                        case "date":
-                            date = entry.getValue().getAsInt();
-                            break;
-                        case "hour":
-                            hour = entry.getValue().getAsInt();
-                            break;
-                        case "minute":
-                            minute = entry.getValue().getAsInt();
-                            break;
-                        case "status":
-                            status = entry.getValue().getAsString();
-                            break;
-                        case "link":
-                            link = entry.getValue().getAsString();
-                            break;
+        int imported = 0;
+        try {
+            json.beginObject();
+            while (json.hasNext()) {
+                // iterate through each course
+                String courseName = json.nextName();
+                json.beginObject();
+                while (json.hasNext()) {
+                    String deadlineName = json.nextName();
+                    Deadline deadline = this.readJsonDeadline(json, courseName, deadlineName);
+                    if (deadline == null) {
+                        errMsg = "Unrecognizable file format on line " + i;
+                    } else {
+                        batch.add(deadline);
+                        success = true;
+                        if (batch.size() >= BATCH_SIZE) {
+                            imported += batch.size();
+                            this.flush(batch);
+                        }
                     }
+                    i++;
                 }
-                if (year == null || month == null || date == null || hour == null || minute == null) {
-                    errMsg = "Unrecognizable file format on line " + i;
-                } else {
-                    parent.addDeadline(courseName, deadlineName, year, month, date, hour, minute, status, link); // TODO status and link
-                    success = true;
-                }
-                i++;
+                json.endObject();
+            }
+            json.endObject();
+            this.flush(batch);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            Log.error("[Load] Error when reading JSON file", e);
+            errMsg = e.getMessage();
+            if (imported > 0) {
+                errMsg += " (" + imported + " deadlines before line " + i + " were imported)";
             }
+            success = false;
         }
         try {
             this.reader.close();
@@ -106,9 +150,120 @@ public class Load extends Parser {
         }
         return success;
     }
+
+    /**
+     * This method reads a single deadline object from a JSON stream.
+     *
+     * @param json the JSON stream, positioned at the start of a deadline object
+     * @param courseName the course name
+     * @param deadlineName the deadline name
+     * @requires json != null
+     * @modifies json
+     * @effects consume the deadline object from the stream
+     * @return the deadline, or null if a field is missing or the date is invalid
+     * @throws IOException if the stream cannot be read or is malformed
+     */
+    private Deadline readJsonDeadline(JsonReader json, String courseName, String deadlineName)
+            throws IOException {
+        int year = 0, month = 0, date = 0, hour = 0, minute = 0;
+        int found = 0;
+        String status = null, link = "";
+        json.beginObject();
+        while (json.hasNext()) {
+            String key = json.nextName();
+            if (json.peek() == JsonToken.NULL) {
+                json.nextNull();
+                continue;
+            }
+            switch (key) {
+                case "year":
+                    year = json.nextInt();
+                    found |= 1;
+                    break;
+                case "month":
+                    month = json.nextInt();
+                    found |= 2;
+                    break;
+                case "day":
+                case "date":
+                    date = json.nextInt();
+                    found |= 4;
+                    break;
+                case "hour":
+                    hour = json.nextInt();
+                    found |= 8;
+                    break;
+                case "minute":
+                    minute = json.nextInt();
+                    found |= 16;
+                    break;
+                case "status":
+                    status = json.nextString();
+                    break;
+                case "link":
+                    link = json.nextString();
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+        json.endObject();
+        if (found != 31) {
+            return null;
+        }
+        try {
+            return new Deadline(year, month, date, hour, minute, deadlineName, courseName, status, link);
+        } catch (CalendarWrapper.CalendarFormatException e) {
+            Log.error("[Load] Due date format not correct: ", e);
+            return null;
+        }
+    }
+
+    /**
+     * This method opens the local file as a UTF-8 reader if this parser was
+     * created with a file instead of a reader.
+     *
+     * @requires None
+     * @modifies this.reader
+     * @effects open the file
+     * @return false if the file could not be opened
+     */
+    private boolean openFile() {
+        if (this.reader != null || this.file == null) {
+            return true;
+        }
+        try {
+            this.reader = new BufferedReader(new InputStreamReader(
+                    new FileInputStream(this.file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            Log.error("[Load] Error when opening " + this.file, e);
+            errMsg = e.getMessage();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method hands a batch of deadlines to the sink and empties it.
+     *
+     * @param batch the deadlines read so far
+     * @requires batch != null
+     * @modifies batch
+     * @effects hand every deadline in batch to the sink
+     */
+    private void flush(List<Deadline> batch) {
+        if (!batch.isEmpty()) {
+            this.sink.accept(batch);
+            batch.clear();
+        }
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public synchronized boolean Ics() {
+        if (!this.openFile()) {
+            return false;
+        }
         List<ICalendar> icals;
         try {
             icals = Biweekly.parse(this.reader).all();
@@ -118,6 +273,7 @@ public class Load extends Parser {
             return false;
         }
 
+        List<Deadline> batch = new ArrayList<>(BATCH_SIZE);
         for (ICalendar ical: icals) {
             List<VEvent> events = ical.getEvents();
             for (VEvent event: events) {
@@ -148,9 +304,18 @@ public class Load extends Parser {
                     status = Deadline.STATUS.DEFAULT;
                     link = "";
                 }
-                parent.addDeadline(courseName, deadlineName, year, month, day, hour, minute, status, link);
+                try {
+                    batch.add(new Deadline(year, month, day, hour, minute, deadlineName, courseName, status, link));
+                } catch (CalendarWrapper.CalendarFormatException e) {
+                    Log.error("[Load] Due date format not correct: ", e);
+                    continue;
+                }
+                if (batch.size() >= BATCH_SIZE) {
+                    this.flush(batch);
+                }
             }
         }
+        this.flush(batch);
 
         try {
             this.reader.close();
@@ -170,10 +335,17 @@ public class Load extends Parser {
      */
     @Override
     public synchronized boolean Csv() {
-        if (this.reader == null) {
+        if (this.reader == null && this.file != null && CsvFileReader.canRead(this.file)) {
+            CsvFileReader csv = new CsvFileReader(this.file, BATCH_SIZE);
+            boolean result = csv.read(this.sink);
+            errMsg = csv.getErrMsg();
+            return result;
+        }
+        if (!this.openFile() || this.reader == null) {
             return false;
         }
         BufferedReader reader = new BufferedReader(this.reader);
+        List<Deadline> batch = new ArrayList<>(BATCH_SIZE);
         String str;
         int i = 0;
         while (true) {
@@ -182,6 +354,7 @@ public class Load extends Parser {
             } catch (IOException e) {
                 e.printStackTrace();
                 errMsg = e.getMessage();
+                this.flush(batch);
                 return false;
             }
             if (i == 0) {
@@ -207,14 +380,19 @@ public class Load extends Parser {
                     if (parts.length == 9) {
                         link = parts[8];
                     }
-                    parent.addDeadline(courseName, deadlineName, year, month, date, hour, minute, status, link);
-                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    batch.add(new Deadline(year, month, date, hour, minute, deadlineName, courseName, status, link));
+                } catch (NumberFormatException | IndexOutOfBoundsException
+                        | CalendarWrapper.CalendarFormatException e) {
                     Log.error("Error when reading csv file", e);
                 }
+                if (batch.size() >= BATCH_SIZE) {
+                    this.flush(batch);
+                }
             } else {
                 break;
             }
         }
+        this.flush(batch);
 
         try {
             this.reader.close();
@@ -18,7 +18,7 @@ public abstract class Parser {
                     "Pure Text (*.txt)",
                     "Comma-Separated Values (*.csv)",
                     "Universal Calendar Format File (*.ics)"};
-    static String errMsg = "";
+    String errMsg = "";
 
     /**
      * This method would save data to a local JSON file.
@@ -50,6 +50,16 @@ public abstract class Parser {
      */
     public abstract boolean Csv();
 
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the error message of the last failed operation of this parser
+     */
+    public String getErrMsg() {
+        return this.errMsg;
+    }
+
     /**
      * This function generates a new Thread running the parser
      *
@@ -85,9 +95,9 @@ public abstract class Parser {
                             ((GUIController) parent).getFrame().getText("saving_to") :
                             ((GUIController) parent).getFrame().getText("loading_from");
                     ((GUIController) parent).notification(parserType,
-                            ((!(errMsg == null) && !errMsg.equals("")) ?
+                            ((!(parser.errMsg == null) && !parser.errMsg.equals("")) ?
                                     ((GUIController) parent).getFrame().getText("error_code")
-                                    : "") + " " + errMsg, "");
+                                    : "") + " " + parser.errMsg, "");
 
                 }
             }
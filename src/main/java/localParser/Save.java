@@ -5,14 +5,19 @@ import biweekly.ICalendar;
 import biweekly.component.VEvent;
 import biweekly.property.Summary;
 import biweekly.util.Duration;
+import com.google.gson.stream.JsonWriter;
 import com.sun.istack.internal.NotNull;
+import main.viewer.Log;
 import model.CalendarWrapper;
 import model.Course;
 import model.Deadline;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.Date;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -20,12 +25,15 @@ import java.util.concurrent.ConcurrentHashMap;
  * This class saves data to local files
  */
 public class Save extends Parser {
+    private Writer file;
     private PrintWriter writer;
 
     /**
      * Constructor
      *
-     * @param allCourses a map to store every course object with its name
+     * @param allCourses a map to store every course object with its name; it is
+     *                   read on the parser thread, so pass a copy that nothing
+     *                   else changes
      * @param file the IO writer that will be saved to / load from.
      * @requires allCourses != null
      * @modifies this.allCourses
@@ -33,12 +41,35 @@ public class Save extends Parser {
      */
     public Save(ConcurrentHashMap<String, Course> allCourses, @NotNull Writer file) {
         this.allCourses = allCourses;
+        this.file = file;
         this.writer = new PrintWriter(file);
     }
 
+    /**
+     * This method copies every course of a map, so the copy can be handed to a
+     * Save that runs on another thread. Deadlines are immutable and shared.
+     *
+     * @param allCourses the courses to copy
+     * @requires allCourses != null and allCourses is not modified during the call
+     * @modifies None
+     * @effects None
+     * @return a copy of allCourses whose courses are copies as well
+     */
+    public static ConcurrentHashMap<String, Course> copyOf(Map<String, Course> allCourses) {
+        ConcurrentHashMap<String, Course> copy = new ConcurrentHashMap<>(
+                Math.max(16, allCourses.size() * 4 / 3 + 1));
+        for (Map.Entry<String, Course> course : allCourses.entrySet()) {
+            copy.put(course.getKey(), new Course(course.getValue()));
+        }
+        return copy;
+    }
+
     /**
      * This method would save data to a local JSON file.
      *
+     * Deadlines are streamed to the file through a JsonWriter, which escapes
+     * course names, deadline names, statuses and links.
+     *
      * @requires file != null
      * @modifies None
      * @effects save to local file
@@ -46,44 +77,38 @@ public class Save extends Parser {
      */
     @Override
     public synchronized boolean Json() {
-        writer.println("{");
-        int courseCount = 0;
-        for (String courseName: this.allCourses.keySet()) {
-            writer.println("\t\"" + courseName + "\": {");
-            TreeMap<String, Deadline> deadlines = this.allCourses.get(courseName).getDeadlines();
-            int deadlineCount = 0;
-            for (String deadlineName : deadlines.keySet()) {
-                writer.println("\t\t\"" + deadlineName + "\": {");
-                writer.println("\t\t\t\"year\": " + deadlines.get(deadlineName).getYear() + ",");
-                writer.println("\t\t\t\"month\": " + deadlines.get(deadlineName).getMonth() + ",");
-                writer.println("\t\t\t\"day\": " + deadlines.get(deadlineName).getDay() + ",");
-                writer.println("\t\t\t\"hour\": " + deadlines.get(deadlineName).getHour() + ",");
-                writer.print("\t\t\t\"minute\": " + deadlines.get(deadlineName).getMinute());
-                if (deadlines.get(deadlineName).getStatus() != null) {
-                    writer.println(",");
-                    writer.print("\t\t\t\"status\": \"" + deadlines.get(deadlineName).getStatus() + "\"");
-                }
-                if (!deadlines.get(deadlineName).getLink().equals("")) {
-                    writer.println(",");
-                    writer.print("\t\t\t\"link\": \"" + deadlines.get(deadlineName).getLink() + "\"");
+        try (JsonWriter json = new JsonWriter(new BufferedWriter(this.file))) {
+            json.setIndent("\t");
+            json.beginObject();
+            for (Map.Entry<String, Course> course : this.allCourses.entrySet()) {
+                json.name(course.getKey());
+                json.beginObject();
+                for (Map.Entry<String, Deadline> entry : course.getValue().getDeadlinesView().entrySet()) {
+                    Deadline deadline = entry.getValue();
+                    json.name(entry.getKey());
+                    json.beginObject();
+                    json.name("year").value(deadline.getYear());
+                    json.name("month").value(deadline.getMonth());
+                    json.name("day").value(deadline.getDay());
+                    json.name("hour").value(deadline.getHour());
+                    json.name("minute").value(deadline.getMinute());
+                    if (deadline.getStatus() != null) {
+                        json.name("status").value(deadline.getStatus());
+                    }
+                    String link = deadline.getLink();
+                    if (link != null && !link.equals("")) {
+                        json.name("link").value(link);
+                    }
+                    json.endObject();
                 }
-                writer.println();
-                if (deadlineCount != deadlines.size() - 1) {
-                    writer.println("\t\t},");
-                } else {
-                    writer.println("\t\t}");
-                }
-                deadlineCount++;
-            }
-            if (courseCount != this.allCourses.size() - 1) {
-                writer.println("\t},");
-            } else {
-                writer.println("\t}");
+                json.endObject();
             }
-            courseCount++;
+            json.endObject();
+        } catch (IOException e) {
+            Log.error("[Save] Error when writing JSON file", e);
+            errMsg = e.getMessage();
+            return false;
         }
-        writer.println("}");
-        writer.close();
         return true;
     }
 
@@ -1,13 +1,12 @@
 package main.controller;
 
-import model.CalendarWrapper;
 import model.Course;
 import model.Deadline;
+import model.EpochMinute;
+import model.UpcomingDeadlines;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -18,8 +17,8 @@ public abstract class AbstractController implements Operations {
     protected ConcurrentHashMap<String, Course> allCourses;
     /** ignoredCoursesSet: a list to store every course that should be ignored. */
     protected HashSet<String> ignoredCoursesSet;
-    /** allDeadlines: a sorted set to store every deadline based on their dates. */
-    protected TreeSet<Deadline> allDeadlines;
+    /** upcomingDeadlines: the unfinished deadlines of courses that are not ignored, closest first. */
+    protected UpcomingDeadlines upcomingDeadlines;
     /** settings: program settings */
     protected Settings settings;
 
@@ -54,36 +53,32 @@ public abstract class AbstractController implements Operations {
     }
 
     /**
-     * This method returns the closest deadline
-     * @requires None
-     * @modifies None
-     * @effects return the closest deadline
-     * @return the closest deadline
+     * This method would add a batch of deadlines. If a course doesn't exist,
+     * then such course instance will be created
+     *
+     * @param deadlines the deadlines that are about to be added
+     * @requires deadlines != null
+     * @modifies a list that stores every course and their information
+     * @effects add every deadline in deadlines; the collection is not retained
      */
-    public Deadline getClosestDeadline() {
-        for (Deadline d: allDeadlines) {
-            if (d.isAfter(CalendarWrapper.now()) && !this.isIgnoring(d.getCourseName()) && !d.getStatus().equals(Deadline.STATUS.FINISHED)) {
-                return d;
-            }
+    @Override
+    public void addDeadlines(Collection<Deadline> deadlines) {
+        for (Deadline d : deadlines) {
+            this.addDeadline(d.getCourseName(), d.getName(), d.getYear(), d.getMonth(),
+                    d.getDay(), d.getHour(), d.getMinute(), d.getStatus(), d.getLink());
         }
-        return null;
     }
 
     /**
-     * This method would go through the AllCourse map and add all deadlines to the
-     * allDeadlines set
+     * This method returns the closest deadline that is not finished and not in an
+     * ignored course, from the head of upcomingDeadlines
      * @requires None
-     * @modifies allDeadlines
-     * @effects update the AllDeadline set
+     * @modifies upcomingDeadlines
+     * @effects drop the deadlines that are already due from upcomingDeadlines
+     * @return the closest deadline, null if there is none
      */
-    protected void updateDeadlineSet() {
-        for (String i : this.allCourses.keySet()) {
-            TreeMap<String, Deadline> dueMap = this.allCourses.get(i).getDeadlines();
-            List<String> dueList = this.allCourses.get(i).getReversedSortedDeadlines();
-            for (String j : dueList) {
-                this.allDeadlines.add(dueMap.get(j));
-            }
-        }
+    public Deadline getClosestDeadline() {
+        return upcomingDeadlines.peek(EpochMinute.currentEpochMinute());
     }
 
     /**
@@ -3,8 +3,11 @@ package main.controller;
 import model.CalendarWrapper;
 import model.Course;
 import model.Deadline;
+import model.DeadlineIndex;
+import model.UpcomingDeadlines;
 import main.viewer.Log;
 import webService.SubmittyAccess;
+import webService.SubmittyScraper;
 import javafx.util.Pair;
 
 import javax.swing.JDialog;
@@ -21,7 +24,6 @@ import java.io.InputStreamReader;
 import java.util.HashSet;
 import java.util.List;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.System.exit;
@@ -31,16 +33,20 @@ import static java.lang.System.exit;
  * This class uses System.out as the View
  */
 public class CommandLineController extends AbstractController implements Operations {
+    /** allDeadlines: every deadline indexed by due time ({@link Deadline#DUE_ORDER}) and by course and name. */
+    private DeadlineIndex allDeadlines;
+
     /**
      * Default Constructor
      * @requires None
-     * @modifies ignoredCoursesSet, allCourses, allDeadlines
+     * @modifies ignoredCoursesSet, allCourses, allDeadlines, upcomingDeadlines
      * @effects create a CommandLineController instance
      */
     public CommandLineController() {
         ignoredCoursesSet = new HashSet<>();
         allCourses = new ConcurrentHashMap<>();
-        allDeadlines = new TreeSet<>();
+        allDeadlines = new DeadlineIndex();
+        upcomingDeadlines = new UpcomingDeadlines();
     }
 
     /**
@@ -224,15 +230,15 @@ public class CommandLineController extends AbstractController implements Operati
      */
     @Override
     public void access(String id, String password) {
-        SubmittyAccess sa = null;
+        SubmittyScraper sa = null;
         try {
-            sa = new SubmittyAccess(id, password, null);
+            sa = SubmittyScraper.create(id, password, null);
         } catch (RuntimeException e) {
             System.out.println(e.getMessage());
             exit(1);
         }
         sa.login();
-        sa.parser(ignoredCoursesSet);
+        sa.parser(ignoredCoursesSet, null, 1);
         allCourses = sa.getCourseMap();
         sa.close();
     }
@@ -314,6 +320,7 @@ public class CommandLineController extends AbstractController implements Operati
     @Override
     public void addIgnoredCourse(String course) {
         ignoredCoursesSet.add(course);
+        upcomingDeadlines.ignoreCourse(course);
     }
 
     /**
@@ -327,6 +334,7 @@ public class CommandLineController extends AbstractController implements Operati
     @Override
     public void removeIgnoredCourse(String course) {
         ignoredCoursesSet.remove(course);
+        upcomingDeadlines.unignoreCourse(course);
     }
 
     /**
@@ -355,12 +363,32 @@ public class CommandLineController extends AbstractController implements Operati
         }
         System.out.println("\n\nSUMMARY");
         System.out.println("========================================================");
-        for (Deadline d: this.allDeadlines) {
+        List<Deadline> summary = this.allDeadlines.getAll();
+        summary.sort(Deadline.remainingTimeOrder());
+        for (Deadline d: summary) {
             System.out.printf("%-"+maxlen+"s", d.getCourseName().trim() + " " + d.getName().trim() + ":   ");
             System.out.println(d.getRemainingText(now));
         }
     }
 
+    /**
+     * This method would go through the AllCourse map and add all deadlines to the
+     * allDeadlines set
+     * @requires None
+     * @modifies allDeadlines, upcomingDeadlines
+     * @effects update the AllDeadline set
+     */
+    private void updateDeadlineSet() {
+        for (String i : this.allCourses.keySet()) {
+            TreeMap<String, Deadline> dueMap = this.allCourses.get(i).getDeadlines();
+            List<String> dueList = this.allCourses.get(i).getReversedSortedDeadlines();
+            for (String j : dueList) {
+                this.allDeadlines.put(dueMap.get(j));
+                this.upcomingDeadlines.put(dueMap.get(j));
+            }
+        }
+    }
+
     /**
      * The main function to run the command line version of main
      * @param args command line arguments
@@ -3,21 +3,31 @@ package main.controller;
 import model.CalendarWrapper;
 import model.Course;
 import model.Deadline;
+import model.UpcomingDeadlines;
 import main.viewer.Log;
 import main.viewer.textFormat.ViewerFont;
 import main.viewer.util.DeadlineTimer;
 import main.viewer.GUIViewer;
 import main.viewer.util.LoadingDialog;
+import localParser.ImportPipeline;
 import webService.SubmittyAccess;
+import webService.SubmittyScraper;
+import webService.SyncState;
 
 import java.awt.Color;
 import java.awt.Font;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.*;
 
@@ -28,21 +38,24 @@ import static main.viewer.Log.*;
  */
 public class GUIController extends AbstractController implements Operations {
     public static final String VERSION = "1.0";
+    /** the maximum number of Submitty course pages fetched at the same time */
+    public static final int SUBMITTY_DRIVERS = 4;
     private GUIViewer frame;
     private String settingPath;
+    private final SyncState syncState = new SyncState();
 
     /**
      * Default Constructor
      *
      * @requires None
-     * @modifies this, ignoredCoursesSet, allCourses, allDeadlines
+     * @modifies this, ignoredCoursesSet, allCourses, upcomingDeadlines
      * @effects create a CommandLineController instance
      */
     public GUIController() {
         this.frame = new GUIViewer(this);
         // initialize variables
         this.allCourses = new ConcurrentHashMap<>();
-        this.allDeadlines = new TreeSet<>();
+        this.upcomingDeadlines = new UpcomingDeadlines();
         this.ignoredCoursesSet = new HashSet<>();
         // load basic settings
         this.settings = new Settings();
@@ -90,9 +103,8 @@ public class GUIController extends AbstractController implements Operations {
     @Override
     public void run(String[] args) {
         this.frame.setUp(false);
-        // load deadline information from saved files
-        this.loadFromLocal(null, "JSON", false);
-        this.frame.run(args);
+        // load deadline information from saved files, then show the frame
+        this.loadFromLocal(null, "JSON", false, () -> this.frame.run(args));
     }
 
     /**
@@ -235,11 +247,11 @@ public class GUIController extends AbstractController implements Operations {
     /**
      * This function starts or stops all timers
      * @param start if the timers will be started
-     * @modifies this.getFrame().getAllTimersMap()
+     * @modifies this.getFrame().getTimers()
      * @effects start or stop the timers
      */
     public void setTimerStatus(Boolean start) {
-        for (DeadlineTimer timer: this.getFrame().getAllTimersMap().values()) {
+        for (DeadlineTimer timer: this.getFrame().getTimers().getAll()) {
             if (start) {
                 timer.start();
             } else {
@@ -386,28 +398,155 @@ public class GUIController extends AbstractController implements Operations {
      * @effects read from local file
      */
     public void loadFromLocal(File file, String extension, boolean showDialog) {
-        if (this.settings.isSaveLocalUnavailable()) {
-            return;
-        }
+        this.loadFromLocal(file, extension, showDialog, null);
+    }
+
+    /**
+     * This method would read data from a previous saved local file. The file is
+     * parsed on a background thread and its deadlines are added on the event
+     * dispatch thread.
+     *
+     * @param file the file that will be load from. enter null if you'd like to create
+     *             a new file by default
+     * @param extension the file extension
+     * @param showDialog if the program should show a dialog indicator
+     * @param then run on the event dispatch thread once the deadlines are added,
+     *             or when there is nothing to load; may be null
+     * @requires called on the event dispatch thread
+     * @modifies a list that stores every course and their information
+     * @effects read from local file
+     */
+    private void loadFromLocal(File file, String extension, boolean showDialog, Runnable then) {
         if (file == null)
             file = new File(this.settingPath + "deadlines.json");
-        if (file.exists() && !file.isDirectory()) {
-            Reader fileReader = null;
-            try {
-                 fileReader = new FileReader(file);
-            } catch (IOException e) {
-                Log.error("[MainController] error when loading deadlines: ", e);
-                this.alert("<html>" + this.getFrame().getText("loading_from") + "<br>"
-                        + this.getFrame().getText("error_code") + e.getMessage());
-                return;
-            }
-            localParser.Parser load = new localParser.Load(this, fileReader);
-            Thread thread = localParser.Parser.getParserThread(load, extension, this, showDialog);
-            thread.run();
+        if (this.settings.isSaveLocalUnavailable()) {
+            Log.debug("DEBUG: [Load] saving to local files is unavailable");
+        } else if (file.exists() && !file.isDirectory()) {
+            this.importFiles(Collections.singletonMap(file, extension), showDialog, then);
+            return;
         } else {
             Log.debug("DEBUG: [Load] Error when loading settings from local: " +
                     "file.exists() = " + file.exists() + ", file.isDirectory() = " + file.isDirectory());
         }
+        if (then != null) {
+            then.run();
+        }
+    }
+
+    /**
+     * This method would read data from several previous saved local files at once.
+     * The files are parsed in parallel and every deadline is added in one batch
+     * after all of them are read. A deadline in a later file replaces a deadline
+     * with the same course and name in an earlier one.
+     *
+     * @param files the files that will be load from, in order
+     * @param showDialog if the program should show a dialog indicator
+     * @requires files != null
+     * @modifies a list that stores every course and their information
+     * @effects read from local files
+     */
+    public void loadFromLocal(List<File> files, boolean showDialog) {
+        if (this.settings.isSaveLocalUnavailable()) {
+            return;
+        }
+        Map<File, String> toLoad = new LinkedHashMap<>();
+        for (File file : files) {
+            if (file.exists() && !file.isDirectory()) {
+                toLoad.put(file, ImportPipeline.extensionOf(file, "JSON"));
+            } else {
+                Log.debug("DEBUG: [Load] skipping " + file + ": file.exists() = " + file.exists()
+                        + ", file.isDirectory() = " + file.isDirectory());
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        this.importFiles(toLoad, showDialog, null);
+    }
+
+    /**
+     * This method parses files through an ImportPipeline on a background thread
+     * and adds their deadlines in one batch on the event dispatch thread. With a
+     * dialog, the progress is shown in a LoadingDialog, and closing it cancels
+     * the import.
+     *
+     * @param toLoad the files that will be load from, in order, each mapped to its extension
+     * @param showDialog if the program should show a dialog indicator
+     * @param then run on the event dispatch thread once the deadlines are added
+     *             or the import is cancelled; may be null
+     * @requires toLoad != null, called on the event dispatch thread
+     * @modifies a list that stores every course and their information
+     * @effects read from local files
+     */
+    private void importFiles(Map<File, String> toLoad, boolean showDialog, Runnable then) {
+        ImportPipeline pipeline = new ImportPipeline(toLoad);
+        if (!showDialog) {
+            Thread importThread = new Thread(() -> {
+                ImportPipeline.Result result = pipeline.run(null);
+                SwingUtilities.invokeLater(() -> {
+                    this.commitImport(result, false);
+                    if (then != null) {
+                        then.run();
+                    }
+                });
+            }, "deadline-import-main");
+            importThread.setDaemon(true);
+            importThread.start();
+            return;
+        }
+
+        LoadingDialog dialog = new LoadingDialog(this, this.getFrame().getText("file_loading"),
+                String.format(this.getFrame().getText("file_loading_progress"), 0, toLoad.size()));
+        AtomicReference<ImportPipeline.Result> result = new AtomicReference<>();
+        Thread importThread = new Thread(() -> {
+            ImportPipeline.Result r = pipeline.run((done, total) -> SwingUtilities.invokeLater(() ->
+                    dialog.getCurrProgressLabel().setText(
+                            String.format(getFrame().getText("file_loading_progress"), done, total))));
+            result.set(r);
+            SwingUtilities.invokeLater(() -> {
+                dialog.setVisible(false);
+                dialog.dispose();
+            });
+        }, "deadline-import-main");
+        importThread.setDaemon(true);
+        importThread.start();
+        // blocks until the import finishes or the user closes the dialog
+        dialog.run();
+        if (result.get() == null) {
+            Log.debug("DEBUG: [Load] import closed by user");
+            pipeline.cancel();
+            dialog.dispose();
+        } else {
+            this.commitImport(result.get(), true);
+        }
+        if (then != null) {
+            then.run();
+        }
+    }
+
+    /**
+     * This method adds the deadlines of an import to the program in one batch
+     *
+     * @param result the import result, null if it was cancelled
+     * @param showDialog if failures should be shown to the user
+     * @requires None
+     * @modifies a list that stores every course and their information
+     * @effects add every imported deadline
+     */
+    private void commitImport(ImportPipeline.Result result, boolean showDialog) {
+        if (result == null) {
+            return;
+        }
+        if (!result.getDeadlines().isEmpty()) {
+            this.addDeadlines(result.getDeadlines());
+        }
+        if (showDialog) {
+            for (Map.Entry<File, String> failure : result.getFailures().entrySet()) {
+                this.notification(this.getFrame().getText("loading_from"),
+                        this.getFrame().getText("error_code") + " " + failure.getKey().getName()
+                                + ": " + failure.getValue(), "");
+            }
+        }
     }
 
     /**
@@ -454,7 +593,8 @@ public class GUIController extends AbstractController implements Operations {
                         + this.getFrame().getText("error_code") + e.getMessage());
                 return;
             }
-            localParser.Parser save = new localParser.Save(this.allCourses, fileWriter);
+            // the save runs on its own thread, so it writes a copy the controller cannot change
+            localParser.Parser save = new localParser.Save(this.copyAllCourses(), fileWriter);
             Thread thread = localParser.Parser.getParserThread(save, extension, this, showDialog);
             thread.start();
         } else {
@@ -462,6 +602,19 @@ public class GUIController extends AbstractController implements Operations {
         }
     }
 
+    /**
+     * This method copies every course while holding the controller lock, so the
+     * copy is consistent and can be read on another thread while deadlines keep
+     * being added and removed
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a copy of the allCourses map whose courses are copies as well
+     */
+    private synchronized ConcurrentHashMap<String, Course> copyAllCourses() {
+        return localParser.Save.copyOf(this.allCourses);
+    }
+
     /**
      * This method should ask the user to agree with following statement:
      * I acknowledge that this program will not save my username and
@@ -499,17 +652,20 @@ public class GUIController extends AbstractController implements Operations {
     @Override
     public void access(String id, String password) throws SubmittyAccess.LoginFailException {
         LoadingDialog dialog = new LoadingDialog(this);
+        final SyncState.Diff[] syncDiff = {null};
+        final Map<String, Course> scraped = new HashMap<>();
 
         // create a thread to access submitty
         Runnable access = new Runnable() {
             @Override
             public void run() {
-                SubmittyAccess sa = new SubmittyAccess(id, password, dialog.getCurrProgressLabel());
+                SubmittyScraper sa = SubmittyScraper.create(id, password, dialog.getCurrProgressLabel());
                 sa.login();
                 Log.debug("DEBUG: [access] login succeeded.");
-                sa.parser(ignoredCoursesSet);
+                sa.parser(ignoredCoursesSet, syncState, SUBMITTY_DRIVERS);
                 Log.debug("DEBUG: [access] parser succeeded.");
                 ConcurrentHashMap<String, Course> newCourses = sa.getCourseMap();
+                SyncState.Diff diff = sa.getDiff();
                 sa.close();
                 Log.debug("DEBUG: [access] getCourseMap succeeded.");
                 boolean shouldAdd = true;
@@ -520,25 +676,15 @@ public class GUIController extends AbstractController implements Operations {
                     }
                 }
                 if (!shouldAdd) {
+                    // the diff is dropped, so the next refresh has to start over
+                    syncState.reset();
                     dialog.dispose();
                     Log.debug("DEBUG: [access] closing thread");
                     return;
                 }
-                for (String fullCourseName : newCourses.keySet()) {
-                    Log.debug("DEBUG: [access] handling course " + fullCourseName);
-                    String courseName = fullCourseName.replace("Fall 2019     ", "").trim();
-                    synchronized (this) {
-                        if (allCourses.containsKey(courseName)) {
-                            assert (allCourses.get(courseName) != null);
-                            assert (newCourses.get(fullCourseName) != null);
-                            allCourses.get(courseName).append(newCourses.get(fullCourseName));
-                        } else {
-                            assert (newCourses.get(fullCourseName) != null);
-                            allCourses.put(courseName, newCourses.get(fullCourseName));
-                        }
-                    }
-                }
-                Log.debug("DEBUG: [access] handling courses succeeded.");
+                syncDiff[0] = diff;
+                scraped.putAll(newCourses);
+                Log.debug("DEBUG: [access] handling courses succeeded: " + diff);
                 if (newCourses.isEmpty()) {
                     alert(getFrame().getText("no_deadline"));
                 }
@@ -586,12 +732,60 @@ public class GUIController extends AbstractController implements Operations {
         dialog.run();
         if (exceptionFromAccess[0] == null) {
             Log.debug("DEBUG: [access] login succeed. Dialog closed.");
+            if (syncDiff[0] != null) {
+                this.applySyncDiff(scraped, syncDiff[0]);
+            }
         } else {
             Log.debug("DEBUG [MainThreadAccess] success = false");
             throw exceptionFromAccess[0];
         }
     }
 
+    /**
+     * This method applies a Submitty refresh. Like a full import, every scraped
+     * deadline that is missing or different here is added or replaced, including
+     * ones the user deleted or edited since the last refresh. Deadlines that
+     * disappeared from Submitty since the last refresh are removed, and deadlines
+     * the user added are kept. Deadlines that match are not touched.
+     *
+     * @param scraped every course of the refresh, by full course name
+     * @param refresh the difference returned by the refresh
+     * @requires scraped != null, refresh != null
+     * @modifies a list that stores every course and their information
+     * @effects add, replace and remove deadlines
+     */
+    private void applySyncDiff(Map<String, Course> scraped, SyncState.Diff refresh) {
+        SyncState.Diff diff;
+        synchronized (this) {
+            diff = SyncState.reconcile(this.allCourses, scraped, refresh);
+        }
+        Log.debug("DEBUG: [access] applying " + diff);
+        for (String courseName : diff.getAddedCourses()) {
+            this.allCourses.putIfAbsent(courseName, new Course(courseName));
+        }
+        for (Deadline deadline : diff.getChanged()) {
+            Course c = this.allCourses.get(deadline.getCourseName());
+            Deadline old = (c == null) ? null : c.getDeadlinesView().get(deadline.getName());
+            if (old != null && old.getDueMinute() != deadline.getDueMinute()) {
+                // the old block is on another day, so it has to go first
+                this.removeDeadline(old.getCourseName(), old.getName(), old.getYear(), old.getMonth(), old.getDay());
+            }
+        }
+        List<Deadline> updated = new ArrayList<>(diff.getAdded().size() + diff.getChanged().size());
+        updated.addAll(diff.getAdded());
+        updated.addAll(diff.getChanged());
+        if (!updated.isEmpty()) {
+            this.addDeadlines(updated);
+        }
+        for (Deadline deadline : diff.getRemoved()) {
+            Course c = this.allCourses.get(deadline.getCourseName());
+            if (c != null && c.getDeadlinesView().containsKey(deadline.getName())) {
+                this.removeDeadline(deadline.getCourseName(), deadline.getName(),
+                        deadline.getYear(), deadline.getMonth(), deadline.getDay());
+            }
+        }
+    }
+
     /**
      * This method would add a new deadline to an existing course. If such course
      * doesn't exist, then such course instance will be created
@@ -657,12 +851,49 @@ public class GUIController extends AbstractController implements Operations {
      * @effects None
      */
     public synchronized void addDeadline(Deadline deadline) {
+        this.putDeadline(deadline);
+        this.frame.addDeadlineBlock(deadline);
+        this.frame.updateTrayIcon();
+    }
+
+    /**
+     * This method would add a batch of deadlines. All model changes are applied
+     * under one lock, then the calendar, the side bar and the tray icon are
+     * refreshed once.
+     *
+     * @param deadlines the deadlines that are about to be added
+     * @requires deadlines != null
+     * @modifies a list that stores every course and their information
+     * @effects add every deadline in deadlines; the collection is not retained
+     */
+    @Override
+    public void addDeadlines(Collection<Deadline> deadlines) {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (Deadline deadline : deadlines) {
+                this.putDeadline(deadline);
+            }
+        }
+        this.frame.addDeadlineBlocks(deadlines);
+        this.frame.updateTrayIcon();
+    }
+
+    /**
+     * This method stores a deadline in the model, replacing any deadline with the
+     * same name in the same course
+     *
+     * @param deadline the deadline that is about to be added
+     * @requires Thread.holdsLock(this)
+     * @modifies allCourses, upcomingDeadlines
+     * @effects add the deadline to its course and to upcomingDeadlines
+     */
+    private void putDeadline(Deadline deadline) {
         Course c = this.getCourseByName(deadline.getCourseName());
         c.addDeadline(deadline);
         this.allCourses.put(deadline.getCourseName(), c);
-        this.allDeadlines.add(deadline);
-        this.frame.addDeadlineBlock(deadline);
-        this.frame.updateTrayIcon();
+        this.upcomingDeadlines.put(deadline);
     }
 
     /**
@@ -681,6 +912,7 @@ public class GUIController extends AbstractController implements Operations {
     public synchronized void removeDeadline(String course, String deadlineName, int year, int month, int day) {
         Course c = this.getCourseByName(course);
         c.removeDeadline(deadlineName);
+        this.upcomingDeadlines.remove(course, deadlineName);
         if (!c.getDeadlines().isEmpty()) {
             allCourses.put(course, c);
         } else {
@@ -718,11 +950,8 @@ public class GUIController extends AbstractController implements Operations {
         }
         Log.debug("DEBUG: [GUIController] <" + course + "> is now ignored", ANSI_PURPLE);
         this.ignoredCoursesSet.add(course);
-        for (Map.Entry<String, DeadlineTimer> item: this.frame.getAllTimersMap().entrySet()) {
-            if (item.getKey().startsWith(course)) {
-                item.getValue().stop();
-            }
-        }
+        this.upcomingDeadlines.ignoreCourse(course);
+        this.frame.getTimers().stopCourse(course);
         this.frame.refresh();
     }
 
@@ -739,11 +968,8 @@ public class GUIController extends AbstractController implements Operations {
     public void removeIgnoredCourse(String course) {
         Log.debug("DEBUG: [GUIController] <" + course + "> is no longer ignored", ANSI_CYAN);
         this.ignoredCoursesSet.remove(course);
-        for (Map.Entry<String, DeadlineTimer> item: this.frame.getAllTimersMap().entrySet()) {
-            if (item.getKey().startsWith(course)) {
-                item.getValue().start();
-            }
-        }
+        this.upcomingDeadlines.unignoreCourse(course);
+        this.frame.getTimers().startCourse(course);
         this.frame.refresh();
     }
 }
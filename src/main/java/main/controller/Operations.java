@@ -3,6 +3,7 @@ package main.controller;
 import model.Deadline;
 
 import java.io.File;
+import java.util.Collection;
 
 /**
  * This class defines the gerneral behaviour for the controller
@@ -77,6 +78,17 @@ public interface Operations {
     void addDeadline(String course, String deadlineName, int year, int month,
                      int day, int hour, int minute, String status, String link);
 
+    /**
+     * This method would add a batch of deadlines. If a course doesn't exist,
+     * then such course instance will be created. All deadlines are applied
+     * together and the view, if any, is refreshed once.
+     * @param deadlines the deadlines that are about to be added
+     * @requires deadlines != null
+     * @modifies a list that stores every course and their information
+     * @effects add every deadline in deadlines; the collection is not retained
+     */
+    void addDeadlines(Collection<Deadline> deadlines);
+
     /**
      * This method would remove a deadline from an existing course.
      * @param course the course name
@@ -11,6 +11,8 @@ import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.event.MenuKeyEvent;
 import javax.swing.event.MenuKeyListener;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -178,12 +180,18 @@ public class DeadlineCountdownFactory {
             JFileChooser fileChooser = DeadlineCountdownFactory.createFileChooser("deadlines",
                     parent.getFrame().getTextResource());
             int result;
-            if (type.equals("SAVE"))
+            if (type.equals("SAVE")) {
                 result = fileChooser.showSaveDialog(frame);
-            else
+            } else {
+                fileChooser.setMultiSelectionEnabled(true);
                 result = fileChooser.showOpenDialog(frame);
+            }
 
-            if (result == JFileChooser.APPROVE_OPTION) {
+            if (result == JFileChooser.APPROVE_OPTION && !type.equals("SAVE")
+                    && fileChooser.getSelectedFiles().length > 1) {
+                // several files are imported in parallel, each by its own extension
+                parent.loadFromLocal(Arrays.asList(fileChooser.getSelectedFiles()), true);
+            } else if (result == JFileChooser.APPROVE_OPTION) {
                 // If 'Save/Open' is clicked
                 Pair<File, String> choice = getFileFromFileChooser(fileChooser);
                 if (choice == null) return;
@@ -346,7 +354,9 @@ public class DeadlineCountdownFactory {
 
     /**
      * This function generates the right-click menu for DeadlineBlock and
-     * DeadlineInfoBlock that the user can use the menu to delete a deadline
+     * DeadlineInfoBlock that the user can use the menu to delete a deadline. The
+     * menu reads the deadline of parent when it pops up, so one menu can be shared
+     * by many blocks through a parent whose deadline is set before it is shown
      * @param parent the JComponent that will have the right-click menu
      * @param textColor the color for right click menu text
      * @param backgroundColor the color for right click menu background
@@ -404,24 +414,38 @@ public class DeadlineCountdownFactory {
         JMenuItem exportMenu = new JMenuItem("Export to...  ");
         setMenuItemStyle(exportMenu, textColor, backgroundColor);
         exportMenu.addActionListener(e2 -> parent.export());
+        menu.add(exportMenu);
 
         // open
-        if (parent.getDeadline() != null && parent.getDeadline().getLink() != null) {
-            JMenuItem openMenu = new JMenuItem("Open in browser");
-            setMenuItemStyle(openMenu, textColor, backgroundColor);
-            openMenu.addActionListener(e2 -> Webpage.open(parent.getDeadline().getLink()));
-            menu.add(exportMenu);
-            if (!parent.getDeadline().getLink().equals("")) {
-                menu.add(openMenu);
+        JMenuItem openMenu = new JMenuItem("Open in browser");
+        setMenuItemStyle(openMenu, textColor, backgroundColor);
+        openMenu.addActionListener(e2 -> Webpage.open(parent.getDeadline().getLink()));
+        menu.add(openMenu);
+
+        // the deadline of parent can change while the menu is reused, so the
+        // items depending on it are shown or hidden each time the menu pops up
+        menu.addPopupMenuListener(new PopupMenuListener() {
+            @Override
+            public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+                boolean hasLink = parent.getDeadline() != null && parent.getDeadline().getLink() != null;
+                if (!hasLink) {
+                    Log.debug("[RightClickMenu] error when showing open menu: "
+                            + "parent.getDeadline() = " + (parent.getDeadline() == null));
+                    if (parent.getDeadline() != null) {
+                        Log.debug("[RightClickMenu] error when showing open menu: "
+                                + "parent.getDeadline().getLink() = " + (parent.getDeadline().getLink() == null));
+                    }
+                }
+                exportMenu.setVisible(hasLink);
+                openMenu.setVisible(hasLink && !parent.getDeadline().getLink().equals(""));
             }
-        } else {
-            Log.debug("[RightClickMenu] error when creating open menu: "
-                    + "parent.getDeadline() = " + (parent.getDeadline() == null));
-            if (parent.getDeadline() != null) {
-                Log.debug("[RightClickMenu] error when creating open menu: "
-                        + "parent.getDeadline().getLink() = " + (parent.getDeadline().getLink() == null));
+            @Override
+            public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
             }
-        }
+            @Override
+            public void popupMenuCanceled(PopupMenuEvent e) {
+            }
+        });
 
         menu.setForeground(textColor);
         menu.setBackground(backgroundColor);
@@ -1,6 +1,7 @@
 package main.viewer;
 
 import model.CalendarWrapper;
+import model.Course;
 import model.Deadline;
 import main.controller.GUIController;
 import main.controller.Settings;
@@ -13,6 +14,8 @@ import main.viewer.textFormat.TextFactory;
 import main.viewer.theme.Theme;
 import main.viewer.theme.ThemeFactory;
 import main.viewer.util.DeadlineTimer;
+import main.viewer.util.NotificationScheduler;
+import main.viewer.util.TimerRegistry;
 import main.viewer.util.LoginDialog;
 import webService.SubmittyAccess;
 import javafx.util.Pair;
@@ -37,7 +40,6 @@ import java.awt.event.MouseEvent;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is the View part of the GUI Version of main
@@ -53,7 +55,8 @@ public class GUIViewer extends JFrame {
     private BaseText textFormat;
     private ResourceBundle textResource;
     private Notification notification;
-    private ConcurrentHashMap<String, DeadlineTimer> allTimersMap;
+    private final TimerRegistry timers;
+    private final NotificationScheduler notificationScheduler;
 
     // Display information
     private String username;
@@ -65,7 +68,7 @@ public class GUIViewer extends JFrame {
      *
      * @param parent the controller for main
      * @requires parent != null
-     * @modifies controller, month, year, username, allTimersMap
+     * @modifies controller, month, year, username, timers
      */
     public GUIViewer(GUIController parent) {
         this.controller = parent;
@@ -103,7 +106,8 @@ public class GUIViewer extends JFrame {
         this.username = "";
 
         // create timer
-        this.allTimersMap = new ConcurrentHashMap<>();
+        this.timers = new TimerRegistry();
+        this.notificationScheduler = new NotificationScheduler();
     }
 
     /**
@@ -377,8 +381,9 @@ public class GUIViewer extends JFrame {
                 passwordNeeded = true;
             }
         }
-        // update sideBar and calendar to display all deadlines
-        this.refreshDeadlines();
+        // the controller has already applied the changed deadlines, so only the
+        // username and the empty courses are left to update
+        this.refreshCourses();
 
         if (this.controller.getSettings().isAutoSaveAfterRefresh())
             this.controller.saveToLocal(null, "JSON", false);
@@ -501,15 +506,31 @@ public class GUIViewer extends JFrame {
         this.sideBar.updateUsername(this.username);
 
         // update the allCourse map
+        List<Deadline> deadlines = new ArrayList<>();
         for (String courseName : this.controller.getAllCourses().keySet()) {
             TreeMap<String, Deadline> dueMap = this.controller.getAllCourses().get(courseName).getDeadlines();
             if (dueMap == null || dueMap.isEmpty() || this.controller.getAllCourses().get(courseName).size() == 0) {
                 this.sideBar.addCourse(courseName);
                 continue;
             }
-            List<String> dueList = this.controller.getAllCourses().get(courseName).getReversedSortedDeadlines();
-            for (String deadlineName : dueList) {
-                this.controller.addDeadline(dueMap.get(deadlineName));
+            deadlines.addAll(dueMap.values());
+        }
+        this.controller.addDeadlines(deadlines);
+    }
+
+    /**
+     * This function would update the username and add every course without a
+     * deadline to the sideBar, without adding the deadlines again
+     *
+     * @requires None
+     * @modifies sideBar
+     * @effects update the username and the empty courses
+     */
+    private void refreshCourses() {
+        this.sideBar.updateUsername(this.username);
+        for (Map.Entry<String, Course> course : this.controller.getAllCourses().entrySet()) {
+            if (course.getValue().size() == 0) {
+                this.sideBar.addCourse(course.getKey());
             }
         }
     }
@@ -603,15 +624,15 @@ public class GUIViewer extends JFrame {
     }
 
     /**
-     * This function returns the calendarPanel
+     * This function returns the notification timers of all deadlines
      *
      * @requires None
      * @modifies None
      * @effects None
-     * @return allTimersMap
+     * @return timers
      */
-    public ConcurrentHashMap<String, DeadlineTimer> getAllTimersMap() {
-        return this.allTimersMap;
+    public TimerRegistry getTimers() {
+        return this.timers;
     }
 
     /**
@@ -620,17 +641,50 @@ public class GUIViewer extends JFrame {
      *
      * @param deadline the deadline that will be added
      * @requires None
-     * @modifies calendarPanel, sideBar, allTimersMap
+     * @modifies calendarPanel, sideBar, timers
      * @effects None
      */
     synchronized public void addDeadlineBlock(Deadline deadline) {
         this.calendarPanel.addDeadline(deadline);
         this.sideBar.addDeadline(deadline);
-        DeadlineTimer timer = new DeadlineTimer(deadline, this.controller);
+        this.addTimer(deadline);
+    }
+
+    /**
+     * This method would add a batch of deadlines to the calendar panel and the side
+     * bar panel, creating a timer for each of them. Each panel is redrawn once.
+     *
+     * @param deadlines the deadlines that will be added
+     * @requires deadlines != null
+     * @modifies calendarPanel, sideBar, timers
+     * @effects None
+     */
+    synchronized public void addDeadlineBlocks(Collection<Deadline> deadlines) {
+        this.calendarPanel.addDeadlines(deadlines);
+        this.sideBar.addDeadlines(deadlines);
+        for (Deadline deadline : deadlines) {
+            this.addTimer(deadline);
+        }
+    }
+
+    /**
+     * This method creates the notification timer of a deadline, replacing the
+     * previous timer of a deadline with the same name in the same course
+     *
+     * @param deadline the deadline
+     * @requires None
+     * @modifies timers
+     * @effects None
+     */
+    private void addTimer(Deadline deadline) {
+        DeadlineTimer timer = new DeadlineTimer(deadline, this.controller, this.notificationScheduler);
         if (!this.controller.isIgnoring(deadline.getCourseName())) {
             timer.start();
         }
-        this.allTimersMap.put(deadline.getCourseName() + deadline.getName(), timer);
+        DeadlineTimer old = this.timers.put(timer);
+        if (old != null) {
+            old.stop();
+        }
     }
 
     /**
@@ -643,14 +697,13 @@ public class GUIViewer extends JFrame {
      * @param month        month number; starts from 1 to 12
      * @param day the day number; starts from 1 to 31
      * @requires None
-     * @modifies allTimersMap, calendarPanel, sideBar
+     * @modifies timers, calendarPanel, sideBar
      * @effects None
      */
     synchronized public void removeDeadlineBlock(String course, String deadlineName, int year, int month, int day) {
-        DeadlineTimer timer = this.allTimersMap.get(course + deadlineName);
+        DeadlineTimer timer = this.timers.remove(course, deadlineName);
         if (timer != null) {
             timer.stop();
-            this.allTimersMap.remove(course + deadlineName);
         }
         this.calendarPanel.removeDeadline(course, deadlineName, year, month, day);
         this.sideBar.removeDeadline(course, deadlineName, year, month, day);
@@ -717,7 +770,7 @@ public class GUIViewer extends JFrame {
                 message = "No incoming due dates";
             } else {
                 message = closest.getName() + " (" + closest.getCourseName() + ") " + this.getText("due_in")
-                        + this.getTextFormat().getRemainingText(closest, CalendarWrapper.now(), false);
+                        + this.getTextFormat().getRemainingText(closest, null, false);
             }
             this.notification("main is running in background.", message, "");
         } else {
@@ -792,6 +845,7 @@ public class GUIViewer extends JFrame {
      */
     public void shutdown() {
         this.controller.saveSettings(false);
+        this.notificationScheduler.shutdown();
         this.notification.close();
     }
 }
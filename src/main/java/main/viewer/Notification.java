@@ -1,6 +1,5 @@
 package main.viewer;
 
-import model.CalendarWrapper;
 import model.Deadline;
 import main.controller.GUIController;
 
@@ -193,7 +192,7 @@ public class Notification {
         } else {
             trayIcon.setToolTip(closest.getName() + "\n"
                     + "(" + closest.getCourseName() + "): \n"
-                    + parent.getFrame().getTextFormat().getRemainingText(closest, CalendarWrapper.now(), true));
+                    + parent.getFrame().getTextFormat().getRemainingText(closest, null, true));
         }
     }
 }
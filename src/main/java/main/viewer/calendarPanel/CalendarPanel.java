@@ -3,19 +3,27 @@ package main.viewer.calendarPanel;
 import javafx.util.Pair;
 import model.CalendarWrapper;
 import model.Deadline;
+import model.DeadlineIndex;
+import model.EpochMinute;
+import main.viewer.DeadlineCountdownFactory;
 import main.viewer.Log;
 import main.controller.GUIController;
 import main.viewer.textFormat.BaseText;
 import main.viewer.textFormat.ViewerFont;
 import main.viewer.theme.Theme;
+import main.viewer.util.Webpage;
 
 import javax.swing.BorderFactory;
-import javax.swing.Box;
 import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.time.ZoneId;
 import java.util.*;
 
 
@@ -23,10 +31,13 @@ import java.util.*;
  * This component is created represent the center part (a visual calendar) of main
  */
 public class CalendarPanel extends JPanel {
+    /** the number of date blocks: 6 weeks, enough for any month */
+    private final static int DATE_BLOCK_NUM = 42;
     private final GUIController parent;
     private JPanel weekdayTitlePanel;
     private JPanel datesPanel;
-    private ArrayList<DateBlock> allDateBlocks;
+    private final DateBlock[] allDateBlocks;
+    private int firstDateIndex;
     private BaseText textStr;
     private int monthOfToday;
     private int yearOfToday;
@@ -34,23 +45,36 @@ public class CalendarPanel extends JPanel {
     private int maxDayNumDisplayMonth;
     private int displayMonth;
     private int displayYear;
-    private HashMap<String, Deadline> allDeadlines;
+    private DeadlineIndex allDeadlines;
+    private HashMap<String, HashMap<String, DeadlineBlock>> mountedBlocks;
+    private int styledDay;
+    private final SelectedDeadlineBlock selectedBlock;
+    private final JPopupMenu deadlineBlockMenu;
+    private final MouseListener deadlineBlockMouseHandler;
 
     /**
      * Constructor
      * @param parent the parent component
      * @param t stores all text needed
      * @requires None
-     * @modifies this, textStr, allDateBlocks, allDeadlines, weekdayTitlePanel
+     * @modifies this, textStr, allDateBlocks, allDeadlines, mountedBlocks, selectedBlock,
+     *           deadlineBlockMenu, deadlineBlockMouseHandler, weekdayTitlePanel
      * @effects create a calendarPanel
      */
     public CalendarPanel(GUIController parent, BaseText t) {
         super();
         this.textStr = t;
-        this.allDateBlocks = new ArrayList<>();
-        this.allDeadlines = new HashMap<>();
+        this.allDateBlocks = new DateBlock[DATE_BLOCK_NUM];
+        this.allDeadlines = new DeadlineIndex();
+        this.mountedBlocks = new HashMap<>();
         this.parent = parent;
 
+        // one right-click menu and one mouse handler serve every deadline block
+        this.selectedBlock = new SelectedDeadlineBlock();
+        this.deadlineBlockMenu = DeadlineCountdownFactory.createDeadlineBlockRightMenu(this.selectedBlock,
+                getTheme().SIDEBAR_TEXT(), getTheme().SIDEBAR_BACKGROUND());
+        this.deadlineBlockMouseHandler = this.createDeadlineBlockMouseHandler();
+
         // add components
         this.setLayout(new BorderLayout());
         this.setBackground(getTheme().CAL_BACKGROUND());
@@ -79,13 +103,13 @@ public class CalendarPanel extends JPanel {
         this.datesPanel.setLayout(new GridLayout(0, 7, 0, 1));
         this.datesPanel.setBackground(getTheme().CAL_INVALID_BACKGROUND());
         this.add(datesPanel, BorderLayout.CENTER);
-
-        this.dateOfToday = CalendarWrapper.now().getDay();
-        this.monthOfToday = CalendarWrapper.now().getMonth();
-        this.yearOfToday = CalendarWrapper.now().getYear();
+        for (int i = 0; i < DATE_BLOCK_NUM; i++) {
+            this.allDateBlocks[i] = new DateBlock(0, 0, 0, "", this);
+        }
 
         // set the calendar's date to today
-        this.createDatePanels(this.monthOfToday, this.yearOfToday);
+        CalendarWrapper today = CalendarWrapper.now();
+        this.bindDatePanels(today.getMonth(), today.getYear());
 
         this.addPropertyChangeListener(
                 e -> {
@@ -96,6 +120,79 @@ public class CalendarPanel extends JPanel {
                 });
     }
 
+    /**
+     * This function creates the mouse handler shared by every DeadlineBlock of the
+     * calendar. The handler works out the clicked block from the event, so the
+     * blocks need no listener or menu of their own
+     * @requires selectedBlock != null, deadlineBlockMenu != null
+     * @modifies None
+     * @effects None
+     * @return the mouse handler
+     */
+    private MouseListener createDeadlineBlockMouseHandler() {
+        return new MouseAdapter() {
+            /**
+             * {@inheritDoc}
+             * Show the right-click menu, or open the link of the deadline on a
+             * double click
+             * @param e the mouse event
+             * @requires None
+             * @modifies selectedBlock
+             * @effects show the popup menu or open the link
+             */
+            @Override
+            public void mousePressed(MouseEvent e) {
+                DeadlineBlock block = (DeadlineBlock) e.getComponent();
+                if (e.isPopupTrigger()) {
+                    showDeadlineBlockMenu(e, block);
+                } else if (e.getClickCount() == 2 && !e.isConsumed()
+                        && !block.getDeadline().getLink().equals("")) {
+                    e.consume();
+                    // handle double click event
+                    Webpage.open(block.getDeadline().getLink());
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             * @param e the mouse event
+             * @requires None
+             * @modifies selectedBlock
+             * @effects show the popup menu
+             */
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (e.isPopupTrigger()) {
+                    showDeadlineBlockMenu(e, (DeadlineBlock) e.getComponent());
+                }
+            }
+        };
+    }
+
+    /**
+     * This function would show the shared right-click menu for a deadline block
+     * @param e the mouse event
+     * @param block the clicked block
+     * @requires e != null, block != null
+     * @modifies selectedBlock
+     * @effects show the popup menu
+     */
+    private void showDeadlineBlockMenu(MouseEvent e, DeadlineBlock block) {
+        this.selectedBlock.setBlock(block);
+        this.deadlineBlockMenu.show(block, e.getX(), e.getY());
+    }
+
+    /**
+     * This function returns the mouse handler shared by every DeadlineBlock
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return deadlineBlockMouseHandler
+     */
+    MouseListener getDeadlineBlockMouseHandler() {
+        return this.deadlineBlockMouseHandler;
+    }
+
     /**
      * This function would set up the weekday title panel (Monday, Tuesday ...)
      * @requires None
@@ -122,15 +219,18 @@ public class CalendarPanel extends JPanel {
     }
 
     /**
-     * This function creates date blocks in the dates panel for a specified month
+     * This function shows a specified month in the dates panel. The date blocks are
+     * created once and bound to the dates of the month in place; the panel holds as
+     * many of them as the month needs, so its number of weeks stays the same as
+     * before
      * @param month the month number of a year, starts from 1 (Jan)
      * @param year the year number
      * @requires None
-     * @modifies datesPanel, allDateBlocks, displayYear, displayMonth,
-     *           maxDayNumDisplayMonth
-     * @effects create all date blocks based on the dates of the required month
+     * @modifies datesPanel, allDateBlocks, mountedBlocks, displayYear, displayMonth,
+     *           maxDayNumDisplayMonth, firstDateIndex
+     * @effects bind the date blocks to the dates of the required month
      */
-    private void createDatePanels(int month, int year) {
+    private void bindDatePanels(int month, int year) {
         // change the year and month that the calendar is display
         this.displayYear = year;
         this.displayMonth = month;
@@ -146,106 +246,188 @@ public class CalendarPanel extends JPanel {
             numOfDaysBeforeFirstDay = 6;
         }
         this.maxDayNumDisplayMonth = c.getMaxDayNumOfMonth();
-
-        // create the dates panel
-        for (int i = 1; i <= maxDayNumDisplayMonth + numOfDaysBeforeFirstDay; i++) {
-            DateBlock currDayBlock;
-            if (i <= numOfDaysBeforeFirstDay) {
-                currDayBlock = new DateBlock(0, 0,0,"", this);
-                currDayBlock.setColor(this.getTheme().CAL_INVALID_BACKGROUND());
+        this.firstDateIndex = numOfDaysBeforeFirstDay;
+        CalendarWrapper today = CalendarWrapper.now();
+        this.dateOfToday = today.getDay();
+        this.monthOfToday = today.getMonth();
+        this.yearOfToday = today.getYear();
+
+        // bind the date blocks
+        int blockNum = this.maxDayNumDisplayMonth + numOfDaysBeforeFirstDay;
+        for (int i = 0; i < blockNum; i++) {
+            if (i < numOfDaysBeforeFirstDay) {
+                this.allDateBlocks[i].bind(0, 0, 0, false);
             } else {
-                int currDate = i - numOfDaysBeforeFirstDay;
-                currDayBlock = new DateBlock(this.displayYear, this.displayMonth,
-                        currDate, String.valueOf(currDate), this);
-                if (currDate == dateOfToday &&
-                        displayMonth == monthOfToday &&
-                        displayYear == yearOfToday) {
-                    currDayBlock.getDateTextPanel().setDisabledTextColor(this.getTheme().TODAY_TEXT());
-                    currDayBlock.setColor(this.getTheme().TODAY());
-                }
-                this.allDateBlocks.add(currDayBlock);
+                int currDate = i - numOfDaysBeforeFirstDay + 1;
+                this.allDateBlocks[i].bind(this.displayYear, this.displayMonth, currDate,
+                        currDate == dateOfToday && displayMonth == monthOfToday && displayYear == yearOfToday);
             }
-            this.datesPanel.add(currDayBlock);
         }
+        this.mountedBlocks.clear();
+
+        // add or remove the date blocks of the last weeks
+        int shown = this.datesPanel.getComponentCount();
+        for (int i = shown; i < blockNum; i++) {
+            this.datesPanel.add(this.allDateBlocks[i]);
+        }
+        for (int i = shown - 1; i >= blockNum; i--) {
+            this.datesPanel.remove(i);
+        }
+        this.datesPanel.revalidate();
+        this.datesPanel.repaint();
         this.displayAllDeadlines();
     }
 
     /**
-     * This function clears the dates panel
-     * @requires None
-     * @modifies datesPanel, allDatesBlocks
-     * @effects dispose all DateBlocks
+     * This function checks if a deadline should have a block in the calendar
+     * @param deadline the deadline
+     * @param now the current time as minutes since 1970-01-01T00:00Z
+     * @requires deadline != null
+     * @modifies None
+     * @effects None
+     * @return true if the deadline is due in the displayed month, its course is not
+     *         ignored and it is not hidden as a past deadline
      */
-    private void clearDatesPanel() {
-        this.datesPanel.removeAll();
-        this.datesPanel.revalidate();
-        this.datesPanel.repaint();
-        this.allDateBlocks.clear();
+    private boolean isShown(Deadline deadline, long now) {
+        return deadline.getMonth() == this.displayMonth && deadline.getYear() == this.displayYear
+                && !parent.isIgnoring(deadline.getCourseName())
+                && (parent.getSettings().isShowPastDeadlines() || deadline.getDueMinute() > now);
     }
 
     /**
-     * This method would add a new DeadlineBlock to a specified date block
-     * @param deadline the deadline that would be added
-     * @requires None
-     * @modifies a list that stores every course and their information
+     * This function checks if a block showing one deadline can keep showing another
+     * @param shown the deadline the block shows
+     * @param deadline the deadline to show
+     * @requires shown != null, deadline != null
+     * @modifies None
      * @effects None
+     * @return true if the two deadlines look the same in the calendar
      */
-    private void addSingleDeadlineBlock(Deadline deadline) {
-        if (deadline.isBefore(CalendarWrapper.now()) &&
-            !parent.getSettings().isShowPastDeadlines()) {
-            return;
-        }
-        if (parent.isIgnoring(deadline.getCourseName())) {
-            return;
-        }
-        if (deadline.getMonth() == this.displayMonth && deadline.getYear() == this.displayYear) {
+    private static boolean looksSame(Deadline shown, Deadline deadline) {
+        return shown == deadline || (shown.equals(deadline)
+                && Objects.equals(shown.getStatus(), deadline.getStatus())
+                && shown.hasSameLink(deadline));
+    }
+
+    /**
+     * This method makes sure a deadline has a block in its date block. An existing
+     * block of the deadline is kept if the deadline looks the same, and restyled
+     * (and moved to its new date) otherwise
+     * @param deadline the deadline that would be shown
+     * @param changedDates the date blocks whose deadline blocks changed
+     * @requires isShown(deadline)
+     * @modifies mountedBlocks, allDateBlocks, changedDates
+     * @effects show the deadline in the date block of its due date
+     */
+    private void showDeadlineBlock(Deadline deadline, Set<DateBlock> changedDates) {
+        HashMap<String, DeadlineBlock> courseBlocks =
+                this.mountedBlocks.computeIfAbsent(deadline.getCourseName(), c -> new HashMap<>());
+        DeadlineBlock block = courseBlocks.get(deadline.getName());
+        if (block == null) {
             Log.debug("DEBUG: [CalendarPanel] {" +
                     deadline.getName() + " <" + deadline.getCourseName() + "> (" +
                     CalendarWrapper.getTimeStr(deadline.getYear(), deadline.getMonth(), deadline.getDay(), deadline.getHour(), deadline.getMinute()) + ")" +
                     "} will be added to calendar.", Log.ANSI_BLUE);
-            this.getDatePanel(deadline.getDay()).addDeadline(new DeadlineBlock(this, deadline));
-            this.getDatePanel(deadline.getDay()).getLowerPart().add(Box.createVerticalStrut(1));
+            block = new DeadlineBlock(this, deadline);
+            courseBlocks.put(deadline.getName(), block);
+        } else if (looksSame(block.getDeadline(), deadline)) {
+            return;
+        } else {
+            DateBlock oldDate = this.getDatePanel(block.getDate());
+            oldDate.removeDeadline(block);
+            changedDates.add(oldDate);
+            block.setDeadline(deadline);
+        }
+        DateBlock date = this.getDatePanel(deadline.getDay());
+        date.addDeadline(block);
+        changedDates.add(date);
+    }
+
+    /**
+     * This method removes the block of a deadline from its date block
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @param changedDates the date blocks whose deadline blocks changed
+     * @requires None
+     * @modifies mountedBlocks, allDateBlocks, changedDates
+     * @effects remove the block of the deadline if there is one
+     */
+    private void hideDeadlineBlock(String course, String deadlineName, Set<DateBlock> changedDates) {
+        HashMap<String, DeadlineBlock> courseBlocks = this.mountedBlocks.get(course);
+        if (courseBlocks == null) {
+            return;
+        }
+        DeadlineBlock block = courseBlocks.remove(deadlineName);
+        if (courseBlocks.isEmpty()) {
+            this.mountedBlocks.remove(course);
+        }
+        if (block != null) {
+            DateBlock date = this.getDatePanel(block.getDate());
+            date.removeDeadline(block);
+            changedDates.add(date);
         }
     }
 
     /**
-     * This method would remove a deadline block from a specified date block
-     * @param deadline the deadline that would be removed
+     * This method lays out the date blocks whose deadline blocks changed and then
+     * revalidates the dates panel once
+     * @param changedDates the date blocks whose deadline blocks changed
      * @requires None
-     * @modifies parent
-     * @effects remove a deadline from a specified date block
+     * @modifies changedDates, datesPanel
+     * @effects show the changed date blocks
      */
-    private void removeSingleDeadlineBlock(Deadline deadline) {
-        if (deadline.getMonth() == this.displayMonth && deadline.getYear() == this.displayYear) {
-            this.getDatePanel(deadline.getDay()).removeDeadline(new DeadlineBlock(this, deadline));
+    private void layoutDates(Set<DateBlock> changedDates) {
+        if (changedDates.isEmpty()) {
+            return;
+        }
+        for (DateBlock date : changedDates) {
+            date.layoutDeadlines();
         }
-        this.getDatePanel(deadline.getDay()).getLowerPart().revalidate();
-        this.getDatePanel(deadline.getDay()).getLowerPart().repaint();
+        this.datesPanel.revalidate();
+        this.datesPanel.repaint();
     }
 
     /**
      * This function will display deadlines from this.allDeadlines to the date block
-     * which represents the deadline due date
+     * which represents the deadline due date. Only the deadlines due in the displayed
+     * month are looked at, and only the difference from what is displayed is applied:
+     * blocks are added, removed or restyled, and only the date blocks that changed
+     * are laid out again.
      * @requires None
-     * @modifies this.getDatePanel(i).getLowerPart()
+     * @modifies mountedBlocks, this.getDatePanel(i).getLowerPart()
      * @effects display all deadlines
      */
     public void displayAllDeadlines() {
-        for (int i = 1; i <= this.maxDayNumDisplayMonth; i++) {
-            this.getDatePanel(i).getLowerPart().removeAll();
-            this.getDatePanel(i).getLowerPart().revalidate();
-            this.getDatePanel(i).getLowerPart().repaint();
-        }
-        for (String deadlineName: this.allDeadlines.keySet()) {
-            Deadline currDeadline = this.allDeadlines.get(deadlineName);
-            String course = this.allDeadlines.get(deadlineName).getCourseName();
-            if (parent.isIgnoring(course)) continue;
-            if (!parent.getSettings().isShowPastDeadlines() &&
-                    currDeadline.isBefore(CalendarWrapper.now())) {
+        long now = EpochMinute.currentEpochMinute();
+        Set<DateBlock> changedDates = new HashSet<>();
+        // some colors depend on the current day
+        int today = CalendarWrapper.now().getDay();
+        boolean restyle = today != this.styledDay;
+        this.styledDay = today;
+        HashMap<String, HashSet<String>> shown = new HashMap<>();
+        for (Deadline currDeadline: this.allDeadlines.month(this.displayYear, this.displayMonth, ZoneId.systemDefault())) {
+            if (!this.isShown(currDeadline, now)) {
                 continue;
             }
-            this.addSingleDeadlineBlock(currDeadline);
+            shown.computeIfAbsent(currDeadline.getCourseName(), c -> new HashSet<>()).add(currDeadline.getName());
+            this.showDeadlineBlock(currDeadline, changedDates);
         }
+        // remove the blocks of the deadlines that are no longer shown
+        List<DeadlineBlock> hidden = new ArrayList<>();
+        for (Map.Entry<String, HashMap<String, DeadlineBlock>> course : this.mountedBlocks.entrySet()) {
+            HashSet<String> shownNames = shown.get(course.getKey());
+            for (DeadlineBlock block : course.getValue().values()) {
+                if (shownNames == null || !shownNames.contains(block.getDeadlineName())) {
+                    hidden.add(block);
+                } else if (restyle) {
+                    block.setDeadline(block.getDeadline());
+                }
+            }
+        }
+        for (DeadlineBlock block : hidden) {
+            this.hideDeadlineBlock(block.getCourseName(), block.getDeadlineName(), changedDates);
+        }
+        this.layoutDates(changedDates);
     }
 
     /**
@@ -257,7 +439,7 @@ public class CalendarPanel extends JPanel {
      * @return a date block representing the required date
      */
     private DateBlock getDatePanel(int date) {
-        return this.allDateBlocks.get(date-1);
+        return this.allDateBlocks[this.firstDateIndex + date - 1];
     }
 
     /**
@@ -296,16 +478,15 @@ public class CalendarPanel extends JPanel {
      * @param month the month number of a year, starts from 1 (Jan)
      * @param year the year number
      * @requires None
-     * @modifies datesPanel, allDateBlocks, displayYear, displayMonth,
-     *           maxDayNumDisplayMonth
+     * @modifies datesPanel, allDateBlocks, mountedBlocks, displayYear, displayMonth,
+     *           maxDayNumDisplayMonth, firstDateIndex
      * @effects update the month and year
      */
     public void setMonthYear(int month, int year) {
         if (month == this.displayMonth && year == this.displayYear)
-            // when the user clicks on a deadline within current month, no need to reset all DateBlocks
+            // when the user clicks on a deadline within current month, no need to rebind the DateBlocks
             return;
-        this.clearDatesPanel();
-        this.createDatePanels(month, year);
+        this.bindDatePanels(month, year);
     }
 
     /**
@@ -324,21 +505,32 @@ public class CalendarPanel extends JPanel {
      * date
      * @param newDeadline the new deadline that will be added
      * @requires None
-     * @modifies allDateBlocks, allDeadlines
+     * @modifies allDateBlocks, allDeadlines, mountedBlocks
      * @effects None
      */
     public void addDeadline(Deadline newDeadline) {
-        if (this.allDeadlines.containsKey(newDeadline.getName())) {
-            if (this.allDeadlines.get(newDeadline.getName()).equals(newDeadline)) {
-                return;
-            } else {
-                // update the deadline information
-                Deadline oldTimeInfo = allDeadlines.get(newDeadline.getName());
-                this.removeSingleDeadlineBlock(oldTimeInfo);
-            }
+        this.allDeadlines.put(newDeadline);
+        Set<DateBlock> changedDates = new HashSet<>();
+        if (this.isShown(newDeadline, EpochMinute.currentEpochMinute())) {
+            this.showDeadlineBlock(newDeadline, changedDates);
+        } else {
+            this.hideDeadlineBlock(newDeadline.getCourseName(), newDeadline.getName(), changedDates);
+        }
+        this.layoutDates(changedDates);
+    }
+
+    /**
+     * This method would add a batch of deadlines and update the displayed month once
+     * @param deadlines the new deadlines that will be added
+     * @requires deadlines != null
+     * @modifies allDateBlocks, allDeadlines, mountedBlocks
+     * @effects None
+     */
+    public void addDeadlines(Collection<Deadline> deadlines) {
+        for (Deadline deadline : deadlines) {
+            this.allDeadlines.put(deadline);
         }
-        this.allDeadlines.put(newDeadline.getName(), newDeadline);
-        this.addSingleDeadlineBlock(newDeadline);
+        this.displayAllDeadlines();
     }
 
     /**
@@ -350,12 +542,14 @@ public class CalendarPanel extends JPanel {
      * @param month        month number; starts from 1 to 12
      * @param day          the day number; starts from 1 to 31
      * @requires None
-     * @modifies parent
+     * @modifies allDeadlines, mountedBlocks, allDateBlocks
      * @effects remove a deadline
      */
     public void removeDeadline(String course, String deadlineName, int year, int month, int day) {
-        this.removeSingleDeadlineBlock(new Deadline(year, month, day, 0, 0, deadlineName, course, Deadline.STATUS.DEFAULT, ""));
-        this.allDeadlines.remove(deadlineName);
+        this.allDeadlines.remove(course, deadlineName);
+        Set<DateBlock> changedDates = new HashSet<>();
+        this.hideDeadlineBlock(course, deadlineName, changedDates);
+        this.layoutDates(changedDates);
     }
 
     /**
@@ -428,7 +622,6 @@ public class CalendarPanel extends JPanel {
      */
     public void refresh() {
         this.createWeekdayTitlePanel();
-        this.clearDatesPanel();
-        this.createDatePanels(this.displayMonth, this.displayYear);
+        this.bindDatePanels(this.displayMonth, this.displayYear);
     }
 }
\ No newline at end of file
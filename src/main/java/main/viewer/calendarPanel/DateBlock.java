@@ -1,6 +1,7 @@
 package main.viewer.calendarPanel;
 
 import model.CalendarWrapper;
+import model.Deadline;
 import main.viewer.textFormat.ViewerFont;
 
 import javax.swing.*;
@@ -13,7 +14,8 @@ import java.awt.Font;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * This component is created for representing each date in the calendar
@@ -21,7 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 class DateBlock extends RectangleWithTitle {
     private final CalendarPanel parent;
     private JTextArea dateTextPanel;
-    private ConcurrentHashMap<String, DeadlineBlock> allDeadlinkblocks;
+    private ArrayList<DeadlineBlock> deadlineBlocks;
     private boolean[] isMutexLock = {false};
     private int year;
     private int month;
@@ -58,7 +60,7 @@ class DateBlock extends RectangleWithTitle {
         this.day = day;
 
         // lower part
-        this.allDeadlinkblocks = new ConcurrentHashMap<>();
+        this.deadlineBlocks = new ArrayList<>();
         super.getLowerPart().setLayout(new BoxLayout(super.getLowerPart(), BoxLayout.Y_AXIS));
         super.getLowerPart().setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 1));
 
@@ -82,7 +84,7 @@ class DateBlock extends RectangleWithTitle {
             @Override
             public void menuKeyPressed(MenuKeyEvent e) {
                 if (e.getKeyCode() == KeyEvent.VK_DELETE || e.getKeyCode() == KeyEvent.VK_D) {
-                    parent.handleEditSignal("","",0,0,Integer.valueOf(date),0,0,null);
+                    addNewDeadline();
                 }
             }
 
@@ -93,7 +95,7 @@ class DateBlock extends RectangleWithTitle {
         addNewDeadline.setForeground(parent.getTheme().RIGHT_MENU_TEXT());
         addNewDeadline.setBackground(parent.getTheme().RIGHT_MENU_BACKGROUND());
         addNewDeadline.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 14));
-        addNewDeadline.addActionListener(e2 -> parent.handleEditSignal("","",0,0,Integer.valueOf(date),0,0,null));
+        addNewDeadline.addActionListener(e2 -> addNewDeadline());
         addDeadlineMenu.add(addNewDeadline);
         addDeadlineMenu.setForeground(parent.getTheme().SIDEBAR_TEXT());
         addDeadlineMenu.setBackground(parent.getTheme().SIDEBAR_BACKGROUND());
@@ -149,6 +151,48 @@ class DateBlock extends RectangleWithTitle {
         });
     }
 
+    /**
+     * This function binds this block to another date, so the calendar reuses its
+     * date blocks when the displayed month changes
+     * @param year a integer to represent the year, 0 for a block before the first day
+     * @param month a integer to represent the month, 0 for a block before the first day
+     * @param day a integer to represent the day, 0 for a block before the first day
+     * @param today true if the date is today
+     * @requires None
+     * @modifies this, dateTextPanel, deadlineBlocks, super.lowerPart
+     * @effects show the date with no deadline blocks
+     */
+    void bind(int year, int month, int day, boolean today) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.dateTextPanel.setText(day == 0 ? " " : " " + day);
+        this.deadlineBlocks.clear();
+        this.getLowerPart().removeAll();
+        if (day == 0) {
+            this.dateTextPanel.setDisabledTextColor(parent.getTheme().CAL_DATE_TEXT());
+            this.setColor(parent.getTheme().CAL_INVALID_BACKGROUND());
+        } else if (today) {
+            this.dateTextPanel.setDisabledTextColor(parent.getTheme().TODAY_TEXT());
+            this.setColor(parent.getTheme().TODAY());
+        } else {
+            this.dateTextPanel.setDisabledTextColor(parent.getTheme().CAL_DATE_TEXT());
+            this.setColor(parent.getTheme().CAL_BACKGROUND());
+        }
+    }
+
+    /**
+     * This function asks the calendar to add a new deadline due on this date
+     * @requires None
+     * @modifies parent
+     * @effects show the panel to add a deadline, unless this block is before the first day
+     */
+    private void addNewDeadline() {
+        if (this.day != 0) {
+            parent.handleEditSignal("", "", 0, 0, this.day, 0, 0, null);
+        }
+    }
+
     /**
      * This function would return the dateTextPanel
      * @return this.dateTextPanel
@@ -277,40 +321,43 @@ class DateBlock extends RectangleWithTitle {
     }
 
     /**
-     * This function would add a new deadline block
+     * This function would add a new deadline block, keeping the blocks of this date
+     * in Deadline.DUE_ORDER. The block is shown after the next layoutDeadlines()
      * @param block the new deadline block
-     * @requires block != null
-     * @modifies this.allDeadlinkblocks, super.lowerPart
+     * @requires block != null, block is not in this date
+     * @modifies this.deadlineBlocks
      * @effects add a new deadline block
      */
-    public void addDeadline(DeadlineBlock block) {
-        if (this.allDeadlinkblocks.containsKey(block.getCourseName() + block.getDeadlineName())) {
-            this.removeDeadline(block);
-        }
-        this.allDeadlinkblocks.put(block.getCourseName() + block.getDeadlineName(),  block);
-        this.getLowerPart().add(block);
+    void addDeadline(DeadlineBlock block) {
+        int index = Collections.binarySearch(this.deadlineBlocks, block,
+                (b1, b2) -> Deadline.DUE_ORDER.compare(b1.getDeadline(), b2.getDeadline()));
+        this.deadlineBlocks.add(index < 0 ? -index - 1 : index, block);
     }
 
     /**
-     * This function would remove a new deadline block
-     * @param block the new deadline block
+     * This function would remove a deadline block. The block is hidden after the
+     * next layoutDeadlines()
+     * @param block the deadline block
      * @requires block != null
-     * @modifies this.allDeadlinkblocks, super.lowerPart
-     * @effects remove a new deadline block
+     * @modifies this.deadlineBlocks
+     * @effects remove the deadline block
      */
-    public void removeDeadline(DeadlineBlock block) {
-        this.allDeadlinkblocks.remove(block.getCourseName() + block.getDeadlineName());
-        Component[] components = this.getLowerPart().getComponents();
-        for (int i = 0; i < components.length; i++) {
-            if (components[i] instanceof DeadlineBlock) {
-                DeadlineBlock d = (DeadlineBlock) components[i];
-                if (d.getCourseName().equals(block.getCourseName()) && d.getDeadlineName().equals(block.getDeadlineName())) {
-                    this.getLowerPart().remove(d);
-                    if (i < components.length - 1 && components[i + 1] instanceof Box.Filler) {
-                        this.getLowerPart().remove(components[i + 1]);
-                    }
-                }
-            }
+    void removeDeadline(DeadlineBlock block) {
+        this.deadlineBlocks.remove(block);
+    }
+
+    /**
+     * This function puts the deadline blocks of this date into the lower part, one
+     * below another. The blocks themselves are reused; the caller revalidates
+     * @requires None
+     * @modifies super.lowerPart
+     * @effects show the deadline blocks of this date in order
+     */
+    void layoutDeadlines() {
+        this.getLowerPart().removeAll();
+        for (DeadlineBlock block : this.deadlineBlocks) {
+            this.getLowerPart().add(block);
+            this.getLowerPart().add(Box.createVerticalStrut(1));
         }
     }
 }
@@ -2,19 +2,16 @@ package main.viewer.calendarPanel;
 
 import model.CalendarWrapper;
 import model.Deadline;
-import main.viewer.*;
+import main.viewer.DeadlineBlockInterface;
 import main.viewer.util.DeadlineExporter;
 import main.viewer.textFormat.ViewerFont;
-import main.viewer.util.Webpage;
 
-import javax.swing.*;
+import javax.swing.JTextArea;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Insets;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.util.Objects;
 
 /**
@@ -33,14 +30,38 @@ class DeadlineBlock extends JTextArea implements DeadlineBlockInterface {
     DeadlineBlock(CalendarPanel parent, Deadline deadline) {
         super(deadline.getName());
         this.parent = parent;
+
+        // set font
+        this.setEnabled(false);
+        this.setDisabledTextColor(Color.WHITE);
+        this.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 14));
+        this.setAlignmentX(Component.LEFT_ALIGNMENT);
+        this.setMargin(new Insets(2, 5, 2, 2));
+        super.setMaximumSize(new Dimension(Integer.MAX_VALUE, 24));
+        this.setDeadline(deadline);
+
+        // the handler of the calendar finds this block from the event
+        this.addMouseListener(parent.getDeadlineBlockMouseHandler());
+    }
+
+    /**
+     * This method shows another deadline in this block, so a deadline whose status,
+     * due time or link changed is restyled in place
+     * @param deadline the deadline
+     * @requires deadline != null
+     * @modifies this
+     * @effects set the text, color and tool tip of this block from the deadline
+     */
+    void setDeadline(Deadline deadline) {
         this.deadline = deadline;
+        if (!this.getText().equals(deadline.getName())) {
+            this.setText(deadline.getName());
+        }
 
         // set color based on the status of the deadline
-        this.setEnabled(false);
         if (deadline.getStatus() == null) {
             this.setBackground(parent.getTheme().SUBMIT_COLOR());
         } else {
-            this.setDisabledTextColor(Color.WHITE);
             switch (deadline.getStatus()) {
                 case Deadline.STATUS.LATE_SUBMIT:
                     this.setBackground(parent.getTheme().LATE_SUBMIT_COLOR());
@@ -70,13 +91,6 @@ class DeadlineBlock extends JTextArea implements DeadlineBlockInterface {
             }
         }
 
-        // set font
-        this.setDisabledTextColor(Color.WHITE);
-        this.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 14));
-        this.setAlignmentX(Component.LEFT_ALIGNMENT);
-        this.setMargin(new Insets(2, 5, 2, 2));
-        super.setMaximumSize(new Dimension(Integer.MAX_VALUE, 24));
-
         // set tool tip message: course name + deadline name + special status
         String tooltipText = "<html>" + deadline.getCourseName() + ":<br>" + deadline.getName() + "<br>(due "
                 + CalendarWrapper.getTimeStr(deadline.getYear(), deadline.getMonth(), deadline.getDay(), deadline.getHour(), deadline.getMinute()) + ")";
@@ -85,35 +99,6 @@ class DeadlineBlock extends JTextArea implements DeadlineBlockInterface {
         }
         tooltipText += "</html>";
         super.setToolTipText(tooltipText);
-
-        // right-click menu
-        JPopupMenu menu = DeadlineCountdownFactory.createDeadlineBlockRightMenu(this,
-                parent.getMainmainGUI().getFrame().getTheme().SIDEBAR_TEXT(),
-                parent.getMainmainGUI().getFrame().getTheme().SIDEBAR_BACKGROUND());
-        this.setComponentPopupMenu(menu);
-        this.addMouseListener(DeadlineCountdownFactory.createRightClickMenuAction(menu));
-        if (!this.deadline.getLink().equals("")) {
-            this.addMouseListener(new MouseAdapter() {
-                /**
-                 * {@inheritDoc}
-                 * Invoked when a mouse button has been pressed on a component.
-                 *
-                 * @param e the mouse event
-                 * @requires None
-                 * @modifies None
-                 * @effects open the link
-                 */
-                @Override
-                public void mousePressed(MouseEvent e) {
-                    super.mousePressed(e);
-                    if (e.getClickCount() == 2 && !e.isConsumed()) {
-                        e.consume();
-                        // handle double click event
-                        Webpage.open(deadline.getLink());
-                    }
-                }
-            });
-        }
     }
 
     /**
@@ -0,0 +1,129 @@
+package main.viewer.calendarPanel;
+
+import model.Deadline;
+import main.viewer.DeadlineBlockInterface;
+
+/**
+ * This class is the target of the right-click menu of the calendar: the menu is
+ * shared by every DeadlineBlock, and the block that was clicked is set before it
+ * is shown. Every action is passed on to that block.
+ */
+class SelectedDeadlineBlock implements DeadlineBlockInterface {
+    private DeadlineBlock block;
+
+    /**
+     * This function sets the block the menu acts on
+     * @param block the clicked DeadlineBlock
+     * @requires block != null
+     * @modifies this.block
+     * @effects None
+     */
+    void setBlock(DeadlineBlock block) {
+        this.block = block;
+    }
+
+    /**
+     * This method returns the course name of current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.courseName
+     */
+    @Override
+    public String getCourseName() {
+        return this.block.getCourseName();
+    }
+
+    /**
+     * This method returns the current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.deadline, null if no block is set
+     */
+    @Override
+    public Deadline getDeadline() {
+        return this.block == null ? null : this.block.getDeadline();
+    }
+
+    /**
+     * This method returns the year number of current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.year
+     */
+    @Override
+    public int getYear() {
+        return this.block.getYear();
+    }
+
+    /**
+     * This method returns the month number of current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.month
+     */
+    @Override
+    public int getMonth() {
+        return this.block.getMonth();
+    }
+
+    /**
+     * This method returns the date number of current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.date
+     */
+    @Override
+    public int getDate() {
+        return this.block.getDate();
+    }
+
+    /**
+     * This method returns the deadline name of current deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return this.deadlineName
+     */
+    @Override
+    public String getDeadlineName() {
+        return this.block.getDeadlineName();
+    }
+
+    /**
+     * This function would delete the deadline of the clicked block
+     * @requires None
+     * @modifies this.block
+     * @effects delete current deadline
+     */
+    @Override
+    public void delete() {
+        this.block.delete();
+    }
+
+    /**
+     * This function would edit the deadline of the clicked block
+     * @requires None
+     * @modifies this.block
+     * @effects edit current deadline
+     */
+    @Override
+    public void edit() {
+        this.block.edit();
+    }
+
+    /**
+     * This function would export the deadline of the clicked block
+     * @requires None
+     * @modifies None
+     * @effects export current deadline
+     */
+    @Override
+    public void export() {
+        this.block.export();
+    }
+}
@@ -2,292 +2,236 @@ package main.viewer.sideBarPanel;
 
 import model.CalendarWrapper;
 import model.Deadline;
-import main.viewer.DeadlineBlockInterface;
-import main.viewer.DeadlineCountdownFactory;
+import model.EpochMinute;
+import main.viewer.Log;
+import main.viewer.textFormat.BaseText;
 import main.viewer.textFormat.ViewerFont;
-import main.viewer.util.DeadlineExporter;
-import org.joda.time.DateTime;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
-import java.awt.font.FontRenderContext;
-import java.awt.font.LineBreakMeasurer;
-import java.awt.font.TextAttribute;
-import java.text.AttributedCharacterIterator;
-import java.text.AttributedString;
 
 /**
  * This component is created to represent a single deadline in the summary part of
  * the side bar. Each DeadlineInfoBlock contains three parts: the deadline name,
- * an empty area and the remaining time information
+ * an empty area and the remaining time information. The summary list keeps one
+ * DeadlineInfoBlock and paints each visible row with it, so a deadline that is
+ * scrolled out of view has no component.
  */
-class DeadlineInfoBlock extends JPanel implements DeadlineBlockInterface {
+class DeadlineInfoBlock extends JPanel implements ListCellRenderer<Deadline> {
+    /** the height of a line of text */
+    private static final int LINE_HEIGHT = 27;
+    /** the width the text is wrapped at */
+    private static final int TEXT_WIDTH = SideBarPanel.SIDEBAR_WIDTH - 30;
+    /** the color of the text of a past deadline */
+    private static final Color PAST_TEXT = new Color(0x6F6F6F);
+    /** the space below every deadline but the last one */
+    private static final Border SPACING = BorderFactory.createEmptyBorder(0, 0, 13, 0);
+    private static final Border NO_SPACING = BorderFactory.createEmptyBorder();
     private final SideBarPanel parent;
-    private JTextArea remainTime;
-    private String blockName;
+    private final JPanel content;
+    private final JTextArea deadlineName;
+    private final JTextArea remainTime;
+    private final FontMetrics nameMetrics;
+    /** the number of lines reserved for the remaining time of every row */
+    private final int remainLines;
+    private String nameText;
     private Deadline deadline;
+    private int hoveredIndex;
 
     /**
      * Constructor
      * @param parent the sideBarPanel main component
-     * @param name the course name with the deadline name, which would appear as the
-     *             title of DeadlineInfoBlock
-     * @param d the deadline object
-     * @requires parent != null, d != null,
-     * @modifies this, remainTime, blockName, parent, deadline
+     * @requires parent != null
+     * @modifies this, content, deadlineName, remainTime, nameMetrics, remainLines
      * @effects create an instance of DeadlineInfoBlock
      */
-    DeadlineInfoBlock(SideBarPanel parent, String name, Deadline d) {
-        super();
-        this.deadline = d;
-        this.setLayout(new BorderLayout());
+    DeadlineInfoBlock(SideBarPanel parent) {
+        super(new BorderLayout());
+        this.parent = parent;
+        this.hoveredIndex = -1;
+        this.nameText = "";
         this.setBackground(null);
         this.setOpaque(false);
-        this.addMouseListener(DeadlineCountdownFactory.getHoverEffect(this, parent.getTheme().SIDEBAR_HOVER()));
-        this.parent = parent;
-        this.blockName = name;
+
+        // the part of the row that is highlighted under the mouse
+        this.content = new JPanel(new BorderLayout());
+        this.content.setOpaque(false);
+        this.add(this.content, BorderLayout.CENTER);
 
         // an area to display the deadline name
-        JTextArea deadlineName = SideBarFactory.createSimpleTextArea(name, null,
-                parent.getTheme().SIDEBAR_TEXT());
-        deadlineName.setAlignmentX(Component.LEFT_ALIGNMENT);
-        deadlineName.setFont(new Font(ViewerFont.XHEI, Font.BOLD, 18));
-        deadlineName.setMargin(new Insets(2, 5, 2, 5));
-        deadlineName.setLineWrap(true);
-        deadlineName.setWrapStyleWord(true);
-        deadlineName.addMouseListener(DeadlineCountdownFactory.getHoverEffect(this,
-                parent.getTheme().SIDEBAR_HOVER()));
-        this.add(deadlineName, BorderLayout.NORTH);
+        this.deadlineName = SideBarFactory.createSimpleTextArea("", null, parent.getTheme().SIDEBAR_TEXT());
+        this.deadlineName.setAlignmentX(Component.LEFT_ALIGNMENT);
+        this.deadlineName.setFont(new Font(ViewerFont.XHEI, Font.BOLD, 18));
+        this.deadlineName.setMargin(new Insets(2, 5, 2, 5));
+        this.deadlineName.setLineWrap(true);
+        this.deadlineName.setWrapStyleWord(true);
+        this.content.add(this.deadlineName, BorderLayout.NORTH);
 
         // an area to display the remaining time
-        remainTime = SideBarFactory.createSimpleTextArea(
-                parent.getMainmainGUI().getFrame().getTextFormat().getRemainingText(deadline, null, true),
-                null, parent.getTheme().SIDEBAR_TEXT());
-        remainTime.setAlignmentX(Component.RIGHT_ALIGNMENT);
-        remainTime.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 18));
-        remainTime.setMargin(new Insets(2, 5, 2, 5));
-        remainTime.setLineWrap(true);
-        remainTime.setWrapStyleWord(true);
-        remainTime.addMouseListener(DeadlineCountdownFactory.getHoverEffect(this,
-                parent.getTheme().SIDEBAR_HOVER()));
-        this.add(remainTime, BorderLayout.SOUTH);
-
-        JPanel middleBlank = DeadlineCountdownFactory.createEmptyArea(2, true);
-        middleBlank.addMouseListener(DeadlineCountdownFactory.getHoverEffect(this,
-                parent.getTheme().SIDEBAR_HOVER()));
-
-        this.setMaximumSize(new Dimension(SideBarPanel.SIDEBAR_WIDTH - 20,
-                (getWrappedLines(deadlineName) + getWrappedLines(remainTime)) * 27));
-        this.setMinimumSize(new Dimension(SideBarPanel.SIDEBAR_WIDTH - 20,
-                (getWrappedLines(deadlineName) + getWrappedLines(remainTime)) * 27));
-        this.setPreferredSize(new Dimension(SideBarPanel.SIDEBAR_WIDTH - 20,
-                (getWrappedLines(deadlineName) + getWrappedLines(remainTime)) * 27));
-
-        // add the right-click menu
-        JPopupMenu menu = DeadlineCountdownFactory.createDeadlineBlockRightMenu(this,
-                parent.getMainmainGUI().getFrame().getTheme().SIDEBAR_TEXT(),
-                parent.getMainmainGUI().getFrame().getTheme().SIDEBAR_BACKGROUND());
-        this.setComponentPopupMenu(menu);
-        deadlineName.setComponentPopupMenu(menu);
-        this.remainTime.setComponentPopupMenu(menu);
-        middleBlank.setComponentPopupMenu(menu);
-        this.addMouseListener(DeadlineCountdownFactory.createRightClickMenuAction(menu));
-        deadlineName.addMouseListener(DeadlineCountdownFactory.createRightClickMenuAction(menu));
-        this.remainTime.addMouseListener(DeadlineCountdownFactory.createRightClickMenuAction(menu));
-        middleBlank.addMouseListener(DeadlineCountdownFactory.createRightClickMenuAction(menu));
-
-        // click to jump
-        MouseAdapter jumpToDate = new MouseAdapter() {
-            /**
-             * {@inheritDoc}
-             *
-             * @param e
-             */
-            @Override
-            public void mousePressed(MouseEvent e) {
-                super.mousePressed(e);
-                if (SwingUtilities.isLeftMouseButton(e)) {
-                    parent.getMainmainGUI().getFrame().highlightDate(deadline.getMonth(), deadline.getYear(), deadline.getDay());
-                }
-            }
-        };
-        this.addMouseListener(jumpToDate);
-        this.remainTime.addMouseListener(jumpToDate);
-        deadlineName.addMouseListener(jumpToDate);
-        middleBlank.addMouseListener(jumpToDate);
-
-        if (!deadline.isAfter(CalendarWrapper.now())) {
-            deadlineName.setDisabledTextColor(new Color(0x6F6F6F));
-            remainTime.setDisabledTextColor(new Color(0x6F6F6F));
-        }
-    }
-
-    /**
-     * This function would return the blockName
-     * @requires None
-     * @modifies None
-     * @effects None
-     * @return blockName
-     */
-    String getBlockName() {
-        return this.blockName;
-    }
-
-    /**
-     * This function would update the remaining time text
-     * @param remainingText the next remaining time
-     * @requires None
-     * @modifies this.remainTime
-     * @effects update the text
-     */
-    void updateRemainingText(String remainingText) {
-        this.remainTime.setText(remainingText);
-    }
-
-    /**
-     * This method returns the course name of current deadline
-     * @return this.courseName
-     * @requires None
-     * @modifies None
-     * @effects None
-     */
-    @Override
-    public String getCourseName() {
-        return this.deadline.getCourseName();
-    }
-
-    /**
-     * This method returns the current deadline
-     *
-     * @return this.deadline
-     * @requires None
-     * @modifies None
-     * @effects None
-     */
-    @Override
-    public Deadline getDeadline() {
-        return this.deadline;
+        this.remainTime = SideBarFactory.createSimpleTextArea("", null, parent.getTheme().SIDEBAR_TEXT());
+        this.remainTime.setAlignmentX(Component.RIGHT_ALIGNMENT);
+        this.remainTime.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 18));
+        this.remainTime.setMargin(new Insets(2, 5, 2, 5));
+        this.remainTime.setLineWrap(true);
+        this.remainTime.setWrapStyleWord(true);
+        this.content.add(this.remainTime, BorderLayout.SOUTH);
+
+        this.nameMetrics = this.deadlineName.getFontMetrics(this.deadlineName.getFont());
+        this.remainLines = getRemainLines(parent.getMainmainGUI().getFrame().getTextFormat(),
+                this.remainTime.getFontMetrics(this.remainTime.getFont()));
     }
 
     /**
-     * This method returns the year number of current deadline
-     * @return this.year
-     * @requires None
+     * This method works out how many lines the remaining time of a row can take.
+     * The remaining time changes every minute, so every row reserves the lines of
+     * the longest remaining time, with months, and the height of a row does not
+     * depend on the current time
+     * @param textFormat the text format of the remaining time
+     * @param metrics the metrics of the font of the remaining time
+     * @requires textFormat != null, metrics != null
      * @modifies None
      * @effects None
+     * @return the number of lines of the longest remaining time
      */
-    @Override
-    public int getYear() {
-        return this.deadline.getYear();
+    private static int getRemainLines(BaseText textFormat, FontMetrics metrics) {
+        try {
+            // two digits of every unit, in the plural, both before and after the due time
+            Deadline longest = new Deadline(2000, 12, 29, 23, 59, "", "", null, "");
+            CalendarWrapper before = new CalendarWrapper(2000, 1, 1, 0, 0);
+            CalendarWrapper after = new CalendarWrapper(2001, 12, 28, 23, 58);
+            return Math.max(getWrappedLines(textFormat.getRemainingText(longest, before, true), metrics),
+                    getWrappedLines(textFormat.getRemainingText(longest, after, true), metrics));
+        } catch (CalendarWrapper.CalendarFormatException e) {
+            Log.error("[DeadlineInfoBlock] Error when measuring the remaining time", e);
+            return 2;
+        }
     }
 
     /**
-     * This method returns the month number of current deadline
-     * @return this.month
+     * This function sets the row under the mouse, which is painted highlighted
+     * @param index the row number, -1 if the mouse is not over a row
      * @requires None
-     * @modifies None
+     * @modifies hoveredIndex
      * @effects None
      */
-    @Override
-    public int getMonth() {
-        return this.deadline.getMonth();
+    void setHoveredIndex(int index) {
+        this.hoveredIndex = index;
     }
 
     /**
-     * This method returns the date number of current deadline
-     * @return this.date
+     * This function would return the row under the mouse
      * @requires None
      * @modifies None
      * @effects None
+     * @return hoveredIndex
      */
-    @Override
-    public int getDate() {
-        return this.deadline.getDay();
+    int getHoveredIndex() {
+        return this.hoveredIndex;
     }
 
     /**
-     * This method returns the deadline name of current deadline
-     * @return this.deadlineName
-     * @requires None
-     * @modifies None
-     * @effects None
+     * {@inheritDoc}
+     * Set this block up to paint or measure the deadline of a row. The list measures
+     * every row when it lays itself out, so the height is worked out from the name
+     * and the lines reserved for the remaining time; the remaining time is only
+     * worked out, and the text areas filled in, when a row is painted.
+     * @param list the summary list
+     * @param deadline the deadline of the row
+     * @param index the row number
+     * @param isSelected not used; rows are not shown as selected
+     * @param cellHasFocus not used
+     * @requires deadline != null
+     * @modifies this
+     * @effects show the deadline
+     * @return this
      */
     @Override
-    public String getDeadlineName() {
-        return this.deadline.getName();
-    }
+    public Component getListCellRendererComponent(JList<? extends Deadline> list, Deadline deadline, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        this.deadline = deadline;
+        this.nameText = deadline.getCourseName().replace("Spring 2019     ", "") + ": " + deadline.getName();
+        Color textColor = deadline.getDueMinute() > EpochMinute.currentEpochMinute()
+                ? parent.getTheme().SIDEBAR_TEXT() : PAST_TEXT;
+        if (!textColor.equals(this.deadlineName.getDisabledTextColor())) {
+            this.deadlineName.setDisabledTextColor(textColor);
+            this.remainTime.setDisabledTextColor(textColor);
+        }
 
-    /**
-     * This function would delete the deadline that current deadlineInfoBlock is
-     * representing
-     * @requires None
-     * @modifies this.parent
-     * @effects delete current deadline
-     */
-    @Override
-    public void delete() {
-        this.parent.handleRemoveSignal(this.deadline.getCourseName(),
-                this.deadline.getName(),
-                this.deadline.getYear(),
-                this.deadline.getMonth(),
-                this.deadline.getDay());
-    }
+        boolean hovered = index == this.hoveredIndex;
+        this.content.setOpaque(hovered);
+        this.content.setBackground(hovered ? parent.getTheme().SIDEBAR_HOVER() : null);
 
-    /**
-     * This function would edit the deadline that current DeadlineBlock is
-     * representing
-     * @requires None
-     * @modifies this.parent
-     * @effects edit current deadline
-     */
-    @Override
-    public void edit() {
-        this.parent.handleEditSignal(this.deadline);
+        boolean last = index == list.getModel().getSize() - 1;
+        this.setBorder(last ? NO_SPACING : SPACING);
+        int height = (getWrappedLines(this.nameText, this.nameMetrics) + this.remainLines) * LINE_HEIGHT;
+        this.setPreferredSize(new Dimension(SideBarPanel.SIDEBAR_WIDTH - 20,
+                height + this.getInsets().bottom));
+        return this;
     }
 
     /**
-     * This function would export the deadline that current DeadlineBlock is
-     * representing
+     * {@inheritDoc}
+     * Fill in the text areas with the text of the row being painted, including its
+     * current remaining time, and lay them out first
+     * @param g the Graphics context in which to paint
      * @requires None
-     * @modifies this.parent
-     * @effects export current deadline
+     * @modifies deadlineName, remainTime
+     * @effects paint the row
      */
     @Override
-    public void export() {
-        DeadlineExporter exporter = new DeadlineExporter(this.deadline, parent.getMainmainGUI(), "DeadlineBlock");
-        exporter.export();
+    public void paint(Graphics g) {
+        if (!this.nameText.equals(this.deadlineName.getText())) {
+            this.deadlineName.setText(this.nameText);
+        }
+        String remainText = parent.getMainmainGUI().getFrame().getTextFormat()
+                .getRemainingText(this.deadline, null, true);
+        if (!remainText.equals(this.remainTime.getText())) {
+            this.remainTime.setText(remainText);
+        }
+        this.doLayout();
+        this.content.doLayout();
+        super.paint(g);
     }
 
     /**
-     * This method is created in order to count the actual lines including those
-     * cause by auto-wrap since JDK doesn't provide with such function. It counts
-     * the total length of characters and compare it with the maximum width of the
-     * component.
-     * Note: This method is from
-     * <url>https://stackoverflow.com/questions/6366776/how-to-count-the-number-of-lines-in-a-jtextarea-including-those-caused-by-wrapp</url>
-     * @param textArea the JTextArea
-     * @requires None
+     * This method counts the lines a text area of the row wraps a text into,
+     * breaking lines between words like the text area does. It adds up the widths
+     * of the words from the font metrics, so it is cheap enough to be called for
+     * every row of a long list whenever the list is laid out.
+     * @param string the text
+     * @param metrics the metrics of the font of the text area
+     * @requires string != null, metrics != null
      * @modifies None
      * @effects None
-     * @return the number of physical lines in this JTextArea
+     * @return the number of physical lines of the text
      */
-    private static int getWrappedLines(JTextArea textArea) {
-        AttributedString text = new AttributedString(textArea.getText());
-        text.addAttribute(TextAttribute.FONT, textArea.getFont());
-        FontRenderContext frc = textArea.getFontMetrics(textArea.getFont()).getFontRenderContext();
-        AttributedCharacterIterator charIt = text.getIterator();
-        LineBreakMeasurer lineMeasurer = new LineBreakMeasurer(charIt, frc);
-        float formatWidth = SideBarPanel.SIDEBAR_WIDTH - 30;
-        lineMeasurer.setPosition(charIt.getBeginIndex());
-
-        int noLines = 0;
-        while (lineMeasurer.getPosition() < charIt.getEndIndex()) {
-            lineMeasurer.nextLayout(formatWidth);
-            noLines++;
+    private static int getWrappedLines(String string, FontMetrics metrics) {
+        char[] text = string.toCharArray();
+        int spaceWidth = metrics.charWidth(' ');
+        int lines = 1;
+        int lineWidth = 0;
+        int start = 0;
+        while (start < text.length) {
+            int end = start;
+            while (end < text.length && text[end] != ' ') {
+                end++;
+            }
+            if (end > start) {
+                int wordWidth = metrics.charsWidth(text, start, end - start);
+                if (lineWidth > 0 && lineWidth + spaceWidth + wordWidth > TEXT_WIDTH) {
+                    lines++;
+                    lineWidth = 0;
+                }
+                lineWidth += (lineWidth > 0 ? spaceWidth : 0) + wordWidth;
+                // a word wider than a line is broken between characters
+                while (lineWidth > TEXT_WIDTH) {
+                    lines++;
+                    lineWidth -= TEXT_WIDTH;
+                }
+            }
+            start = end + 1;
         }
-        return noLines;
-
+        return lines;
     }
 }
@@ -0,0 +1,70 @@
+package main.viewer.sideBarPanel;
+
+import model.Deadline;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the deadlines listed in the summary part of the side bar. The
+ * list shows them through one DeadlineInfoBlock that paints the visible rows, so
+ * no component is created per deadline.
+ */
+class DeadlineListModel extends AbstractListModel<Deadline> {
+    private List<Deadline> deadlines;
+
+    /**
+     * Constructor
+     * @requires None
+     * @modifies deadlines
+     * @effects create an empty DeadlineListModel
+     */
+    DeadlineListModel() {
+        this.deadlines = new ArrayList<>();
+    }
+
+    /**
+     * This function replaces the listed deadlines and notifies the list once
+     * @param deadlines the deadlines in the order they are listed
+     * @requires deadlines != null
+     * @modifies this.deadlines
+     * @effects list the deadlines; the list is retained and must not be changed
+     */
+    void setDeadlines(List<Deadline> deadlines) {
+        int oldSize = this.deadlines.size();
+        this.deadlines = deadlines;
+        int newSize = deadlines.size();
+        if (oldSize > newSize) {
+            this.fireIntervalRemoved(this, newSize, oldSize - 1);
+        } else if (newSize > oldSize) {
+            this.fireIntervalAdded(this, oldSize, newSize - 1);
+        }
+        if (Math.min(oldSize, newSize) > 0) {
+            this.fireContentsChanged(this, 0, Math.min(oldSize, newSize) - 1);
+        }
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of listed deadlines
+     */
+    @Override
+    public int getSize() {
+        return this.deadlines.size();
+    }
+
+    /**
+     * @param index the row number
+     * @requires 0 <= index < getSize()
+     * @modifies None
+     * @effects None
+     * @return the deadline listed in the row
+     */
+    @Override
+    public Deadline getElementAt(int index) {
+        return this.deadlines.get(index);
+    }
+}
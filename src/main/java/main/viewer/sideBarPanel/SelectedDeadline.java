@@ -0,0 +1,146 @@
+package main.viewer.sideBarPanel;
+
+import model.Deadline;
+import main.viewer.DeadlineBlockInterface;
+import main.viewer.util.DeadlineExporter;
+
+/**
+ * This class is the target of the right-click menu of the summary list: the menu is
+ * shared by every row, and the row that was clicked is set before it is shown.
+ */
+class SelectedDeadline implements DeadlineBlockInterface {
+    private final SideBarPanel parent;
+    private Deadline deadline;
+
+    /**
+     * Constructor
+     * @param parent the sideBarPanel main component
+     * @requires parent != null
+     * @modifies this
+     * @effects create a SelectedDeadline with no deadline
+     */
+    SelectedDeadline(SideBarPanel parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * This function sets the deadline the menu acts on
+     * @param deadline the deadline of the clicked row
+     * @requires deadline != null
+     * @modifies this.deadline
+     * @effects None
+     */
+    void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * This method returns the course name of current deadline
+     * @return this.courseName
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public String getCourseName() {
+        return this.deadline.getCourseName();
+    }
+
+    /**
+     * This method returns the current deadline
+     * @return this.deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+
+    /**
+     * This method returns the year number of current deadline
+     * @return this.year
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public int getYear() {
+        return this.deadline.getYear();
+    }
+
+    /**
+     * This method returns the month number of current deadline
+     * @return this.month
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public int getMonth() {
+        return this.deadline.getMonth();
+    }
+
+    /**
+     * This method returns the date number of current deadline
+     * @return this.date
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public int getDate() {
+        return this.deadline.getDay();
+    }
+
+    /**
+     * This method returns the deadline name of current deadline
+     * @return this.deadlineName
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    @Override
+    public String getDeadlineName() {
+        return this.deadline.getName();
+    }
+
+    /**
+     * This function would delete the current deadline
+     * @requires None
+     * @modifies this.parent
+     * @effects delete current deadline
+     */
+    @Override
+    public void delete() {
+        this.parent.handleRemoveSignal(this.deadline.getCourseName(),
+                this.deadline.getName(),
+                this.deadline.getYear(),
+                this.deadline.getMonth(),
+                this.deadline.getDay());
+    }
+
+    /**
+     * This function would edit the current deadline
+     * @requires None
+     * @modifies this.parent
+     * @effects edit current deadline
+     */
+    @Override
+    public void edit() {
+        this.parent.handleEditSignal(this.deadline);
+    }
+
+    /**
+     * This function would export the current deadline
+     * @requires None
+     * @modifies None
+     * @effects export current deadline
+     */
+    @Override
+    public void export() {
+        DeadlineExporter exporter = new DeadlineExporter(this.deadline, parent.getMainmainGUI(), "DeadlineBlock");
+        exporter.export();
+    }
+}
@@ -93,7 +93,7 @@ class SideBarFactory {
 
     /**
      * This function would create a JScrollPane with Flat design & dark background
-     * @param insidePanel the panel that would stay inside the scroll pane
+     * @param insidePanel the panel or list that would stay inside the scroll pane
      * @param backgroundColor color for the background
      * @param scrollBarColor color for scroll bar
      * @requires insidePanel != null
@@ -101,7 +101,7 @@ class SideBarFactory {
      * @effects None
      * @return a new JScrollPane
      */
-    static JScrollPane createSimpleScrollPanel(JPanel insidePanel, Color backgroundColor, Color scrollBarColor) {
+    static JScrollPane createSimpleScrollPanel(JComponent insidePanel, Color backgroundColor, Color scrollBarColor) {
         ModernScrollPane scrollPanel = new ModernScrollPane(insidePanel);
         scrollPanel.setScrollBarColor(scrollBarColor);
         scrollPanel.getVerticalScrollBar().setUnitIncrement(20);
@@ -1,7 +1,8 @@
 package main.viewer.sideBarPanel;
 
-import model.CalendarWrapper;
 import model.Deadline;
+import model.DeadlineIndex;
+import model.EpochMinute;
 import main.controller.GUIController;
 import main.viewer.Log;
 import main.controller.Settings;
@@ -15,23 +16,30 @@ import javax.swing.BoxLayout;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
+import javax.swing.JList;
 import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import java.awt.BorderLayout;
 import java.awt.CardLayout;
-import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.ItemEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 /**
  * This component is created to represent the side bar of main.
@@ -39,21 +47,26 @@ import java.util.TreeSet;
 public class SideBarPanel extends JPanel {
     public static final int SIDEBAR_WIDTH = 350;
     private final GUIController parent;
-    private HashMap<String, Deadline> allDeadlines;
+    private DeadlineIndex allDeadlines;
     private TreeSet<String> allCourseNames;
     private String username;
     private JTextArea welcomeTextArea;
     private JComboBox<String> sortOrderBox;
-    private Comparator<Deadline> sortOrder;
+    private Supplier<Comparator<Deadline>> sortOrder;
     private JPanel lowerPart;
     private JScrollPane summaryScrollPanel;
-    private JPanel summaryPanel;
+    private DeadlineListModel summaryModel;
+    private JList<Deadline> summaryList;
+    private DeadlineInfoBlock summaryRenderer;
+    private SelectedDeadline selectedDeadline;
     private JScrollPane courseScrollPanel;
     private JPanel coursePanel;
     private addNewDeadlinePanel addNewDeadlinePanel;
     private addNewDeadlinePanel editDeadlinePanel;
     private JCheckBox pastDeadlinesBox;
     private CardLayout cardLayout;
+    private Timer refreshTimer;
+    private long refreshedMinute;
 
     public static final class PANEL {
         public static final String DEADLINE_PANEL = "Deadline list";
@@ -70,8 +83,9 @@ public class SideBarPanel extends JPanel {
      * @param username a string stores the username
      * @param parent the GUIController main component
      * @requires deadlines != null, username != null, parent != null
-     * @modifies this, username, parent, sortOrder, sortOrderBox, summaryPanel,
-     *           summaryScrollPanel, addNewDeadlinePanel, settingsPanel, cardLayout
+     * @modifies this, username, parent, sortOrder, sortOrderBox, summaryModel, summaryList,
+     *           summaryRenderer, selectedDeadline, summaryScrollPanel, addNewDeadlinePanel, settingsPanel, cardLayout,
+     *           refreshTimer, refreshedMinute
      * @effects create an instance of the side bar of main
      */
     public SideBarPanel(HashMap<String, Deadline> deadlines, String username, GUIController parent) {
@@ -80,16 +94,19 @@ public class SideBarPanel extends JPanel {
         this.setMinimumSize(new Dimension(350, 0));
         this.setBackground(parent.getFrame().getTheme().SIDEBAR_BACKGROUND());
         this.setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
-        this.allDeadlines = (deadlines != null) ? deadlines: (new HashMap<>());
+        this.allDeadlines = new DeadlineIndex();
         this.allCourseNames = new TreeSet<>();
-        for (Deadline d: allDeadlines.values()) {
-            this.allCourseNames.add(d.getCourseName());
+        if (deadlines != null) {
+            for (Deadline d: deadlines.values()) {
+                this.allDeadlines.put(d);
+                this.allCourseNames.add(d.getCourseName());
+            }
         }
         this.username = username;
         this.parent = parent;
 
         // configure the order of sorting the deadlines
-        this.sortOrder = Comparator.naturalOrder();
+        this.sortOrder = Deadline::remainingTimeOrder;
         this.sortOrderBox = SideBarFactory.createComboBox(parent.getFrame().getTheme().SIDEBAR_HOVER(),
                 parent.getFrame().getTheme().SIDEBAR_BACKGROUND(), parent.getFrame().getTheme().SIDEBAR_TEXT());
         this.sortOrderBox.setPreferredSize(new Dimension(170, 30));
@@ -103,25 +120,20 @@ public class SideBarPanel extends JPanel {
                     JComboBox cb = (JComboBox) source;
                     Object selectedItem = cb.getSelectedItem();
                     if (parent.getFrame().getText("date2").equals(selectedItem)) {
-                        sortOrder = Comparator.naturalOrder();
+                        sortOrder = Deadline::remainingTimeOrder;
                     } else if (parent.getFrame().getText("date").equals(selectedItem)) {
-                        sortOrder = Comparator.comparing(Deadline::getTime);
+                        sortOrder = () -> Deadline.DUE_ORDER;
                     } else if (parent.getFrame().getText("name").equals(selectedItem)) {
-                        sortOrder = Comparator.comparing(o -> (o.getCourseName() + " " + o.getName()));
+                        sortOrder = () -> Comparator.comparing(o -> (o.getCourseName() + " " + o.getName()));
                     }
                 }
                 this.updateSummaryPanel();  // Refresh after changing order
             }
         });
 
-        // create a panel to list the deadlines
-        this.summaryPanel = new JPanel();
-        this.summaryPanel.setBackground(this.getTheme().SIDEBAR_BACKGROUND());
-        this.summaryPanel.setBounds(0,0,0,0);
-        this.summaryPanel.setBorder(BorderFactory.createEmptyBorder());
-        this.summaryPanel.setLayout(new BoxLayout(this.summaryPanel, BoxLayout.Y_AXIS));
-
-        this.summaryScrollPanel = SideBarFactory.createSimpleScrollPanel(this.summaryPanel,
+        // create a list of the deadlines
+        this.createSummaryList();
+        this.summaryScrollPanel = SideBarFactory.createSimpleScrollPanel(this.summaryList,
                 parent.getFrame().getTheme().SIDEBAR_BACKGROUND(), parent.getFrame().getTheme().SIDEBAR_TEXT());
 
         // create a panel to list the courses
@@ -173,8 +185,184 @@ public class SideBarPanel extends JPanel {
         // the lower part: including the summary panel and the addNewDeadline panel
         this.add(this.lowerPart);
 
-        // automatically update the summary panel every minute
-        new Timer(60000, e -> refresh()).start();
+        // automatically update the summary panel at the start of every minute
+        this.refreshedMinute = EpochMinute.currentEpochMinute();
+        this.refreshTimer = new Timer(0, e -> {
+            long nowMinute = EpochMinute.currentEpochMinute();
+            if (nowMinute != refreshedMinute) {
+                refreshedMinute = nowMinute;
+                refresh();
+            }
+            scheduleRefresh();
+        });
+        this.refreshTimer.setRepeats(false);
+        this.scheduleRefresh();
+    }
+
+    /**
+     * This function starts refreshTimer so that it fires at the start of the next
+     * minute of the wall clock. The timer is started again every time it fires,
+     * so the refresh does not drift away from the minute boundary
+     * @requires None
+     * @modifies refreshTimer
+     * @effects start refreshTimer
+     */
+    private void scheduleRefresh() {
+        long delay = EpochMinute.MILLIS_PER_MINUTE
+                - Math.floorMod(System.currentTimeMillis(), EpochMinute.MILLIS_PER_MINUTE);
+        this.refreshTimer.setInitialDelay((int) delay);
+        this.refreshTimer.restart();
+    }
+
+    /**
+     * This function creates the list of deadlines in the summary part. The list
+     * paints its visible rows with one DeadlineInfoBlock and shares one right-click
+     * menu among its rows, so a deadline that is scrolled out of view costs no
+     * component
+     * @requires None
+     * @modifies summaryModel, summaryList, summaryRenderer, selectedDeadline
+     * @effects create the summary list
+     */
+    private void createSummaryList() {
+        this.summaryModel = new DeadlineListModel();
+        this.summaryList = new JList<>(this.summaryModel);
+        this.summaryRenderer = new DeadlineInfoBlock(this);
+        this.summaryList.setCellRenderer(this.summaryRenderer);
+        this.summaryList.setBackground(this.getTheme().SIDEBAR_BACKGROUND());
+        this.summaryList.setBorder(BorderFactory.createEmptyBorder());
+
+        // add the right-click menu, which acts on the row it is opened on
+        this.selectedDeadline = new SelectedDeadline(this);
+        JPopupMenu menu = DeadlineCountdownFactory.createDeadlineBlockRightMenu(this.selectedDeadline,
+                this.getTheme().SIDEBAR_TEXT(), this.getTheme().SIDEBAR_BACKGROUND());
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            /**
+             * {@inheritDoc}
+             * @param e the mouse event
+             * @requires None
+             * @modifies summaryRenderer
+             * @effects highlight the row under the mouse
+             */
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHoveredRow(getRowAt(e.getPoint()));
+            }
+
+            /**
+             * {@inheritDoc}
+             * @param e the mouse event
+             * @requires None
+             * @modifies summaryRenderer
+             * @effects stop highlighting a row
+             */
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHoveredRow(-1);
+            }
+
+            /**
+             * {@inheritDoc}
+             * Show the right-click menu, or jump to the due date of the deadline
+             * @param e the mouse event
+             * @requires None
+             * @modifies None
+             * @effects show the popup menu or highlight the due date
+             */
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int row = getRowAt(e.getPoint());
+                if (row < 0) {
+                    return;
+                }
+                Deadline deadline = summaryModel.getElementAt(row);
+                if (e.isPopupTrigger()) {
+                    showMenu(e, deadline);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    parent.getFrame().highlightDate(deadline.getMonth(), deadline.getYear(), deadline.getDay());
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             * @param e the mouse event
+             * @requires None
+             * @modifies None
+             * @effects show the popup menu
+             */
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int row = getRowAt(e.getPoint());
+                if (row >= 0 && e.isPopupTrigger()) {
+                    showMenu(e, summaryModel.getElementAt(row));
+                }
+            }
+
+            /**
+             * This function would show the popup right-click menu for a deadline
+             * @param e the mouse event
+             * @param deadline the deadline of the row
+             * @requires None
+             * @modifies selectedDeadline
+             * @effects show the popup menu
+             */
+            private void showMenu(MouseEvent e, Deadline deadline) {
+                selectedDeadline.setDeadline(deadline);
+                menu.show(e.getComponent(), e.getX(), e.getY());
+            }
+        };
+        this.summaryList.addMouseListener(mouseHandler);
+        this.summaryList.addMouseMotionListener(mouseHandler);
+    }
+
+    /**
+     * This function returns the row of the summary list at a point
+     * @param point the point in the list
+     * @requires point != null
+     * @modifies None
+     * @effects None
+     * @return the row number, -1 if there is no row at the point
+     */
+    private int getRowAt(Point point) {
+        int row = this.summaryList.locationToIndex(point);
+        if (row < 0) {
+            return -1;
+        }
+        Rectangle bounds = this.summaryList.getCellBounds(row, row);
+        return bounds != null && bounds.contains(point) ? row : -1;
+    }
+
+    /**
+     * This function highlights the row of the summary list under the mouse
+     * @param row the row number, -1 for none
+     * @requires None
+     * @modifies summaryRenderer, summaryList
+     * @effects repaint the rows that are highlighted or no longer highlighted
+     */
+    private void setHoveredRow(int row) {
+        int old = this.summaryRenderer.getHoveredIndex();
+        if (old == row) {
+            return;
+        }
+        this.summaryRenderer.setHoveredIndex(row);
+        this.repaintRow(old);
+        this.repaintRow(row);
+    }
+
+    /**
+     * This function repaints a row of the summary list
+     * @param row the row number
+     * @requires None
+     * @modifies summaryList
+     * @effects repaint the row if it exists
+     */
+    private void repaintRow(int row) {
+        if (row < 0 || row >= this.summaryModel.getSize()) {
+            return;
+        }
+        Rectangle bounds = this.summaryList.getCellBounds(row, row);
+        if (bounds != null) {
+            this.summaryList.repaint(bounds);
+        }
     }
 
     /**
@@ -253,12 +441,26 @@ public class SideBarPanel extends JPanel {
      */
     public void addDeadline(Deadline deadline) {
         if (deadline == null) return;
-        this.allDeadlines.put(deadline.getCourseName().replace("Spring 2019     ", "") + ": " + deadline.getName(),
-                deadline);
-        this.allCourseNames.add(deadline.getCourseName());
-        this.addNewDeadlinePanel.addCourse(deadline.getCourseName());
-        Log.debug("DEBUG: [SideBarPanel_] {" + deadline.toString() + "} will be added to sidebar.", Log.ANSI_BLUE);
-        this.updateSummaryPanel();   // update the summary after adding a deadline
+        this.addDeadlines(Collections.singletonList(deadline));
+    }
+
+    /**
+     * This function would add a batch of deadlines to the summary panel and the set
+     * containing all course names, updating each panel once
+     * @param deadlines the deadline objects
+     * @requires deadlines != null
+     * @modifies allDeadlines, allCourseNames, addNewDeadlinePanel, summaryPanel
+     * @effects add new deadlines to the summary panel
+     */
+    public void addDeadlines(Collection<Deadline> deadlines) {
+        for (Deadline deadline : deadlines) {
+            this.allDeadlines.put(deadline);
+            if (this.allCourseNames.add(deadline.getCourseName())) {
+                this.addNewDeadlinePanel.addCourse(deadline.getCourseName());
+            }
+            Log.debug("DEBUG: [SideBarPanel_] {" + deadline.toString() + "} will be added to sidebar.", Log.ANSI_BLUE);
+        }
+        this.updateSummaryPanel();   // update the summary after adding deadlines
         this.updateCoursePanel();
     }
 
@@ -288,8 +490,7 @@ public class SideBarPanel extends JPanel {
      * @effects remove a deadline
      */
     public void removeDeadline(String course, String deadlineName, int year, int month, int day) {
-        this.allDeadlines.remove(course.replace("Spring 2019     ", "")
-                + ": " + deadlineName);
+        this.allDeadlines.remove(course, deadlineName);
         this.allCourseNames.remove(course);
         this.updateSummaryPanel();   // update the summary panel after removing a course
     }
@@ -378,23 +579,18 @@ public class SideBarPanel extends JPanel {
     }
 
     /**
-     * This function would update the remaining time information of all DeadlineInfoBlocks
+     * This function would update the remaining time information of the deadlines
+     * in the summary list. The rows work out their remaining time when they are
+     * painted, so only the rows in the viewport are computed again; a row that is
+     * scrolled into view later works out its remaining time when it is painted.
+     * The height of a row does not depend on the remaining time, so no row is
+     * measured again
      * @requires None
-     * @modifies this.summaryPanel
-     * @effects update the remaining time
+     * @modifies this.summaryList
+     * @effects update the remaining time of the visible rows
      */
     private void refresh() {
-        int pos = this.summaryScrollPanel.getVerticalScrollBar().getValue();
-        for (Component c: this.summaryPanel.getComponents()) {
-            if (c instanceof DeadlineInfoBlock) {
-                DeadlineInfoBlock block = (DeadlineInfoBlock) c;
-                block.updateRemainingText(
-                        parent.getFrame().getTextFormat().getRemainingText(
-                                this.allDeadlines.get(block.getBlockName()), null, true));
-            }
-        }
-        // move the scrollbar back to the original position
-        SwingUtilities.invokeLater(() -> summaryScrollPanel.getVerticalScrollBar().setValue(pos));
+        this.summaryList.repaint(this.summaryList.getVisibleRect());
     }
 
     /**
@@ -443,39 +639,31 @@ public class SideBarPanel extends JPanel {
     }
 
     /**
-     * This function would remove all components from the summary panel and re-add
-     * all deadline blocks
+     * This function would list the deadlines in the summary list again, in the
+     * current sort order and without the deadlines of ignored courses
      * @requires None
-     * @modifies summaryPanel
-     * @effects re-add all deadline information to the summary panel
+     * @modifies summaryModel
+     * @effects re-list all deadline information in the summary list
      */
     public void updateSummaryPanel() {
-        // delete old components
-        this.summaryPanel.removeAll();
-        this.summaryPanel.revalidate();
-        this.summaryPanel.repaint();
-
         // save scroll bar position
         int pos = this.summaryScrollPanel.getVerticalScrollBar().getValue();
 
-        // add deadlines one by one
-        int i = 0;
-        ArrayList<Deadline> list = new ArrayList<>(this.allDeadlines.values());
-        list.sort(sortOrder);
+        // upcoming deadlines, then past ones, each in due order; past deadlines are
+        // not looked at unless they are shown, and sorting nearly sorted lists is linear
+        long now = EpochMinute.currentEpochMinute();
+        List<Deadline> list = this.allDeadlines.range(now + 1, Long.MAX_VALUE);
+        if (parent.getSettings().isShowPastDeadlines()) {
+            list.addAll(this.allDeadlines.range(Long.MIN_VALUE, now + 1));
+        }
+        list.sort(sortOrder.get());
+        List<Deadline> shown = new ArrayList<>(list.size());
         for (Deadline d: list) {
-            if (d.isBefore(CalendarWrapper.now()) && !parent.getSettings().isShowPastDeadlines()) {
-                continue;
-            }
-            if (parent.isIgnoring(d.getCourseName())) {
-                continue;
-            }
-            this.summaryPanel.add(new DeadlineInfoBlock(this,
-                    d.getCourseName().replace("Spring 2019     ", "") + ": " + d.getName(), d));
-            if (i != list.size() - 1) {
-                this.summaryPanel.add(DeadlineCountdownFactory.createEmptyArea(13, true));
+            if (!parent.isIgnoring(d.getCourseName())) {
+                shown.add(d);
             }
-            i++;
         }
+        this.summaryModel.setDeadlines(shown);
 
         // restore scroll bar's position
         SwingUtilities.invokeLater(() -> summaryScrollPanel.getVerticalScrollBar().setValue(pos));
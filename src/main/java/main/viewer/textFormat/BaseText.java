@@ -166,9 +166,9 @@ public abstract class BaseText {
     /**
      * This function returns a string to represent the remaining time to a given deadline
      * @param deadline the given deadline
-     * @param currentTime the current time
+     * @param currentTime the current time, null for now
      * @param showIndicator whether this string should include "later/ago" indicator
-     * @requires deadline != null; currentTime != null
+     * @requires deadline != null
      * @modifies None
      * @effects None
      * @return a string to represent the remaining time to a given deadline
@@ -23,7 +23,8 @@ import java.awt.event.MouseEvent;
 import java.net.URL;
 
 /**
- * This is the loading dialog when the program tries to connect to submitty
+ * This is the loading dialog when the program tries to connect to submitty or
+ * imports local files
  */
 public class LoadingDialog extends JDialog {
     private JLabel currProgressLabel;
@@ -36,15 +37,26 @@ public class LoadingDialog extends JDialog {
      * @effects create a new LoadingDialog instance
      */
     public LoadingDialog(GUIController parent) {
+        this(parent, parent.getFrame().getText("submitty_loading"), "Accessing Submitty...");
+    }
+
+    /**
+     * Constructor
+     * @param parent the GUIController main part
+     * @param loadingText the text shown next to the loading animation
+     * @param progressText the initial text of the progress label
+     * @requires parent != null
+     * @modifies currProgressLabel
+     * @effects create a new LoadingDialog instance
+     */
+    public LoadingDialog(GUIController parent, String loadingText, String progressText) {
         super();
 
         // progress
-        this.currProgressLabel = new JLabel("Accessing Submitty...");
+        this.currProgressLabel = new JLabel(progressText);
         this.currProgressLabel.setFont(new Font(ViewerFont.XHEI, Font.PLAIN, 16));
         this.currProgressLabel.setOpaque(false);
 
-        String loadingText = parent.getFrame().getText("submitty_loading");
-
         // create waiting panel and loading animation
         JPanel loadingPanel = new JPanel();
         loadingPanel.setLayout(new BorderLayout());
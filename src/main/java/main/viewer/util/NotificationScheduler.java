@@ -0,0 +1,232 @@
+package main.viewer.util;
+
+import main.viewer.Log;
+import model.EpochMinute;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class sends the notifications of all deadline timers from one thread. Each
+ * running timer has the minute of its next notification in a priority queue, and
+ * the thread sleeps until the earliest one. A deadline is notified 14 days to 1 day
+ * before it is due every day, then every hour, then at 45, 30 and 15 minutes, at
+ * 10 and 5 minutes and every minute in the last 4 minutes. Nothing runs on the
+ * event dispatch thread until a notification is due.
+ */
+public class NotificationScheduler {
+    /** the minute returned by nextNotificationMinute when no notification is left */
+    public static final long NO_NOTIFICATION = Long.MAX_VALUE;
+    /** the minutes before the due time to send a notification at, from the earliest */
+    private static final int[] LADDER;
+
+    static {
+        List<Integer> ladder = new ArrayList<>();
+        for (int days = 14; days >= 1; days--) {
+            ladder.add(days * EpochMinute.MINUTES_PER_DAY);
+        }
+        for (int hours = 23; hours >= 1; hours--) {
+            ladder.add(hours * EpochMinute.MINUTES_PER_HOUR);
+        }
+        for (int minutes : new int[] {45, 30, 15, 10, 5, 4, 3, 2, 1}) {
+            ladder.add(minutes);
+        }
+        LADDER = new int[ladder.size()];
+        for (int i = 0; i < LADDER.length; i++) {
+            LADDER[i] = ladder.get(i);
+        }
+    }
+
+    /**
+     * This class is a timer waiting in the queue
+     */
+    private static final class Entry {
+        final DeadlineTimer timer;
+        final long fireMinute;
+        boolean cancelled;
+
+        Entry(DeadlineTimer timer, long fireMinute) {
+            this.timer = timer;
+            this.fireMinute = fireMinute;
+        }
+    }
+
+    // members
+    private final ScheduledExecutorService executor;
+    private final PriorityQueue<Entry> queue;
+    private final Map<DeadlineTimer, Entry> entries;
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpMinute;
+
+    /**
+     * Constructor
+     * @requires None
+     * @modifies executor, queue, entries
+     * @effects create a new NotificationScheduler with its own daemon thread
+     */
+    public NotificationScheduler() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "deadline-notifications");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queue = new PriorityQueue<>((e1, e2) -> Long.compare(e1.fireMinute, e2.fireMinute));
+        this.entries = new HashMap<>();
+        this.wakeUpMinute = NO_NOTIFICATION;
+    }
+
+    /**
+     * This function returns the minute of the next notification of a deadline
+     * @param dueMinute the due time as minutes since 1970-01-01T00:00Z
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the first notification minute after nowMinute, NO_NOTIFICATION if there is none
+     */
+    public static long nextNotificationMinute(long dueMinute, long nowMinute) {
+        long remaining = dueMinute - nowMinute;
+        for (int before : LADDER) {
+            if (before < remaining) {
+                return dueMinute - before;
+            }
+        }
+        return NO_NOTIFICATION;
+    }
+
+    /**
+     * This method adds a timer to the queue, replacing its previous place
+     * @param timer the timer
+     * @requires timer != null
+     * @modifies queue, entries
+     * @effects the timer is notified at its next notification minute
+     */
+    public synchronized void schedule(DeadlineTimer timer) {
+        this.cancelEntry(timer);
+        long next = nextNotificationMinute(timer.getDeadline().getDueMinute(), EpochMinute.currentEpochMinute());
+        if (next == NO_NOTIFICATION) {
+            return;
+        }
+        Entry entry = new Entry(timer, next);
+        this.entries.put(timer, entry);
+        this.queue.add(entry);
+        if (next < this.wakeUpMinute) {
+            this.rearm();
+        }
+    }
+
+    /**
+     * This method removes a timer from the queue
+     * @param timer the timer
+     * @requires None
+     * @modifies queue, entries
+     * @effects the timer is not notified any more
+     */
+    public synchronized void cancel(DeadlineTimer timer) {
+        this.cancelEntry(timer);
+    }
+
+    /**
+     * This method stops the thread of the scheduler
+     * @requires None
+     * @modifies executor, queue, entries
+     * @effects no timer is notified any more
+     */
+    public synchronized void shutdown() {
+        this.executor.shutdownNow();
+        this.queue.clear();
+        this.entries.clear();
+        this.wakeUpMinute = NO_NOTIFICATION;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of timers waiting for a notification
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * This method marks the queued entry of a timer as cancelled, it is dropped
+     * when it reaches the head of the queue
+     * @requires None
+     * @modifies entries
+     * @effects None
+     */
+    private void cancelEntry(DeadlineTimer timer) {
+        Entry old = this.entries.remove(timer);
+        if (old != null) {
+            old.cancelled = true;
+        }
+    }
+
+    /**
+     * This method wakes the thread up at the earliest notification minute
+     * @requires None
+     * @modifies queue, wakeUp, wakeUpMinute
+     * @effects drop cancelled entries at the head of the queue
+     */
+    private void rearm() {
+        while (!this.queue.isEmpty() && this.queue.peek().cancelled) {
+            this.queue.poll();
+        }
+        if (this.wakeUp != null) {
+            this.wakeUp.cancel(false);
+            this.wakeUp = null;
+        }
+        if (this.queue.isEmpty() || this.executor.isShutdown()) {
+            this.wakeUpMinute = NO_NOTIFICATION;
+            return;
+        }
+        this.wakeUpMinute = this.queue.peek().fireMinute;
+        long delay = this.wakeUpMinute * EpochMinute.MILLIS_PER_MINUTE - System.currentTimeMillis();
+        this.wakeUp = this.executor.schedule(this::fire, Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * This method sends the notifications that are due and queues the next ones
+     * @requires None
+     * @modifies queue, entries
+     * @effects post a notification to the event dispatch thread for every timer
+     *          that is due, once even if several of its minutes were missed
+     */
+    private void fire() {
+        List<DeadlineTimer> due = new ArrayList<>();
+        synchronized (this) {
+            long now = EpochMinute.currentEpochMinute();
+            while (!this.queue.isEmpty() && this.queue.peek().fireMinute <= now) {
+                Entry entry = this.queue.poll();
+                if (entry.cancelled) {
+                    continue;
+                }
+                due.add(entry.timer);
+                long next = nextNotificationMinute(entry.timer.getDeadline().getDueMinute(), now);
+                if (next == NO_NOTIFICATION) {
+                    this.entries.remove(entry.timer);
+                } else {
+                    Entry nextEntry = new Entry(entry.timer, next);
+                    this.entries.put(entry.timer, nextEntry);
+                    this.queue.add(nextEntry);
+                }
+            }
+            this.rearm();
+        }
+        if (!due.isEmpty()) {
+            Log.debug("DEBUG: [NotificationScheduler] " + due.size() + " notification(s) due.");
+        }
+        for (DeadlineTimer timer : due) {
+            SwingUtilities.invokeLater(timer::notifyDue);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package main.viewer.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds the notification timer of every deadline, keyed by course name
+ * and then by deadline name. The timers of a course are found without looking at
+ * the timers of other courses, and a course never matches another course whose
+ * name it is a prefix of.
+ */
+public class TimerRegistry {
+    // members
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, DeadlineTimer>> courses;
+
+    /**
+     * Constructor
+     * @requires None
+     * @modifies courses
+     * @effects create an empty TimerRegistry
+     */
+    public TimerRegistry() {
+        this.courses = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * This function adds the timer of a deadline, replacing the timer of a deadline
+     * with the same name in the same course
+     * @param timer the timer
+     * @requires timer != null
+     * @modifies courses
+     * @effects None
+     * @return the timer that was replaced, null if there was none
+     */
+    public DeadlineTimer put(DeadlineTimer timer) {
+        String course = timer.getDeadline().getCourseName();
+        return this.courses.computeIfAbsent(course, c -> new ConcurrentHashMap<>())
+                .put(timer.getDeadline().getName(), timer);
+    }
+
+    /**
+     * This function returns the timer of a deadline
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the timer, null if there is none
+     */
+    public DeadlineTimer get(String course, String deadlineName) {
+        ConcurrentHashMap<String, DeadlineTimer> timers = this.courses.get(course);
+        return timers == null ? null : timers.get(deadlineName);
+    }
+
+    /**
+     * This function removes the timer of a deadline
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @requires None
+     * @modifies courses
+     * @effects forget the course when its last timer is removed
+     * @return the timer that was removed, null if there was none
+     */
+    public DeadlineTimer remove(String course, String deadlineName) {
+        DeadlineTimer[] removed = new DeadlineTimer[1];
+        this.courses.computeIfPresent(course, (c, timers) -> {
+            removed[0] = timers.remove(deadlineName);
+            return timers.isEmpty() ? null : timers;
+        });
+        return removed[0];
+    }
+
+    /**
+     * This function returns the timers of a course
+     * @param course the course name
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a view of the timers of the course, empty if it has none
+     */
+    public Collection<DeadlineTimer> getCourse(String course) {
+        ConcurrentHashMap<String, DeadlineTimer> timers = this.courses.get(course);
+        return timers == null ? Collections.emptyList() : Collections.unmodifiableCollection(timers.values());
+    }
+
+    /**
+     * This function returns every timer
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a list of all timers
+     */
+    public List<DeadlineTimer> getAll() {
+        List<DeadlineTimer> all = new ArrayList<>(this.size());
+        for (ConcurrentHashMap<String, DeadlineTimer> timers : this.courses.values()) {
+            all.addAll(timers.values());
+        }
+        return all;
+    }
+
+    /**
+     * This method starts the timers of a course
+     * @param course the course name
+     * @requires None
+     * @modifies the timers of the course
+     * @effects start every timer of the course
+     */
+    public void startCourse(String course) {
+        for (DeadlineTimer timer : this.getCourse(course)) {
+            timer.start();
+        }
+    }
+
+    /**
+     * This method stops the timers of a course
+     * @param course the course name
+     * @requires None
+     * @modifies the timers of the course
+     * @effects stop every timer of the course
+     */
+    public void stopCourse(String course) {
+        for (DeadlineTimer timer : this.getCourse(course)) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of timers
+     */
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, DeadlineTimer> timers : this.courses.values()) {
+            size += timers.size();
+        }
+        return size;
+    }
+}
@@ -2,6 +2,7 @@ package model;
 
 import org.joda.time.DateTime;
 
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Objects;
@@ -81,6 +82,20 @@ public class CalendarWrapper implements Cloneable, Comparable<CalendarWrapper>
         this.cal.set(Calendar.MILLISECOND, 0);
     }
 
+    /**
+     * Constructor for a time given as milliseconds since 1970-01-01T00:00Z.
+     *
+     * @param epochMillis  milliseconds since 1970-01-01T00:00Z
+     * @param timezone     the time zone of the calendar
+     * @requires timezone != null
+     * @modifies this.cal
+     * @effects create a new CalendarWrapper instance
+     */
+    CalendarWrapper(final long epochMillis, final TimeZone timezone) {
+        this.cal = new GregorianCalendar(timezone);
+        this.cal.setTimeInMillis(epochMillis);
+    }
+
     /**
      *
      * This function updates the minute of the time cal is representing
@@ -168,6 +183,44 @@ public class CalendarWrapper implements Cloneable, Comparable<CalendarWrapper>
     }
 
 
+    /**
+     * This function returns the number of whole minutes between 1970-01-01T00:00Z
+     * and the time cal is representing.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return minutes since 1970-01-01T00:00Z, seconds are ignored
+     */
+    public long getEpochMinute() {
+        return Math.floorDiv(this.cal.getTimeInMillis(), EpochMinute.MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * This function returns the time zone of the time cal is representing.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the time zone id
+     */
+    public ZoneId getZone() {
+        return this.cal.getTimeZone().toZoneId();
+    }
+
+    /**
+     * This function returns an immutable, minute-accurate snapshot of the time cal
+     * is representing.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     */
+    public EpochMinute toEpochMinute() {
+        return EpochMinute.from(this);
+    }
+
     /**
      * This function returns the minute of the time cal is representing.
      *
@@ -374,13 +427,7 @@ public class CalendarWrapper implements Cloneable, Comparable<CalendarWrapper>
      */
     @Override
     public int compareTo(CalendarWrapper o) {
-        Calendar self = (Calendar) this.cal.clone();
-        Calendar other = (Calendar) o.cal.clone();
-        self.set(Calendar.SECOND, 0);
-        self.set(Calendar.MILLISECOND, 0);
-        other.set(Calendar.SECOND, 0);
-        other.set(Calendar.MILLISECOND, 0);
-        return self.compareTo(other);
+        return Long.compare(this.getEpochMinute(), o.getEpochMinute());
     }
 
     /**
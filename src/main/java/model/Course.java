@@ -1,6 +1,7 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import java.util.TreeMap;
  *
  * @creators
  * Course(String courseName_)
+ * Course(Course c)
  *
  * @mutator
  * addDeadline(Deadline date)
@@ -53,6 +55,20 @@ public class Course implements CourseInterface {
         deadlines = new TreeMap<>();
     }
 
+    /**
+     * The copy constructor of this object. Deadlines are immutable, so the copy
+     * shares them with c; the deadlines map itself is copied from the sorted map
+     * in linear time.
+     * @param c the course to copy
+     * @requires c != null
+     * @modifies courseName, Deadlines
+     * @effects create a new instance with the same name and deadlines as c
+     */
+    public Course(Course c) {
+        courseName = c.courseName;
+        deadlines = c.getDeadlines();
+    }
+
     /**
      * This function returns the name of this course
      * @requires None
@@ -173,6 +189,20 @@ public class Course implements CourseInterface {
         return new TreeMap<>(deadlines);
     }
 
+    /**
+     * This function will return a read-only view of the Deadlines map, sorted by
+     * deadline name. The view reflects later changes to this course and must not
+     * be iterated while the course is being modified.
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return an unmodifiable view of the Deadlines map
+     */
+    @Override
+    public Map<String, Deadline> getDeadlinesView() {
+        return Collections.unmodifiableMap(deadlines);
+    }
+
     /**
      * This function will return a list of deadline names based on their dates,
      * ascending order.
@@ -184,7 +214,8 @@ public class Course implements CourseInterface {
     @Override
     public List<String> getSortedDeadlines() {
         List<String> SortedDeadlineList = new ArrayList<>(deadlines.keySet());
-        SortedDeadlineList.sort(Comparator.comparing(o -> deadlines.get(o)));
+        Comparator<Deadline> order = Deadline.remainingTimeOrder();
+        SortedDeadlineList.sort((o1, o2) -> order.compare(deadlines.get(o1), deadlines.get(o2)));
         return SortedDeadlineList;
     }
 
@@ -199,7 +230,8 @@ public class Course implements CourseInterface {
     @Override
     public List<String> getReversedSortedDeadlines() {
         List<String> SortedDeadlineList = new ArrayList<>(deadlines.keySet());
-        SortedDeadlineList.sort((o1, o2) -> deadlines.get(o2).compareTo(deadlines.get(o1)));
+        Comparator<Deadline> order = Deadline.remainingTimeOrder();
+        SortedDeadlineList.sort((o1, o2) -> order.compare(deadlines.get(o2), deadlines.get(o1)));
         return SortedDeadlineList;
     }
 
@@ -103,6 +103,17 @@ public interface CourseInterface extends Cloneable {
      */
     Map<String, Deadline> getDeadlines();
 
+    /**
+     * This function will return a read-only view of the Deadlines map, sorted by
+     * deadline name. The view reflects later changes to this course and must not
+     * be iterated while the course is being modified.
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return an unmodifiable view of the Deadlines map
+     */
+    Map<String, Deadline> getDeadlinesView();
+
     /**
      * This function will return a list of deadline names based on their dates,
      * ascending order.
@@ -3,6 +3,7 @@ package model;
 import javafx.util.Pair;
 
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Objects;
 
 import org.joda.time.DateTime;
@@ -41,7 +42,31 @@ public final class Deadline implements DeadlineInterface, Comparable<Deadline> {
     private final String deadlineName;
     private final String courseName;
     private final String status;
-    private final String href;
+    /** the link is kept as its pooled front up to the last '/' and the rest, see StringPool */
+    private final String linkPrefix;
+    private final String linkSuffix;
+    /** dueMinute: the due time as minutes since 1970-01-01T00:00Z, used as the sort key */
+    private final long dueMinute;
+    /** the remaining time of the last minute it was asked for, shared by every view in that minute */
+    private transient volatile RemainingTime remainingTime;
+    /** the parser of tryParseDate, one per thread because a parser is reused */
+    private final static ThreadLocal<DueTextParser> DUE_TEXT_PARSER = ThreadLocal.withInitial(DueTextParser::new);
+
+    /**
+     * A time-invariant ordering by due time, then course name, then deadline name.
+     * Unlike the natural ordering it does not depend on the current time, so it is
+     * safe to use for long-lived sorted collections.
+     */
+    public final static Comparator<Deadline> DUE_ORDER = (d1, d2) -> {
+        int result = Long.compare(d1.dueMinute, d2.dueMinute);
+        if (result == 0) {
+            result = d1.courseName.compareTo(d2.courseName);
+        }
+        if (result == 0) {
+            result = d1.deadlineName.compareTo(d2.deadlineName);
+        }
+        return result;
+    };
 
     public static class STATUS {
         public final static String LATE_SUBMIT = "LATE SUBMIT";
@@ -65,15 +90,18 @@ public final class Deadline implements DeadlineInterface, Comparable<Deadline> {
      * @param status_ the status of the course
      * @param link the link of this deadline
      * @requires date_ != null, name_ != null, course_ != null
-     * @modifies date, deadlineName, course
-     * @effects create a new Deadline instance
+     * @modifies date, deadlineName, course, StringPool
+     * @effects create a new Deadline instance, sharing the course name, status and
+     *          the front of the link through StringPool
      */
     public Deadline(CalendarWrapper date_, String name_, String course_, String status_, String link) {
         this.date = date_;
         this.deadlineName = name_;
-        this.courseName = course_;
-        this.status = status_;
-        this.href = link;
+        this.courseName = StringPool.course(course_);
+        this.status = StringPool.status(status_);
+        this.linkPrefix = StringPool.linkPrefix(link);
+        this.linkSuffix = link == null ? null : link.substring(this.linkPrefix.length());
+        this.dueMinute = date_.getEpochMinute();
     }
 
     /**
@@ -207,14 +235,48 @@ public final class Deadline implements DeadlineInterface, Comparable<Deadline> {
     /**
      * This function returns the link of this deadline
      *
-     * @return the link
+     * @return the link, joined from its pooled front and the rest
      * @requires None
      * @modifies None
      * @effects None
      */
     @Override
     public String getLink() {
-        return this.href;
+        if (this.linkSuffix == null || this.linkSuffix.isEmpty()) {
+            return this.linkPrefix;
+        }
+        if (this.linkPrefix.isEmpty()) {
+            return this.linkSuffix;
+        }
+        return this.linkPrefix + this.linkSuffix;
+    }
+
+    /**
+     * This function checks whether this deadline has the same link as another
+     * one. It compares the fronts and the rests of the links, so neither link is
+     * joined into a new String
+     *
+     * @param other another deadline
+     * @return {@code true} if getLink() of both deadlines would be equal
+     * @requires other != null
+     * @modifies None
+     * @effects None
+     */
+    public boolean hasSameLink(Deadline other) {
+        return Objects.equals(this.linkPrefix, other.linkPrefix)
+                && Objects.equals(this.linkSuffix, other.linkSuffix);
+    }
+
+    /**
+     * This function returns the due time as a primitive sort key
+     *
+     * @return minutes since 1970-01-01T00:00Z
+     * @requires None
+     * @modifies None
+     * @effects None
+     */
+    public long getDueMinute() {
+        return this.dueMinute;
     }
 
     /**
@@ -291,77 +353,112 @@ public final class Deadline implements DeadlineInterface, Comparable<Deadline> {
         }
     }
 
+    /**
+     * This function returns the remaining time of this deadline at the current minute
+     *
+     * @return the time left to or passed since the due time
+     * @requires None
+     * @modifies remainingTime
+     * @effects keep the remaining time for the current minute
+     */
+    @Override
+    public RemainingTime getRemainingTime() {
+        return this.getRemainingTime(EpochMinute.currentEpochMinute());
+    }
+
+    /**
+     * This function returns the remaining time of this deadline at a given minute.
+     * The result of the last minute asked for is kept, so the views that show this
+     * deadline in the same minute compute it only once.
+     *
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @return the time left to or passed since the due time
+     * @requires None
+     * @modifies remainingTime
+     * @effects keep the remaining time for nowMinute
+     */
+    @Override
+    public RemainingTime getRemainingTime(long nowMinute) {
+        RemainingTime remain = this.remainingTime;
+        if (remain == null || remain.getNowMinute() != nowMinute) {
+            remain = RemainingTime.between(nowMinute, this.dueMinute, this.date.getZone());
+            this.remainingTime = remain;
+        }
+        return remain;
+    }
+
     /**
      * This function will return a text of the remaining time
      * @param otherTime a date to be compared
      * @requires None
-     * @modifies None
+     * @modifies remainingTime
      * @effects None
      * @return a String representing the remaining time
      */
     @Override
     public String getRemainingText(CalendarWrapper otherTime) {
-        if (otherTime == null) otherTime = CalendarWrapper.now();
-        Pair<Period, Boolean> remain = this.getRemainPeriod(otherTime);
-        Period pd = remain.getKey();
+        RemainingTime remain = otherTime == null ? this.getRemainingTime()
+                : this.getRemainingTime(otherTime.getEpochMinute());
         String month;
-        if (pd.getMonths() > 0) {
-            month = String.format("%02d Months ", pd.getMonths());
+        if (remain.getMonths() > 0) {
+            month = String.format("%02d Months ", remain.getMonths());
         } else {
             month = "";
         }
         String remainingText = month + String.format("%02d Days %02d Hours %02d Minutes ",
-                pd.getWeeks()*7+pd.getDays(),pd.getHours(),pd.getMinutes());
-        if (remain.getValue().equals(true)) remainingText+="Left.";
+                remain.getDays(), remain.getHours(), remain.getMinutes());
+        if (remain.isLeft()) remainingText+="Left.";
         else remainingText += "Ago.";
         return remainingText;
     }
 
     /**
      * This function will take a String which has a format as "(due MM/DD/YYYY @ HH:MM)"
-     * and return a Calendar object based on the time represented by the string
+     * and return a Calendar object based on the time represented by the string.
+     * The time may end with AM or PM, where 12 AM is midnight and 12 PM is noon.
      * @param dueText the time string
      * @requires dueText != null
      * @modifies None
      * @effects parse the string and create a Calendar object
      * @return a Calendar object based on the time represented by the string
-     * @throws RuntimeException TODO docs needed for throws
-     * @throws CalendarWrapper.CalendarFormatException TODO
+     * @throws RuntimeException if dueText is not a due text or a field is not a number
+     * @throws CalendarWrapper.CalendarFormatException if the month, day, hour or minute
+     *                                                 is out of range
      */
     public static CalendarWrapper parseDate(String dueText) throws RuntimeException, CalendarWrapper.CalendarFormatException {
-        int startLength = 0;
-        if (!(dueText.startsWith("(due ") || dueText.startsWith("(teams lock ")))
-            throw new RuntimeException(dueText + " is not a valid due text");
-        else {
-            if (dueText.startsWith("(due ")) {
-                startLength = 5;
-            } else if (dueText.startsWith("(teams lock ")) {
-                startLength = 12;
-            }
-        }
-        assert(startLength == 5 || startLength == 12);
-        String monthStr = dueText.substring(startLength,startLength+2);  // 5-7
-        String dayStr = dueText.substring(startLength+3,startLength+5); // 8-10
-        String yearStr = dueText.substring(startLength+6,startLength+10); // 11-15
-        String hourStr = dueText.substring(startLength+13,startLength+15); // 18-20
-        String minuteStr = dueText.substring(startLength+16,startLength+18); // 21,23
-        int year, month, day, hour, minute;
-        try {
-            year = Integer.parseInt(yearStr);
-            month = Integer.parseInt(monthStr);
-            day = Integer.parseInt(dayStr);
-            hour = Integer.parseInt(hourStr);
-            minute = Integer.parseInt(minuteStr);
-        } catch (NumberFormatException e) {
-            throw new RuntimeException(dueText + " is not a valid due text");
+        CalendarWrapper date = tryParseDate(dueText);
+        if (date != null) {
+            return date;
         }
-        if (!(month >= 0 && month <= 11)) {
-            throw new CalendarWrapper.CalendarFormatException(monthStr + " is not a valid month text");
+        // parse again to tell why the text was rejected
+        switch (DUE_TEXT_PARSER.get().parse(dueText)) {
+            case DueTextParser.BAD_MONTH:
+                int start = dueText.startsWith("(due ") ? 5 : 12;
+                throw new CalendarWrapper.CalendarFormatException(dueText.substring(start, start + 2)
+                        + " is not a valid month text");
+            case DueTextParser.BAD_TIME:
+                throw new CalendarWrapper.CalendarFormatException(dueText + " is not a valid time");
+            default:
+                throw new RuntimeException(dueText + " is not a valid due text");
         }
-        if (dueText.endsWith("PM)")) {
-            hour += 12;
+    }
+
+    /**
+     * This function reads a due text the way parseDate does, without throwing
+     * when the text is not valid
+     * @param dueText the time string, e.g. "(due 04/26/2019 @ 11:59 PM)"
+     * @requires dueText != null
+     * @modifies None
+     * @effects None
+     * @return the due time, or null if parseDate would throw for dueText
+     */
+    public static CalendarWrapper tryParseDate(String dueText) {
+        DueTextParser parser = DUE_TEXT_PARSER.get();
+        if (parser.parse(dueText) != DueTextParser.OK) {
+            return null;
         }
-        return new CalendarWrapper(year, month, day, hour, minute);
+        return new CalendarWrapper(parser.getYear(), parser.getMonth(), parser.getDay(),
+                parser.getHour(), parser.getMinute());
     }
 
 
@@ -377,12 +474,47 @@ public final class Deadline implements DeadlineInterface, Comparable<Deadline> {
      */
     @Override
     public int compareTo(Deadline o) {
-        if (this.isBefore(CalendarWrapper.now()) && o.isAfter(CalendarWrapper.now())){
+        return compare(this, o, EpochMinute.currentEpochMinute());
+    }
+
+    /**
+     * This function returns a comparator with the same ordering as the natural
+     * ordering, but which reads the clock only once, when it is created. Every
+     * comparison is then done on precomputed due times, so the ordering cannot
+     * change while a sort is running.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a comparator putting upcoming deadlines first, each group ordered by due time
+     */
+    public static Comparator<Deadline> remainingTimeOrder() {
+        return orderAt(EpochMinute.currentEpochMinute());
+    }
+
+    /**
+     * This function returns a comparator with the same ordering as the natural
+     * ordering observed at the given time.
+     *
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a comparator putting upcoming deadlines first, each group ordered by due time
+     */
+    public static Comparator<Deadline> orderAt(final long nowMinute) {
+        return (d1, d2) -> compare(d1, d2, nowMinute);
+    }
+
+    private static int compare(Deadline d1, Deadline d2, long nowMinute) {
+        boolean upcoming1 = d1.dueMinute > nowMinute;
+        boolean upcoming2 = d2.dueMinute > nowMinute;
+        if (!upcoming1 && upcoming2) {
             return 1;
-        } else if (this.isAfter(CalendarWrapper.now()) && o.isBefore(CalendarWrapper.now())) {
+        } else if (upcoming1 && !upcoming2) {
             return -1;
         }
-        return this.date.compareTo(o.date);
+        return Long.compare(d1.dueMinute, d2.dueMinute);
     }
 
     /**
@@ -0,0 +1,217 @@
+package model;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * @overview
+ * This class holds deadlines ordered by their due time, so the deadlines due in a
+ * span of time (a month of the calendar, everything upcoming) are found without
+ * looking at the others. Deadlines due in the same minute share a bucket of a
+ * TreeMap keyed by the due minute, and a bucket is kept in Deadline.DUE_ORDER. A
+ * second map from course name and deadline name finds the deadline a new one
+ * replaces.
+ *
+ * This class is not thread safe.
+ *
+ * @abstract_value
+ * deadlines -> a set of deadlines ordered by Deadline.DUE_ORDER, with at most one
+ *              deadline of a given name in a course
+ *
+ * @constructor
+ * DeadlineIndex()
+ *
+ * @mutator
+ * Deadline put(Deadline deadline)
+ * Deadline remove(String course, String deadlineName)
+ * void clear()
+ *
+ * @accessor
+ * Deadline get(String course, String deadlineName)
+ * List<Deadline> range(long fromMinute, long toMinute)
+ * List<Deadline> month(int year, int month, ZoneId zone)
+ * List<Deadline> getAll()
+ * Iterable<Deadline> from(long fromMinute)
+ * int size()
+ */
+public class DeadlineIndex {
+    private final TreeMap<Long, List<Deadline>> byMinute;
+    private final HashMap<String, HashMap<String, Deadline>> byCourse;
+    private int size;
+
+    /**
+     * This is the basic constructor of this class
+     * @requires None
+     * @modifies None
+     * @effects create an empty DeadlineIndex
+     */
+    public DeadlineIndex() {
+        this.byMinute = new TreeMap<>();
+        this.byCourse = new HashMap<>();
+    }
+
+    /**
+     * This function adds a deadline, replacing the deadline with the same name in
+     * the same course
+     * @param deadline the deadline
+     * @requires deadline != null
+     * @modifies this
+     * @effects add the deadline
+     * @return the deadline that was replaced, null if there was none
+     */
+    public Deadline put(Deadline deadline) {
+        Deadline old = this.byCourse.computeIfAbsent(deadline.getCourseName(), c -> new HashMap<>())
+                .put(deadline.getName(), deadline);
+        if (old != null) {
+            this.removeFromBucket(old);
+        } else {
+            this.size++;
+        }
+        List<Deadline> bucket = this.byMinute.computeIfAbsent(deadline.getDueMinute(), m -> new ArrayList<>(1));
+        int index = Collections.binarySearch(bucket, deadline, Deadline.DUE_ORDER);
+        bucket.add(index < 0 ? -index - 1 : index, deadline);
+        return old;
+    }
+
+    /**
+     * This function removes a deadline
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @requires None
+     * @modifies this
+     * @effects remove the deadline with the name in the course
+     * @return the deadline that was removed, null if there was none
+     */
+    public Deadline remove(String course, String deadlineName) {
+        HashMap<String, Deadline> deadlines = this.byCourse.get(course);
+        if (deadlines == null) {
+            return null;
+        }
+        Deadline old = deadlines.remove(deadlineName);
+        if (old == null) {
+            return null;
+        }
+        if (deadlines.isEmpty()) {
+            this.byCourse.remove(course);
+        }
+        this.removeFromBucket(old);
+        this.size--;
+        return old;
+    }
+
+    /**
+     * This method removes every deadline
+     * @requires None
+     * @modifies this
+     * @effects this is empty
+     */
+    public void clear() {
+        this.byMinute.clear();
+        this.byCourse.clear();
+        this.size = 0;
+    }
+
+    private void removeFromBucket(Deadline deadline) {
+        List<Deadline> bucket = this.byMinute.get(deadline.getDueMinute());
+        bucket.remove(deadline);
+        if (bucket.isEmpty()) {
+            this.byMinute.remove(deadline.getDueMinute());
+        }
+    }
+
+    /**
+     * This function returns a deadline
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the deadline with the name in the course, null if there is none
+     */
+    public Deadline get(String course, String deadlineName) {
+        HashMap<String, Deadline> deadlines = this.byCourse.get(course);
+        return deadlines == null ? null : deadlines.get(deadlineName);
+    }
+
+    /**
+     * This function returns the deadlines due in a span of time, in O(log n + k)
+     * @param fromMinute the start of the span as minutes since 1970-01-01T00:00Z, inclusive
+     * @param toMinute the end of the span as minutes since 1970-01-01T00:00Z, exclusive
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new list of the deadlines due in [fromMinute, toMinute) in Deadline.DUE_ORDER
+     */
+    public List<Deadline> range(long fromMinute, long toMinute) {
+        List<Deadline> deadlines = new ArrayList<>();
+        if (fromMinute >= toMinute) {
+            return deadlines;
+        }
+        for (List<Deadline> bucket : this.byMinute.subMap(fromMinute, true, toMinute, false).values()) {
+            deadlines.addAll(bucket);
+        }
+        return deadlines;
+    }
+
+    /**
+     * This function returns the deadlines due in a month of a calendar
+     * @param year the year number
+     * @param month the month number, starts from 1 (Jan)
+     * @param zone the time zone of the calendar
+     * @requires 1 <= month <= 12, zone != null
+     * @modifies None
+     * @effects None
+     * @return a new list of the deadlines due in the month in Deadline.DUE_ORDER
+     */
+    public List<Deadline> month(int year, int month, ZoneId zone) {
+        long from = EpochMinute.localToEpochMinute(EpochMinute.localMinute(year, month, 1, 0, 0), zone);
+        long to = month == 12
+                ? EpochMinute.localToEpochMinute(EpochMinute.localMinute(year + 1, 1, 1, 0, 0), zone)
+                : EpochMinute.localToEpochMinute(EpochMinute.localMinute(year, month + 1, 1, 0, 0), zone);
+        return this.range(from, to);
+    }
+
+    /**
+     * This function returns every deadline
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new list of all deadlines in Deadline.DUE_ORDER
+     */
+    public List<Deadline> getAll() {
+        List<Deadline> deadlines = new ArrayList<>(this.size);
+        for (List<Deadline> bucket : this.byMinute.values()) {
+            deadlines.addAll(bucket);
+        }
+        return deadlines;
+    }
+
+    /**
+     * This function walks the deadlines due from a given time on without copying
+     * them, so a search can stop at the first one it wants
+     * @param fromMinute the first due minute as minutes since 1970-01-01T00:00Z
+     * @requires this is not changed while the result is used
+     * @modifies None
+     * @effects None
+     * @return the deadlines due at or after fromMinute in Deadline.DUE_ORDER
+     */
+    public Iterable<Deadline> from(long fromMinute) {
+        NavigableMap<Long, List<Deadline>> tail = this.byMinute.tailMap(fromMinute, true);
+        return () -> tail.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of deadlines
+     */
+    public int size() {
+        return this.size;
+    }
+}
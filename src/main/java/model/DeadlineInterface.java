@@ -146,6 +146,25 @@ public interface DeadlineInterface extends Cloneable {
      */
     Pair<Period,Boolean> getRemainPeriod(CalendarWrapper d);
 
+    /**
+     * This function will return the remaining time of this deadline at the current minute
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the time left to or passed since the due time
+     */
+    RemainingTime getRemainingTime();
+
+    /**
+     * This function will return the remaining time of this deadline at a given minute
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the time left to or passed since the due time
+     */
+    RemainingTime getRemainingTime(long nowMinute);
+
     /**
      * This function will return a text of the remaining time
      * @param currentTime a date to be compared
@@ -0,0 +1,284 @@
+package model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * @overview
+ * This class reads Submitty due texts such as "(due 04/26/2019 @ 11:59 PM)" or
+ * "(teams lock 04/26/2019 @ 23:59)". The digits are read in place and a failure is
+ * reported as a result code instead of an exception, so reading a text allocates
+ * nothing. A parser is reused for many texts; it keeps the fields of the last text
+ * it read, and it is not thread safe.
+ *
+ * A 12-hour time has an hour from 1 to 12: 12 AM is midnight and 12 PM is noon.
+ * A time without AM or PM is a 24-hour time.
+ *
+ * To turn local times into epoch minutes without looking up the time zone every
+ * time, the parser keeps the offset of the time zone together with the span of
+ * epoch minutes in which it does not change. Only a time outside that span, or
+ * within a day of a daylight saving transition, looks the offset up again.
+ *
+ * @abstract_value
+ * zone -> the time zone due texts are read in
+ * year, month, day, hour, minute -> the fields of the last text that was read,
+ *                                   month from 1 (Jan), hour from 0 to 23
+ *
+ * @constructor
+ * DueTextParser()
+ * DueTextParser(ZoneId zone)
+ *
+ * @mutator
+ * int parse(CharSequence text)
+ *
+ * @accessor
+ * int getYear()
+ * int getMonth()
+ * int getDay()
+ * int getHour()
+ * int getMinute()
+ * long getEpochMinute()
+ */
+public final class DueTextParser {
+    /** the text was read */
+    public final static int OK = 0;
+    /** the text does not start with "(due " or "(teams lock " */
+    public final static int NOT_DUE_TEXT = 1;
+    /** a field is missing or is not a number */
+    public final static int BAD_FORMAT = 2;
+    /** the month is not in [1,12] */
+    public final static int BAD_MONTH = 3;
+    /** the day, hour or minute is out of range */
+    public final static int BAD_TIME = 4;
+
+    private final static String DUE = "(due ";
+    private final static String TEAMS_LOCK = "(teams lock ";
+    /** the length of "MM/DD/YYYY @ HH:MM" */
+    private final static int FIELDS_LENGTH = 18;
+    /** how close to an offset transition the cached offset is not trusted */
+    private final static long TRANSITION_MARGIN = EpochMinute.MINUTES_PER_DAY;
+
+    private final ZoneId zone;
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    // the epoch minutes [windowStart, windowEnd) in which the offset of zone is windowOffset
+    private long windowStart = Long.MAX_VALUE;
+    private long windowEnd = Long.MIN_VALUE;
+    private int windowOffset;
+
+    /**
+     * This is the basic constructor of this class, due texts are read in the default
+     * time zone
+     * @requires None
+     * @modifies None
+     * @effects create a new DueTextParser object
+     */
+    public DueTextParser() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * This is the constructor of this class for a given time zone
+     * @param zone the time zone due texts are read in
+     * @requires zone != null
+     * @modifies None
+     * @effects create a new DueTextParser object
+     */
+    public DueTextParser(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * This function reads a due text
+     * @param text the due text, e.g. "(due 04/26/2019 @ 11:59 PM)"
+     * @requires text != null
+     * @modifies this
+     * @effects set the fields to the time of the text if it is read
+     * @return OK, or NOT_DUE_TEXT, BAD_FORMAT, BAD_MONTH or BAD_TIME if the text
+     *         cannot be read
+     */
+    public int parse(CharSequence text) {
+        int start;
+        if (startsWith(text, DUE)) {
+            start = DUE.length();
+        } else if (startsWith(text, TEAMS_LOCK)) {
+            start = TEAMS_LOCK.length();
+        } else {
+            return NOT_DUE_TEXT;
+        }
+        if (text.length() < start + FIELDS_LENGTH) {
+            return BAD_FORMAT;
+        }
+        // MM/DD/YYYY @ HH:MM
+        int month = digits(text, start, 2);
+        int day = digits(text, start + 3, 2);
+        int year = digits(text, start + 6, 4);
+        int hour = digits(text, start + 13, 2);
+        int minute = digits(text, start + 16, 2);
+        if (month < 0 || day < 0 || year < 0 || hour < 0 || minute < 0) {
+            return BAD_FORMAT;
+        }
+        if (month < 1 || month > 12) {
+            return BAD_MONTH;
+        }
+        if (endsWith(text, "AM)") || endsWith(text, "PM)")) {
+            if (hour < 1 || hour > 12) {
+                return BAD_TIME;
+            }
+            hour %= 12;
+            if (text.charAt(text.length() - 3) == 'P') {
+                hour += 12;
+            }
+        }
+        if (day < 1 || day > 31 || hour > 23 || minute > 59) {
+            return BAD_TIME;
+        }
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.hour = hour;
+        this.minute = minute;
+        return OK;
+    }
+
+    /**
+     * @requires the last parse returned OK
+     * @modifies None
+     * @effects None
+     * @return the year
+     */
+    public int getYear() {
+        return this.year;
+    }
+
+    /**
+     * @requires the last parse returned OK
+     * @modifies None
+     * @effects None
+     * @return the month, starts from 1 (Jan)
+     */
+    public int getMonth() {
+        return this.month;
+    }
+
+    /**
+     * @requires the last parse returned OK
+     * @modifies None
+     * @effects None
+     * @return the day of the month
+     */
+    public int getDay() {
+        return this.day;
+    }
+
+    /**
+     * @requires the last parse returned OK
+     * @modifies None
+     * @effects None
+     * @return the hour of the day, from 0 to 23
+     */
+    public int getHour() {
+        return this.hour;
+    }
+
+    /**
+     * @requires the last parse returned OK
+     * @modifies None
+     * @effects None
+     * @return the minute of the hour
+     */
+    public int getMinute() {
+        return this.minute;
+    }
+
+    /**
+     * This function returns the time of the last text as an epoch minute
+     * @requires the last parse returned OK
+     * @modifies this
+     * @effects look up the offset of the time zone if it is not known around this time
+     * @return minutes since 1970-01-01T00:00Z
+     */
+    public long getEpochMinute() {
+        long local = EpochMinute.localMinute(this.year, this.month, this.day, this.hour, this.minute);
+        long guess = local - this.windowOffset;
+        if (guess >= this.windowStart && guess < this.windowEnd) {
+            return guess;
+        }
+        long epochMinute = EpochMinute.localToEpochMinute(local, this.zone);
+        this.updateWindow(epochMinute);
+        return epochMinute;
+    }
+
+    /**
+     * This function finds the span around an epoch minute in which the offset of
+     * the time zone does not change
+     * @requires None
+     * @modifies windowStart, windowEnd, windowOffset
+     * @effects None
+     */
+    private void updateWindow(long epochMinute) {
+        this.windowOffset = EpochMinute.offsetMinutesAt(epochMinute, this.zone);
+        if (this.zone instanceof ZoneOffset || this.zone.getRules().isFixedOffset()) {
+            this.windowStart = Long.MIN_VALUE;
+            this.windowEnd = Long.MAX_VALUE;
+            return;
+        }
+        ZoneRules rules = this.zone.getRules();
+        Instant at = Instant.ofEpochSecond(epochMinute * 60);
+        ZoneOffsetTransition previous = rules.previousTransition(at.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(at);
+        this.windowStart = previous == null ? Long.MIN_VALUE
+                : previous.toEpochSecond() / 60 + TRANSITION_MARGIN;
+        this.windowEnd = next == null ? Long.MAX_VALUE
+                : next.toEpochSecond() / 60 - TRANSITION_MARGIN;
+    }
+
+    /**
+     * @requires 0 <= from, from + count <= text.length()
+     * @modifies None
+     * @effects None
+     * @return the number written with count digits at from, -1 if a character is not a digit
+     */
+    private static int digits(CharSequence text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean startsWith(CharSequence text, String prefix) {
+        if (text.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWith(CharSequence text, String suffix) {
+        int offset = text.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (text.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
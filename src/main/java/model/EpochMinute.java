@@ -0,0 +1,471 @@
+package model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+/**
+ * @overview
+ * An immutable, minute-accurate point in time backed by a single {@code long}
+ * counting the minutes since 1970-01-01T00:00Z plus the zone the time is
+ * observed in.
+ *
+ * Unlike CalendarWrapper, which wraps a mutable java.util.Calendar, every
+ * observer and comparison in this class is plain integer arithmetic on the
+ * epoch-minute value, so it can be used on hot paths (sorting, countdown
+ * refreshes, calendar range queries) without allocating. The zone offset
+ * in effect at this instant is resolved once when the object is created.
+ *
+ * @abstract_fields
+ * epochMinute -> minutes since 1970-01-01T00:00Z
+ * zone -> the time zone the local fields (year, month, ...) are observed in
+ *
+ * @mutator
+ * This class is immutable
+ *
+ * @representation_invariant
+ * zone != null && offsetMinutes == zone's offset at epochMinute (in minutes)
+ */
+public final class EpochMinute implements Comparable<EpochMinute> {
+    public final static int MINUTES_PER_HOUR = 60;
+    public final static int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    public final static long MILLIS_PER_MINUTE = 60 * 1000L;
+
+    private final long epochMinute;
+    private final int offsetMinutes;
+    private final ZoneId zone;
+
+    private EpochMinute(long epochMinute, int offsetMinutes, ZoneId zone) {
+        this.epochMinute = epochMinute;
+        this.offsetMinutes = offsetMinutes;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates an EpochMinute from an absolute minute count.
+     *
+     * @param epochMinute minutes since 1970-01-01T00:00Z
+     * @param zone the time zone the local fields are observed in
+     * @requires zone != null
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     */
+    public static EpochMinute ofEpochMinute(long epochMinute, ZoneId zone) {
+        return new EpochMinute(epochMinute, offsetMinutesAt(epochMinute, zone), zone);
+    }
+
+    /**
+     * Creates an EpochMinute from local date and time fields in the default time zone.
+     *
+     * @param year         year number
+     * @param month        a number represents the month number. The first month of
+     *                     the year starts from 1 (Jan)
+     * @param day          the day number; starts from 1 to 31
+     * @param hour         the hour number
+     * @param minute       the minute number
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     * @throws CalendarWrapper.CalendarFormatException if the number of date is invalid
+     */
+    public static EpochMinute of(int year, int month, int day, int hour, int minute)
+            throws CalendarWrapper.CalendarFormatException {
+        return of(year, month, day, hour, minute, ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates an EpochMinute from local date and time fields in the given time zone.
+     *
+     * Local times skipped by a daylight saving transition are shifted forward and
+     * ambiguous local times resolve to standard time, which matches
+     * java.util.GregorianCalendar.
+     *
+     * @param year         year number
+     * @param month        a number represents the month number. The first month of
+     *                     the year starts from 1 (Jan)
+     * @param day          the day number; starts from 1 to 31
+     * @param hour         the hour number
+     * @param minute       the minute number
+     * @param zone         the time zone of the local fields
+     * @requires zone != null
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     * @throws CalendarWrapper.CalendarFormatException if the number of date is invalid
+     */
+    public static EpochMinute of(int year, int month, int day, int hour, int minute, ZoneId zone)
+            throws CalendarWrapper.CalendarFormatException {
+        checkFields(month, day, hour, minute);
+        long local = localMinute(year, month, day, hour, minute);
+        return ofEpochMinute(localToEpochMinute(local, zone), zone);
+    }
+
+    /**
+     * Creates an EpochMinute representing the time held by a CalendarWrapper,
+     * truncated to the minute.
+     *
+     * @param time the time to convert
+     * @requires time != null
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     */
+    public static EpochMinute from(CalendarWrapper time) {
+        return ofEpochMinute(time.getEpochMinute(), time.getZone());
+    }
+
+    /**
+     * This function returns an EpochMinute representing the current minute in the
+     * default time zone.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new EpochMinute instance
+     */
+    public static EpochMinute now() {
+        return ofEpochMinute(currentEpochMinute(), ZoneId.systemDefault());
+    }
+
+    /**
+     * This function returns the current minute since 1970-01-01T00:00Z without
+     * allocating any object.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the current epoch minute
+     */
+    public static long currentEpochMinute() {
+        return Math.floorDiv(System.currentTimeMillis(), MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * This function converts this time into a CalendarWrapper in the same zone.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new CalendarWrapper representing the same minute
+     */
+    public CalendarWrapper toCalendarWrapper() {
+        return new CalendarWrapper(this.epochMinute * MILLIS_PER_MINUTE, TimeZone.getTimeZone(this.zone));
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return minutes since 1970-01-01T00:00Z
+     */
+    public long getEpochMinute() {
+        return this.epochMinute;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the time zone the local fields are observed in
+     */
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of minutes since 1970-01-01T00:00 on the local wall clock
+     */
+    public long getLocalMinute() {
+        return this.epochMinute + this.offsetMinutes;
+    }
+
+    /**
+     * This function returns the minute of the time.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a number represents the minute. Starts from 0 to 59
+     */
+    public int getMinuteOfHour() {
+        return (int) Math.floorMod(getLocalMinute(), (long) MINUTES_PER_HOUR);
+    }
+
+    /**
+     * This function returns the hour of the time.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a number represents the hour. It is used for the 24-hour clock and
+     *         starts from 0 to 23
+     */
+    public int getHourOfDay() {
+        return (int) Math.floorMod(getLocalMinute(), (long) MINUTES_PER_DAY) / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * This function returns the day of the month.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a number represents the date. The first day of the month has value 1.
+     */
+    public int getDay() {
+        return dayOfMonth(localEpochDay());
+    }
+
+    /**
+     * This function returns the month of the date
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the month number. The first month of the year starts from 1 (Jan)
+     */
+    public int getMonth() {
+        return monthOfYear(localEpochDay());
+    }
+
+    /**
+     * This function returns the year of the date
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a number represents the year
+     */
+    public int getYear() {
+        return yearOf(localEpochDay());
+    }
+
+    /**
+     * This function returns the week day of the date.
+     *
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a number represents the week day. Starts from 0 as Sunday, 1 as Monday...
+     */
+    public int getWeekDay() {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(localEpochDay() + 4, 7L);
+    }
+
+    /**
+     * This function returns whether this time is after the time represented by {@code another}.
+     *
+     * @param another the other time object to be compared.
+     * @requires another != null
+     * @modifies None
+     * @effects None
+     * @return {@code true} if this time is after {@code another}; {@code false} otherwise.
+     */
+    public boolean isAfter(EpochMinute another) {
+        return this.epochMinute > another.epochMinute;
+    }
+
+    /**
+     * This function returns whether this time is before the time represented by {@code another}.
+     *
+     * @param another the other time object to be compared.
+     * @requires another != null
+     * @modifies None
+     * @effects None
+     * @return {@code true} if this time is before {@code another}; {@code false} otherwise.
+     */
+    public boolean isBefore(EpochMinute another) {
+        return this.epochMinute < another.epochMinute;
+    }
+
+    /**
+     * Compares this object with the specified object for order by the instant they
+     * represent, regardless of zone.
+     *
+     * @param o the object to be compared.
+     * @return a negative integer, zero, or a positive integer as this object
+     * is earlier than, equal to, or later than the specified object.
+     * @throws NullPointerException if the specified object is null
+     */
+    @Override
+    public int compareTo(EpochMinute o) {
+        return Long.compare(this.epochMinute, o.epochMinute);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. Two EpochMinutes
+     * are equal if they represent the same minute in the same zone.
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @param   o   the reference object with which to compare.
+     * @return  {@code true} if this object is the same as the obj
+     *          argument; {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EpochMinute that = (EpochMinute) o;
+        return this.epochMinute == that.epochMinute && this.zone.equals(that.zone);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return  a hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.epochMinute) * 31 + this.zone.hashCode();
+    }
+
+    /**
+     * Returns a string representation of the object.
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return  a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "EpochMinute ("
+                + CalendarWrapper.getTimeStr(getYear(), getMonth(),
+                        getDay(), getHourOfDay(), getMinuteOfHour())
+                + ')';
+    }
+
+    private long localEpochDay() {
+        return Math.floorDiv(getLocalMinute(), (long) MINUTES_PER_DAY);
+    }
+
+    /**
+     * This function validates local date and time fields the same way CalendarWrapper does.
+     *
+     * @throws CalendarWrapper.CalendarFormatException if a field is out of range
+     */
+    static void checkFields(int month, int day, int hour, int minute)
+            throws CalendarWrapper.CalendarFormatException {
+        if (month < 1 || month > 12) {
+            throw new CalendarWrapper.CalendarFormatException("Error: \"month\"(" + month +") should be in range [1,12]");
+        }
+        if (day < 1 || day > 31) {
+            throw new CalendarWrapper.CalendarFormatException("Error: \"day\"(" + day +")  should be in range [1,31]");
+        }
+        if (hour < 0 || hour > 23) {
+            throw new CalendarWrapper.CalendarFormatException("Error: \"hour\"(" + hour +")  should be in range [0,23]");
+        }
+        if (minute < 0 || minute > 59) {
+            throw new CalendarWrapper.CalendarFormatException("Error: \"minute\"(" + minute +")  should be in range [0,59]");
+        }
+    }
+
+    /**
+     * This function returns the number of minutes since 1970-01-01T00:00 on a local
+     * wall clock. A day past the end of the month rolls over into the next month,
+     * like a lenient Calendar does.
+     *
+     * @requires 1 <= month <= 12
+     * @return the local epoch minute
+     */
+    static long localMinute(int year, int month, int day, int hour, int minute) {
+        return epochDay(year, month, day) * MINUTES_PER_DAY + hour * MINUTES_PER_HOUR + minute;
+    }
+
+    /**
+     * This function converts a local wall clock minute into an absolute epoch minute.
+     *
+     * @requires zone != null
+     * @return the epoch minute
+     */
+    static long localToEpochMinute(long localMinute, ZoneId zone) {
+        // guess with the offset at the local value, then correct once for a transition
+        int offset = offsetMinutesAt(localMinute, zone);
+        long guess = localMinute - offset;
+        int actual = offsetMinutesAt(guess, zone);
+        if (actual != offset) {
+            long retry = localMinute - actual;
+            if (offsetMinutesAt(retry, zone) == actual) {
+                return retry;
+            }
+            // in a gap: keep the pre-transition offset, which moves the time forward
+            return localMinute - Math.min(offset, actual);
+        }
+        // in an overlap, prefer the later (standard time) instant
+        int after = offsetMinutesAt(guess + MINUTES_PER_HOUR, zone);
+        if (after < offset && offsetMinutesAt(localMinute - after, zone) == after) {
+            return localMinute - after;
+        }
+        return guess;
+    }
+
+    /**
+     * @requires zone != null
+     * @return the offset of zone from UTC at the given epoch minute, in minutes
+     */
+    static int offsetMinutesAt(long epochMinute, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds() / 60;
+        }
+        return zone.getRules().getOffset(Instant.ofEpochSecond(epochMinute * 60)).getTotalSeconds() / 60;
+    }
+
+    /**
+     * Returns the days since 1970-01-01 of a proleptic Gregorian date.
+     * (days_from_civil, H. Hinnant)
+     */
+    static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    // civil_from_days, split into the three fields so none of them allocates
+
+    private static long dayOfEra(long epochDay) {
+        long z = epochDay + 719468;
+        return z - Math.floorDiv(z, 146097) * 146097;
+    }
+
+    private static long dayOfYearMarch(long doe) {
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        return doe - (365 * yoe + yoe / 4 - yoe / 100);
+    }
+
+    static int dayOfMonth(long epochDay) {
+        long doy = dayOfYearMarch(dayOfEra(epochDay));
+        long mp = (5 * doy + 2) / 153;
+        return (int) (doy - (153 * mp + 2) / 5 + 1);
+    }
+
+    static int monthOfYear(long epochDay) {
+        long mp = (5 * dayOfYearMarch(dayOfEra(epochDay)) + 2) / 153;
+        return (int) (mp < 10 ? mp + 3 : mp - 9);
+    }
+
+    static int yearOf(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        return (int) (yoe + era * 400 + (mp >= 10 ? 1 : 0));
+    }
+}
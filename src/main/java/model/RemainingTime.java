@@ -0,0 +1,189 @@
+package model;
+
+import java.time.ZoneId;
+
+/**
+ * @overview
+ * This class represents the time left to, or passed since, a due time, counted in
+ * whole minutes. It is computed from two epoch minutes with integer arithmetic on
+ * the local wall clock, so unlike a joda Period it needs no DateTime, Interval or
+ * cloned Calendar. Whole months are counted first, like a Period does: a month
+ * added to the 31st ends on the last day of a shorter month. The rest is split
+ * into days, hours and minutes, and there are no weeks or years, so a deadline
+ * 13 months away has 13 months and one 10 days away has 10 days.
+ *
+ * @abstract_value
+ * nowMinute -> the epoch minute the time is counted from
+ * left -> true if the due time has not come yet
+ * months, days, hours, minutes -> the time between now and the due time
+ *
+ * @accessor
+ * long getNowMinute()
+ * boolean isLeft()
+ * int getMonths()
+ * int getDays()
+ * int getHours()
+ * int getMinutes()
+ * long getTotalMinutes()
+ *
+ * @mutator
+ * This class is immutable
+ */
+public final class RemainingTime {
+    private final long nowMinute;
+    private final boolean left;
+    private final int months;
+    private final int days;
+    private final int hours;
+    private final int minutes;
+    private final long totalMinutes;
+
+    private RemainingTime(long nowMinute, boolean left, int months, int days, int hours, int minutes,
+                          long totalMinutes) {
+        this.nowMinute = nowMinute;
+        this.left = left;
+        this.months = months;
+        this.days = days;
+        this.hours = hours;
+        this.minutes = minutes;
+        this.totalMinutes = totalMinutes;
+    }
+
+    /**
+     * This function counts the time between now and a due time
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @param dueMinute the due time as minutes since 1970-01-01T00:00Z
+     * @param zone the time zone months are counted in
+     * @requires zone != null
+     * @modifies None
+     * @effects None
+     * @return the time left if dueMinute is after nowMinute, the time passed otherwise
+     */
+    public static RemainingTime between(long nowMinute, long dueMinute, ZoneId zone) {
+        boolean left = dueMinute > nowMinute;
+        long from = left ? nowMinute : dueMinute;
+        long to = left ? dueMinute : nowMinute;
+        long localFrom = from + EpochMinute.offsetMinutesAt(from, zone);
+        long localTo = to + EpochMinute.offsetMinutesAt(to, zone);
+
+        long fromDay = Math.floorDiv(localFrom, (long) EpochMinute.MINUTES_PER_DAY);
+        long toDay = Math.floorDiv(localTo, (long) EpochMinute.MINUTES_PER_DAY);
+        int fromYear = EpochMinute.yearOf(fromDay);
+        int fromMonth = EpochMinute.monthOfYear(fromDay);
+        int fromDayOfMonth = EpochMinute.dayOfMonth(fromDay);
+        long fromTime = localFrom - fromDay * EpochMinute.MINUTES_PER_DAY;
+
+        int months = (EpochMinute.yearOf(toDay) - fromYear) * 12 + EpochMinute.monthOfYear(toDay) - fromMonth;
+        long start = localFrom;
+        if (months > 0) {
+            start = plusMonths(fromYear, fromMonth, fromDayOfMonth, fromTime, months);
+            if (start > localTo) {
+                months--;
+                start = plusMonths(fromYear, fromMonth, fromDayOfMonth, fromTime, months);
+            }
+        } else {
+            months = 0;
+        }
+        // a daylight saving transition can make the local end fall before the local start
+        long rest = Math.max(0, localTo - start);
+        return new RemainingTime(nowMinute, left, months,
+                (int) (rest / EpochMinute.MINUTES_PER_DAY),
+                (int) (rest % EpochMinute.MINUTES_PER_DAY / EpochMinute.MINUTES_PER_HOUR),
+                (int) (rest % EpochMinute.MINUTES_PER_HOUR),
+                to - from);
+    }
+
+    /**
+     * This function adds months to a local time, keeping the day within the month
+     * @requires 1 <= month <= 12, 1 <= day <= 31, months >= 0
+     * @modifies None
+     * @effects None
+     * @return the local minute months after the given local time
+     */
+    private static long plusMonths(int year, int month, int day, long time, int months) {
+        int index = month - 1 + months;
+        int toYear = year + index / 12;
+        int toMonth = index % 12 + 1;
+        long firstDay = EpochMinute.epochDay(toYear, toMonth, 1);
+        long nextFirstDay = toMonth == 12 ? EpochMinute.epochDay(toYear + 1, 1, 1)
+                : EpochMinute.epochDay(toYear, toMonth + 1, 1);
+        long toDay = Math.min(firstDay + day - 1, nextFirstDay - 1);
+        return toDay * EpochMinute.MINUTES_PER_DAY + time;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the epoch minute the time is counted from
+     */
+    public long getNowMinute() {
+        return this.nowMinute;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return true if the due time has not come yet, false if it has passed
+     */
+    public boolean isLeft() {
+        return this.left;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of whole months
+     */
+    public int getMonths() {
+        return this.months;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of days after the whole months
+     */
+    public int getDays() {
+        return this.days;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of hours after the whole days, from 0 to 23
+     */
+    public int getHours() {
+        return this.hours;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of minutes after the whole hours, from 0 to 59
+     */
+    public int getMinutes() {
+        return this.minutes;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of minutes between now and the due time
+     */
+    public long getTotalMinutes() {
+        return this.totalMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%02d Months %02d Days %02d Hours %02d Minutes %s", this.months, this.days,
+                this.hours, this.minutes, this.left ? "Left" : "Ago");
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @overview
+ * This class holds one shared copy of the strings that repeat across deadlines:
+ * statuses, course names and the common front of links. A status is always one of
+ * the Deadline.STATUS constants, a course name is shared by every deadline of the
+ * course, and links of a course only differ after their last '/', e.g.
+ * "https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/" + "hw1". A deadline
+ * keeps the pooled front of its link and the short rest, and joins them when the
+ * link is asked for.
+ *
+ * Each pool stops growing at MAX_SIZE strings, after which a string that is not
+ * in the pool is returned as it is, so a broken file cannot fill the memory.
+ *
+ * @mutator
+ * String status(String status)
+ * String course(String course)
+ * String linkPrefix(String link)
+ *
+ * @accessor
+ * int size()
+ */
+public final class StringPool {
+    /** the most strings a pool keeps */
+    final static int MAX_SIZE = 4096;
+
+    private final static ConcurrentHashMap<String, String> STATUSES = new ConcurrentHashMap<>();
+    private final static ConcurrentHashMap<String, String> COURSES = new ConcurrentHashMap<>();
+    private final static ConcurrentHashMap<String, String> LINK_PREFIXES = new ConcurrentHashMap<>();
+
+    static {
+        for (String status : Deadline.STATUS.getAllStatus()) {
+            STATUSES.put(status, status);
+        }
+    }
+
+    private StringPool() {
+    }
+
+    /**
+     * This function returns the shared copy of a status
+     * @param status the status
+     * @requires None
+     * @modifies STATUSES
+     * @effects add the status to the pool if it is not in it
+     * @return the Deadline.STATUS constant equal to status, or the shared copy of it
+     */
+    public static String status(String status) {
+        return intern(STATUSES, status);
+    }
+
+    /**
+     * This function returns the shared copy of a course name
+     * @param course the course name
+     * @requires None
+     * @modifies COURSES
+     * @effects add the course name to the pool if it is not in it
+     * @return the shared copy of course
+     */
+    public static String course(String course) {
+        return intern(COURSES, course);
+    }
+
+    /**
+     * This function returns the shared copy of the front of a link, everything up
+     * to and including its last '/'
+     * @param link the link
+     * @requires None
+     * @modifies LINK_PREFIXES
+     * @effects add the front of the link to the pool if it is not in it
+     * @return the shared front of link, "" if it has no '/', null if link is null
+     */
+    public static String linkPrefix(String link) {
+        if (link == null) {
+            return null;
+        }
+        int end = link.lastIndexOf('/') + 1;
+        if (end == 0) {
+            return "";
+        }
+        if (end == link.length()) {
+            return intern(LINK_PREFIXES, link);
+        }
+        String prefix = link.substring(0, end);
+        return intern(LINK_PREFIXES, prefix);
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of strings in all pools
+     */
+    public static int size() {
+        return STATUSES.size() + COURSES.size() + LINK_PREFIXES.size();
+    }
+
+    /**
+     * @requires pool != null
+     * @modifies pool
+     * @effects add s to the pool if it is not in it and the pool is not full
+     * @return the pooled copy of s, or s itself if the pool is full
+     */
+    private static String intern(ConcurrentHashMap<String, String> pool, String s) {
+        if (s == null) {
+            return null;
+        }
+        String shared = pool.get(s);
+        if (shared != null) {
+            return shared;
+        }
+        if (pool.size() >= MAX_SIZE) {
+            return s;
+        }
+        shared = pool.putIfAbsent(s, s);
+        return shared == null ? s : shared;
+    }
+}
@@ -0,0 +1,179 @@
+package model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.TreeSet;
+
+/**
+ * @overview
+ * This class keeps the deadlines that still need attention (not finished and not
+ * in an ignored course) ordered by Deadline.DUE_ORDER, so the closest upcoming
+ * deadline is the head of the set instead of the result of a scan. The set is
+ * updated when a deadline is added, replaced (a status change replaces the
+ * deadline) or removed and when a course is ignored or no longer ignored.
+ * Deadlines that become due are dropped from the head when the closest deadline
+ * is asked for, and the head is cached until the set changes or it becomes due,
+ * so repeated lookups cost O(1).
+ *
+ * This class is thread safe.
+ *
+ * @abstract_value
+ * deadlines -> every deadline offered to this, with at most one deadline of a given
+ *              name in a course
+ * ignored -> the names of the ignored courses
+ * upcoming -> the deadlines in deadlines that are not finished and whose course is
+ *             not in ignored, ordered by Deadline.DUE_ORDER
+ *
+ * @constructor
+ * UpcomingDeadlines()
+ *
+ * @mutator
+ * void put(Deadline deadline)
+ * void remove(String course, String deadlineName)
+ * void ignoreCourse(String course)
+ * void unignoreCourse(String course)
+ * void clear()
+ *
+ * @accessor
+ * Deadline peek(long nowMinute)
+ */
+public class UpcomingDeadlines {
+    private final TreeSet<Deadline> upcoming;
+    private final HashMap<String, HashMap<String, Deadline>> byCourse;
+    private final HashSet<String> ignored;
+    private Deadline head;
+
+    /**
+     * This is the basic constructor of this class
+     * @requires None
+     * @modifies None
+     * @effects create an empty UpcomingDeadlines
+     */
+    public UpcomingDeadlines() {
+        this.upcoming = new TreeSet<>(Deadline.DUE_ORDER);
+        this.byCourse = new HashMap<>();
+        this.ignored = new HashSet<>();
+    }
+
+    /**
+     * This method adds a deadline, replacing the deadline with the same name in the
+     * same course, in O(log n)
+     * @param deadline the deadline
+     * @requires deadline != null
+     * @modifies this
+     * @effects add the deadline to deadlines, and to upcoming if it needs attention
+     */
+    public synchronized void put(Deadline deadline) {
+        Deadline old = this.byCourse.computeIfAbsent(deadline.getCourseName(), c -> new HashMap<>())
+                .put(deadline.getName(), deadline);
+        if (old != null) {
+            this.upcoming.remove(old);
+        }
+        if (this.isUpcoming(deadline)) {
+            this.upcoming.add(deadline);
+        }
+        this.head = null;
+    }
+
+    /**
+     * This method removes a deadline in O(log n)
+     * @param course the course name
+     * @param deadlineName the deadline name
+     * @requires None
+     * @modifies this
+     * @effects remove the deadline with the name in the course
+     */
+    public synchronized void remove(String course, String deadlineName) {
+        HashMap<String, Deadline> deadlines = this.byCourse.get(course);
+        if (deadlines == null) {
+            return;
+        }
+        Deadline old = deadlines.remove(deadlineName);
+        if (deadlines.isEmpty()) {
+            this.byCourse.remove(course);
+        }
+        if (old != null && this.upcoming.remove(old)) {
+            this.head = null;
+        }
+    }
+
+    /**
+     * This method ignores a course
+     * @param course the course name
+     * @requires None
+     * @modifies this
+     * @effects add the course to ignored and remove its deadlines from upcoming
+     */
+    public synchronized void ignoreCourse(String course) {
+        if (!this.ignored.add(course)) {
+            return;
+        }
+        HashMap<String, Deadline> deadlines = this.byCourse.get(course);
+        if (deadlines != null) {
+            for (Deadline d : deadlines.values()) {
+                this.upcoming.remove(d);
+            }
+            this.head = null;
+        }
+    }
+
+    /**
+     * This method stops ignoring a course
+     * @param course the course name
+     * @requires None
+     * @modifies this
+     * @effects remove the course from ignored and add its unfinished deadlines to upcoming
+     */
+    public synchronized void unignoreCourse(String course) {
+        if (!this.ignored.remove(course)) {
+            return;
+        }
+        HashMap<String, Deadline> deadlines = this.byCourse.get(course);
+        if (deadlines != null) {
+            for (Deadline d : deadlines.values()) {
+                if (this.isUpcoming(d)) {
+                    this.upcoming.add(d);
+                }
+            }
+            this.head = null;
+        }
+    }
+
+    /**
+     * This method forgets every deadline; the ignored courses are kept
+     * @requires None
+     * @modifies this
+     * @effects deadlines and upcoming are empty
+     */
+    public synchronized void clear() {
+        this.upcoming.clear();
+        this.byCourse.clear();
+        this.head = null;
+    }
+
+    /**
+     * This function returns the closest deadline that needs attention. Deadlines
+     * due at or before nowMinute are dropped from upcoming, so each one is passed
+     * over once
+     * @param nowMinute the current time as minutes since 1970-01-01T00:00Z
+     * @requires nowMinute does not decrease between calls
+     * @modifies this
+     * @effects remove the deadlines due at or before nowMinute from upcoming
+     * @return the first deadline in upcoming due after nowMinute, null if there is none
+     */
+    public synchronized Deadline peek(long nowMinute) {
+        if (this.head != null && this.head.getDueMinute() > nowMinute) {
+            return this.head;
+        }
+        while (!this.upcoming.isEmpty() && this.upcoming.first().getDueMinute() <= nowMinute) {
+            this.upcoming.pollFirst();
+        }
+        this.head = this.upcoming.isEmpty() ? null : this.upcoming.first();
+        return this.head;
+    }
+
+    private boolean isUpcoming(Deadline deadline) {
+        return !this.ignored.contains(deadline.getCourseName())
+                && !Deadline.STATUS.FINISHED.equals(deadline.getStatus());
+    }
+}
@@ -0,0 +1,360 @@
+package webService;
+
+import model.Deadline;
+
+import java.util.Arrays;
+
+/**
+ * @overview
+ * This class reads the visible text of a Submitty gradeable in one scan. The button
+ * labels are kept in a trie that is built once, and at every position of the text
+ * the longest label is matched. A label decides whether the gradeable is skipped,
+ * what its status is and whether it is a team gradeable, and the positions of the
+ * labels of buttons are kept so that they can be left out of the name. The name is
+ * the first line of what is left and the team due text is the second line, which
+ * is what the chained String.replace and split("\n") calls used to compute. The
+ * only difference is a label that only appears once another label is removed,
+ * e.g. "SUBLATE SUBMITMIT", which is left in the name.
+ *
+ * @abstract_value
+ * skipped -> true if the gradeable is graded or past due
+ * status -> one of Deadline.STATUS
+ * name -> the name of the gradeable
+ * teamName -> the name without the labels of team buttons
+ * team -> true if the gradeable has a team button
+ * teamDueText -> the line after the name, null if there is none
+ *
+ * @accessor
+ * boolean isSkipped()
+ * String getStatus()
+ * String getName()
+ * String getTeamName()
+ * boolean isTeam()
+ * String getTeamDueText()
+ */
+public final class GradeableClassifier {
+    // labels that skip the gradeable
+    private static final int GRADE = 1;
+    private static final int NO_SUBMISSION = 1 << 1;
+    private static final int OVERDUE_SUBMISSION = 1 << 2;
+    // labels that give the status
+    private static final int LATE_SUBMIT = 1 << 3;
+    private static final int LATE_RESUBMIT = 1 << 4;
+    private static final int RESUBMIT = 1 << 5;
+    private static final int MUST_ON_TEAM = 1 << 6;
+    // labels of team buttons
+    private static final int TEAM = 1 << 7;
+    private static final int SKIP = GRADE | NO_SUBMISSION | OVERDUE_SUBMISSION;
+
+    /** labels are made of upper case letters, spaces and slashes */
+    private static final int ALPHABET_SIZE = 28;
+
+    /**
+     * @overview
+     * This class is a node of the label trie
+     */
+    private static final class Node {
+        final Node[] next = new Node[ALPHABET_SIZE];
+        /** true if a label ends here */
+        boolean label;
+        /** the flags of the label that ends here */
+        int flags;
+        /** true if the label that ends here is removed from the name */
+        boolean removed;
+    }
+
+    private static final Node ROOT = new Node();
+    private static final GradeableClassifier SKIPPED = new GradeableClassifier(true, null, null, null, false, null);
+
+    static {
+        add("REGRADE", GRADE, true);
+        add("VIEW GRADE", GRADE, true);
+        add("GRADE", GRADE, true);
+        add("VIEW TEAM", 0, true);
+        add("LATE SUBMIT", LATE_SUBMIT, true);
+        add("LATE RESUBMIT", LATE_RESUBMIT, true);
+        add("RESUBMIT", RESUBMIT, true);
+        add("SUBMIT", 0, true);
+        add("OVERDUE SUBMISSION", OVERDUE_SUBMISSION, true);
+        add("NO SUBMISSION", NO_SUBMISSION, true);
+        add("MUST BE ON A TEAM", MUST_ON_TEAM, false);
+        add("CREATE TEAM", TEAM, false);
+        add("MANAGE TEAM", TEAM, false);
+        add("CREATE/JOIN TEAM", TEAM, false);
+    }
+
+    private static void add(String label, int flags, boolean removed) {
+        Node node = ROOT;
+        for (int i = 0; i < label.length(); i++) {
+            int c = indexOf(label.charAt(i));
+            if (node.next[c] == null) {
+                node.next[c] = new Node();
+            }
+            node = node.next[c];
+        }
+        node.label = true;
+        node.flags = flags;
+        node.removed = removed;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the index of a character in the trie, -1 if no label contains it
+     */
+    private static int indexOf(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c == ' ') {
+            return 26;
+        }
+        if (c == '/') {
+            return 27;
+        }
+        return -1;
+    }
+
+    private final boolean skipped;
+    private final String status;
+    private final String name;
+    private final String teamName;
+    private final boolean team;
+    private final String teamDueText;
+
+    private GradeableClassifier(boolean skipped, String status, String name, String teamName,
+                                boolean team, String teamDueText) {
+        this.skipped = skipped;
+        this.status = status;
+        this.name = name;
+        this.teamName = teamName;
+        this.team = team;
+        this.teamDueText = teamDueText;
+    }
+
+    /**
+     * This function reads the text of a gradeable
+     * @param text the visible text of the gradeable row
+     * @requires text != null
+     * @modifies None
+     * @effects None
+     * @return what the text says about the gradeable, the names and team due text
+     *         are null if the gradeable is skipped
+     */
+    public static GradeableClassifier classify(String text) {
+        int length = text.length();
+        int flags = 0;
+        // the labels removed from the text, as start and end positions
+        int[] removed = new int[8];
+        int removedCount = 0;
+        int removedLength = 0;
+        // the team labels of the first line, as start and end positions after removal
+        int[] teamLabels = null;
+        int teamLabelCount = 0;
+        // the first two line breaks, and whether anything but line breaks is left after the first
+        int firstBreak = -1;
+        int secondBreak = -1;
+        boolean moreLines = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z' || ROOT.next[c - 'A'] == null) {
+                if (c == '\n') {
+                    if (firstBreak < 0) {
+                        firstBreak = i;
+                    } else if (secondBreak < 0) {
+                        secondBreak = i;
+                    }
+                } else if (firstBreak >= 0) {
+                    moreLines = true;
+                }
+                i++;
+                continue;
+            }
+            // the longest label that starts here
+            Node node = ROOT;
+            Node match = null;
+            int matchEnd = i;
+            for (int j = i; j < length; j++) {
+                int index = indexOf(text.charAt(j));
+                if (index < 0 || (node = node.next[index]) == null) {
+                    break;
+                }
+                if (node.label) {
+                    flags |= node.flags;
+                    match = node;
+                    matchEnd = j + 1;
+                }
+            }
+            if ((flags & SKIP) != 0) {
+                return SKIPPED;
+            }
+            if (match != null && match.removed) {
+                if (removedCount * 2 == removed.length) {
+                    removed = Arrays.copyOf(removed, removed.length * 2);
+                }
+                removed[removedCount * 2] = i;
+                removed[removedCount * 2 + 1] = matchEnd;
+                removedCount++;
+                removedLength += matchEnd - i;
+                i = matchEnd;
+                continue;
+            }
+            if (match != null && (match.flags & TEAM) != 0 && firstBreak < 0) {
+                if (teamLabels == null) {
+                    teamLabels = new int[4];
+                } else if (teamLabelCount * 2 == teamLabels.length) {
+                    teamLabels = Arrays.copyOf(teamLabels, teamLabels.length * 2);
+                }
+                teamLabels[teamLabelCount * 2] = i - removedLength;
+                teamLabels[teamLabelCount * 2 + 1] = matchEnd - removedLength;
+                teamLabelCount++;
+            }
+            if (firstBreak >= 0) {
+                moreLines = true;
+            }
+            i++;
+        }
+
+        String status;
+        if ((flags & LATE_SUBMIT) != 0) {
+            status = Deadline.STATUS.LATE_SUBMIT;
+        } else if ((flags & LATE_RESUBMIT) != 0) {
+            status = Deadline.STATUS.LATE_RESUBMIT;
+        } else if ((flags & RESUBMIT) != 0) {
+            status = Deadline.STATUS.RESUBMIT;
+        } else if ((flags & MUST_ON_TEAM) != 0) {
+            status = Deadline.STATUS.MUST_ON_TEAM;
+        } else {
+            status = Deadline.STATUS.DEFAULT;
+        }
+        boolean team = (flags & TEAM) != 0;
+
+        // the name is the trimmed first line, the team name is the same without team labels
+        String line = strip(text, 0, firstBreak < 0 ? length : firstBreak, removed, removedCount);
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        String name = line.substring(start, end);
+        String teamName = name;
+        if (teamLabelCount > 0) {
+            StringBuilder builder = new StringBuilder(end - start);
+            int from = start;
+            for (int k = 0; k < teamLabelCount; k++) {
+                builder.append(line, from, teamLabels[k * 2]);
+                from = teamLabels[k * 2 + 1];
+            }
+            builder.append(line, from, end);
+            teamName = builder.toString();
+        }
+
+        String teamDueText = null;
+        if (team && moreLines) {
+            teamDueText = strip(text, firstBreak + 1, secondBreak < 0 ? length : secondBreak,
+                    removed, removedCount).trim();
+        }
+        return new GradeableClassifier(false, status, name, teamName, team, teamDueText);
+    }
+
+    /**
+     * This function copies a part of a text without the labels that were removed
+     * @param text the text
+     * @param from the start of the part
+     * @param to the end of the part
+     * @param removed the start and end positions of the removed labels, in order
+     * @param removedCount the number of removed labels
+     * @requires no removed label crosses from or to
+     * @modifies None
+     * @effects None
+     * @return the part of the text
+     */
+    private static String strip(String text, int from, int to, int[] removed, int removedCount) {
+        StringBuilder builder = null;
+        int copied = from;
+        for (int k = 0; k < removedCount; k++) {
+            int start = removed[k * 2];
+            if (start < from) {
+                continue;
+            }
+            if (start >= to) {
+                break;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(to - from);
+            }
+            builder.append(text, copied, start);
+            copied = removed[k * 2 + 1];
+        }
+        if (builder == null) {
+            return text.substring(from, to);
+        }
+        return builder.append(text, copied, to).toString();
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return true if the gradeable is graded or past due and has no deadline
+     */
+    public boolean isSkipped() {
+        return this.skipped;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the status, one of Deadline.STATUS, before the progress is checked
+     */
+    public String getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the name of the gradeable
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the name of the gradeable without the labels of team buttons
+     */
+    public String getTeamName() {
+        return this.teamName;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return true if the gradeable has a team button
+     */
+    public boolean isTeam() {
+        return this.team;
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the trimmed line after the name of a team gradeable, null if there is none
+     */
+    public String getTeamDueText() {
+        return this.teamDueText;
+    }
+}
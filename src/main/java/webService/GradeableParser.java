@@ -0,0 +1,100 @@
+package webService;
+
+import main.viewer.Log;
+import model.CalendarWrapper;
+import model.Course;
+import model.Deadline;
+
+import java.util.function.Supplier;
+
+/**
+ * @overview
+ * This class turns the text of a Submitty gradeable into deadlines. It is shared
+ * by every SubmittyScraper, so the way a gradeable is read does not depend on
+ * how its page was fetched.
+ *
+ * @abstract_value
+ * None, this class only has static functions
+ */
+final class GradeableParser {
+    private GradeableParser() {
+    }
+
+    /**
+     * This method reads one gradeable and adds its deadlines to a course. The text
+     * is read by GradeableClassifier, and a gradeable that is already graded or
+     * past due is skipped. A team gradeable
+     * also adds a "(MANAGE TEAM)" deadline for the team due date.
+     * @param course the course to add the deadlines to
+     * @param courseLabel the full course name on the course button, for messages
+     * @param text the visible text of the gradeable row
+     * @param link the link of the gradeable button, null if there is none
+     * @param meterStyle returns the style of the progress bar, null if there is none
+     * @param dueText returns the text of the due date subtitle, null if there is none
+     * @requires course != null, text != null, meterStyle != null, dueText != null
+     * @modifies course
+     * @effects add the deadlines of the gradeable to course
+     */
+    static void addGradeable(Course course, String courseLabel, String text, String link,
+                             Supplier<String> meterStyle, Supplier<String> dueText) {
+        Log.debug("DEBUG: [GradeableParser] Working on a new gradable " + text);
+        GradeableClassifier gradeable = GradeableClassifier.classify(text);
+        if (gradeable.isSkipped())  // graded or past homework
+            return;
+
+        String status = gradeable.getStatus();
+        // progress
+        if (status.equals(Deadline.STATUS.RESUBMIT)) {
+            String progressStr = meterStyle.get();
+            if (progressStr == null) {
+                Log.error("DEBUG: [GradeableParser] Deadline " + text + " for " + courseLabel + " contains no width");
+            } else if (progressStr.startsWith("width: ")) {
+                try {
+                    int progress = Integer.valueOf(progressStr.replace("width: ", "")
+                            .replace("%", "").replace(";", "").trim());
+                    if (progress == 100) {
+                        status = Deadline.STATUS.FINISHED;
+                    }
+                } catch (NumberFormatException e) {
+                    Log.error("DEBUG: [GradeableParser] Deadline " + text + " for " + courseLabel + " has width " + progressStr);
+                }
+            }
+        }
+        if (link == null) {
+            // the attribute's href value is null if the value is not set
+            link = "";
+        }
+
+        String name = gradeable.getName();
+        // team works
+        if (gradeable.isTeam()) {
+            String teamDueText = gradeable.getTeamDueText();
+            if (teamDueText == null) {
+                Log.debug("DEBUG: [GradeableParser] No team deadlines for " + name);
+            } else {
+                CalendarWrapper teamDueDate = Deadline.tryParseDate(teamDueText);
+                if (teamDueDate == null) {
+                    Log.error("[GradeableParser] Due date format not correct: " + teamDueText);
+                } else {
+                    name = gradeable.getTeamName();
+                    String createTeamName = name + " (MANAGE TEAM)";
+                    Deadline teamDue = new Deadline(teamDueDate, createTeamName, course.getCourseName(), status, link);
+                    course.addDeadline(teamDue);
+                }
+            }
+        }
+        String due = dueText.get();
+        if (due == null) {
+            Log.debug("DEBUG: [GradeableParser] No due for this element " + name);
+            return;
+        }
+        CalendarWrapper currDueDate = Deadline.tryParseDate(due);
+        if (currDueDate == null) {
+            Log.error("[GradeableParser] Due date format not correct: " + due);
+            return;
+        }
+        Deadline currDue = new Deadline(currDueDate, name, course.getCourseName(), status, link);
+        Log.debug("DEBUG: [GradeableParser] Adding " + currDue.toString());
+        course.addDeadline(currDue);
+    }
+}
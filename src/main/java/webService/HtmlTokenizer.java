@@ -0,0 +1,464 @@
+package webService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @overview
+ * This class splits an HTML page into start tags, end tags and text while it is
+ * read, without building a document. It only understands as much HTML as is needed
+ * to find elements by tag, class and attribute: comments, doctypes and the content
+ * of script and style elements are skipped, and character references in text and
+ * attribute values are decoded.
+ *
+ * @abstract_value
+ * reader -> the page being read
+ * token -> the kind of the current token
+ * tagName -> the lower case name of the current start or end tag
+ * attributes -> the attributes of the current start tag
+ * text -> the decoded text of the current text token
+ *
+ * @constructor
+ * HtmlTokenizer(Reader reader)
+ *
+ * @mutator
+ * Token next()
+ *
+ * @accessor
+ * String getTagName()
+ * String getAttribute(String name)
+ * boolean isSelfClosing()
+ * String getText()
+ */
+public class HtmlTokenizer {
+    /** the kinds of tokens */
+    public enum Token { START_TAG, END_TAG, TEXT, EOF }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private Token token;
+    private String tagName;
+    private boolean selfClosing;
+    private final List<String> attributeNames = new ArrayList<>();
+    private final List<String> attributeValues = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    /** the raw text element whose content has to be skipped, null if none */
+    private String skipUntilEnd;
+
+    /**
+     * This is the basic constructor of this class
+     * @param reader the page, it is not buffered again
+     * @requires reader != null
+     * @modifies reader
+     * @effects create a new HtmlTokenizer object
+     */
+    public HtmlTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * This function reads the next token
+     * @requires None
+     * @modifies this
+     * @effects move to the next token
+     * @return the kind of the token, EOF at the end of the page
+     * @throws IOException if the page cannot be read
+     */
+    public Token next() throws IOException {
+        if (this.skipUntilEnd != null) {
+            String name = this.skipUntilEnd;
+            this.skipUntilEnd = null;
+            if (this.skipRawText(name)) {
+                return this.token = Token.END_TAG;
+            }
+            return this.token = Token.EOF;
+        }
+        int c = this.peek(0);
+        if (c < 0) {
+            return this.token = Token.EOF;
+        }
+        if (c == '<') {
+            int c1 = this.peek(1);
+            if (isLetter(c1)) {
+                this.pos++;
+                this.readStartTag();
+                return this.token = Token.START_TAG;
+            } else if (c1 == '/' && isLetter(this.peek(2))) {
+                this.pos += 2;
+                this.tagName = this.readName();
+                this.skipPast('>');
+                return this.token = Token.END_TAG;
+            } else if (c1 == '!' && this.peek(2) == '-' && this.peek(3) == '-') {
+                this.pos += 4;
+                this.skipPast("-->");
+                return this.next();
+            } else if (c1 == '!' || c1 == '?' || c1 == '/') {
+                this.pos += 2;
+                this.skipPast('>');
+                return this.next();
+            }
+        }
+        this.readText();
+        return this.token = Token.TEXT;
+    }
+
+    /**
+     * @requires the current token is a start or end tag
+     * @modifies None
+     * @effects None
+     * @return the lower case tag name
+     */
+    public String getTagName() {
+        return this.tagName;
+    }
+
+    /**
+     * @param name the lower case attribute name
+     * @requires the current token is a start tag
+     * @modifies None
+     * @effects None
+     * @return the decoded attribute value, "" for an attribute without a value,
+     *         null if the tag has no such attribute
+     */
+    public String getAttribute(String name) {
+        for (int i = 0; i < this.attributeNames.size(); i++) {
+            if (this.attributeNames.get(i).equals(name)) {
+                return this.attributeValues.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @requires the current token is a start tag
+     * @modifies None
+     * @effects None
+     * @return true if the tag ends with "/>"
+     */
+    public boolean isSelfClosing() {
+        return this.selfClosing;
+    }
+
+    /**
+     * @requires the current token is text
+     * @modifies None
+     * @effects None
+     * @return the decoded text
+     */
+    public String getText() {
+        return this.text.toString();
+    }
+
+    /**
+     * This function checks if a class attribute contains a class
+     * @param classAttribute the value of a class attribute, may be null
+     * @param className the class
+     * @requires className != null
+     * @modifies None
+     * @effects None
+     * @return true if className is one of the space separated classes
+     */
+    public static boolean hasClass(String classAttribute, String className) {
+        if (classAttribute == null) {
+            return false;
+        }
+        int from = 0;
+        while ((from = classAttribute.indexOf(className, from)) >= 0) {
+            int end = from + className.length();
+            if ((from == 0 || Character.isWhitespace(classAttribute.charAt(from - 1)))
+                    && (end == classAttribute.length() || Character.isWhitespace(classAttribute.charAt(end)))) {
+                return true;
+            }
+            from = end;
+        }
+        return false;
+    }
+
+    /**
+     * This function reads a start tag after its "<"
+     * @requires None
+     * @modifies this
+     * @effects read the tag name and attributes
+     */
+    private void readStartTag() throws IOException {
+        this.tagName = this.readName();
+        this.attributeNames.clear();
+        this.attributeValues.clear();
+        this.selfClosing = false;
+        while (true) {
+            this.skipWhitespace();
+            int c = this.peek(0);
+            if (c < 0) {
+                return;
+            }
+            if (c == '>') {
+                this.pos++;
+                break;
+            }
+            if (c == '/') {
+                this.pos++;
+                if (this.peek(0) == '>') {
+                    this.pos++;
+                    this.selfClosing = true;
+                    break;
+                }
+                continue;
+            }
+            String name = this.readName();
+            if (name.isEmpty()) {
+                // not a valid attribute name, drop the character
+                this.pos++;
+                continue;
+            }
+            this.skipWhitespace();
+            String value = "";
+            if (this.peek(0) == '=') {
+                this.pos++;
+                this.skipWhitespace();
+                value = this.readAttributeValue();
+            }
+            this.attributeNames.add(name);
+            this.attributeValues.add(value);
+        }
+        if (!this.selfClosing && (this.tagName.equals("script") || this.tagName.equals("style"))) {
+            this.skipUntilEnd = this.tagName;
+        }
+    }
+
+    /**
+     * This function reads a quoted or unquoted attribute value
+     * @requires None
+     * @modifies this
+     * @effects None
+     * @return the decoded value
+     */
+    private String readAttributeValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+        int quote = this.peek(0);
+        if (quote == '"' || quote == '\'') {
+            this.pos++;
+            int c;
+            while ((c = this.peek(0)) >= 0 && c != quote) {
+                this.pos++;
+                value.append((char) c);
+            }
+            this.pos++;
+        } else {
+            int c;
+            while ((c = this.peek(0)) >= 0 && !Character.isWhitespace(c) && c != '>') {
+                this.pos++;
+                value.append((char) c);
+            }
+        }
+        return decode(value);
+    }
+
+    /**
+     * This function reads text up to the next "<" that starts markup
+     * @requires None
+     * @modifies text
+     * @effects None
+     */
+    private void readText() throws IOException {
+        this.text.setLength(0);
+        StringBuilder raw = new StringBuilder();
+        raw.append((char) this.peek(0));
+        this.pos++;
+        int c;
+        while ((c = this.peek(0)) >= 0 && !(c == '<' && startsMarkup(this.peek(1)))) {
+            raw.append((char) c);
+            this.pos++;
+        }
+        this.text.append(decode(raw));
+    }
+
+    /**
+     * This function skips the content of a raw text element and its end tag
+     * @param name the element name
+     * @requires None
+     * @modifies this
+     * @effects None
+     * @return false if the page ended first
+     */
+    private boolean skipRawText(String name) throws IOException {
+        while (true) {
+            int c = this.peek(0);
+            if (c < 0) {
+                return false;
+            }
+            this.pos++;
+            if (c == '<' && this.peek(0) == '/') {
+                boolean match = true;
+                for (int i = 0; i < name.length() && match; i++) {
+                    match = Character.toLowerCase(this.peek(1 + i)) == name.charAt(i);
+                }
+                if (match) {
+                    this.pos++;
+                    this.tagName = this.readName();
+                    this.skipPast('>');
+                    return true;
+                }
+            }
+        }
+    }
+
+    private String readName() throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c;
+        while ((c = this.peek(0)) >= 0 && !Character.isWhitespace(c) && c != '>' && c != '/' && c != '=') {
+            name.append((char) c);
+            this.pos++;
+        }
+        return name.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    private void skipWhitespace() throws IOException {
+        int c;
+        while ((c = this.peek(0)) >= 0 && Character.isWhitespace(c)) {
+            this.pos++;
+        }
+    }
+
+    private void skipPast(char end) throws IOException {
+        int c;
+        while ((c = this.peek(0)) >= 0) {
+            this.pos++;
+            if (c == end) {
+                return;
+            }
+        }
+    }
+
+    private void skipPast(String end) throws IOException {
+        int matched = 0;
+        int c;
+        while (matched < end.length() && (c = this.peek(0)) >= 0) {
+            this.pos++;
+            if (c == end.charAt(matched)) {
+                matched++;
+            } else {
+                matched = (c == end.charAt(0)) ? 1 : 0;
+            }
+        }
+    }
+
+    /**
+     * This function returns a character ahead of the current position
+     * @param ahead the number of characters to look ahead, less than the buffer size
+     * @requires ahead >= 0
+     * @modifies buffer, pos, limit
+     * @effects read more of the page if needed
+     * @return the character, or -1 after the end of the page
+     */
+    private int peek(int ahead) throws IOException {
+        if (this.pos + ahead >= this.limit) {
+            if (this.pos > 0) {
+                System.arraycopy(this.buffer, this.pos, this.buffer, 0, this.limit - this.pos);
+                this.limit -= this.pos;
+                this.pos = 0;
+            }
+            while (ahead >= this.limit) {
+                int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+                if (read < 0) {
+                    return -1;
+                }
+                this.limit += read;
+            }
+        }
+        return this.buffer[this.pos + ahead];
+    }
+
+    private static boolean startsMarkup(int c) {
+        return isLetter(c) || c == '/' || c == '!' || c == '?';
+    }
+
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * This function decodes the character references of a piece of text. A
+     * non-breaking space is decoded as a plain space, the way browsers report
+     * visible text.
+     * @param raw the text
+     * @requires raw != null
+     * @modifies None
+     * @effects None
+     * @return the decoded text
+     */
+    static String decode(CharSequence raw) {
+        int amp = -1;
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) == '&') {
+                amp = i;
+                break;
+            }
+        }
+        if (amp < 0) {
+            return raw.toString();
+        }
+        StringBuilder out = new StringBuilder(raw.length());
+        out.append(raw, 0, amp);
+        int i = amp;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+            if (c != '&') {
+                out.append(c);
+                i++;
+                continue;
+            }
+            int semi = -1;
+            for (int j = i + 1; j < raw.length() && j < i + 10; j++) {
+                if (raw.charAt(j) == ';') {
+                    semi = j;
+                    break;
+                }
+            }
+            String decoded = semi < 0 ? null : decodeEntity(raw.subSequence(i + 1, semi).toString());
+            if (decoded == null) {
+                out.append(c);
+                i++;
+            } else {
+                out.append(decoded);
+                i = semi + 1;
+            }
+        }
+        return out.toString();
+    }
+
+    private static String decodeEntity(String entity) {
+        switch (entity) {
+            case "amp":
+                return "&";
+            case "lt":
+                return "<";
+            case "gt":
+                return ">";
+            case "quot":
+                return "\"";
+            case "apos":
+                return "'";
+            case "nbsp":
+                return " ";
+        }
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            try {
+                int code = (entity.charAt(1) == 'x' || entity.charAt(1) == 'X')
+                        ? Integer.parseInt(entity.substring(2), 16)
+                        : Integer.parseInt(entity.substring(1));
+                if (code == 0xA0) {
+                    return " ";
+                }
+                return new String(Character.toChars(code));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,715 @@
+package webService;
+
+import main.viewer.Log;
+import model.Course;
+import webService.replay.PageRecorder;
+
+import javax.swing.JLabel;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @overview
+ * This class reads the deadlines of a Submitty user with plain HTTP requests. The
+ * login form is posted directly, the session cookies are kept in a cookie manager
+ * of its own, and the pages are read with an HtmlTokenizer while they download,
+ * so no browser engine, JavaScript or CSS is involved.
+ *
+ * @abstract_value
+ * baseUrl -> the Submitty server, e.g. https://submitty.cs.rpi.edu
+ * user_id, password -> String object which stores the user_id and password for login
+ * cookies -> the session cookies
+ * courseLinks -> a <course_name, course_page_link> map read from the home page
+ * courseList -> a <course_name, course_object> map
+ *
+ * @constructor
+ * HttpSubmittyScraper(String user_id, String password, Object currProgressLabel)
+ * HttpSubmittyScraper(String baseUrl, String user_id, String password, Object currProgressLabel)
+ *
+ * @mutator
+ * login() throws LoginFailException
+ * parser(HashSet<String> ExceptionCourses, SyncState state, int maxConnections)
+ * close()
+ *
+ * @accessor
+ * ConcurrentHashMap<String, Course> getCourseMap()
+ * SyncState.Diff getDiff()
+ */
+public class HttpSubmittyScraper implements SubmittyScraper {
+    public static final String DEFAULT_URL = "https://submitty.cs.rpi.edu";
+    private static final String LOGIN_FAILED_TEXT = "Could not login using that user id or password";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 6.1; WOW64; rv:25.0) Gecko/20160101 Firefox/66.0";
+    private static final int TIMEOUT = 30000;
+    private static final int MAX_REDIRECTS = 10;
+    /** elements that never have an end tag */
+    private static final HashSet<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta",
+            "param", "source", "track", "wbr"));
+    /** elements whose visible text starts on a new line */
+    private static final HashSet<String> BLOCK_ELEMENTS = new HashSet<>(Arrays.asList(
+            "address", "article", "aside", "blockquote", "br", "dd", "div", "dl", "dt",
+            "fieldset", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header",
+            "hr", "li", "main", "nav", "ol", "p", "pre", "section", "table", "td", "th",
+            "tr", "ul"));
+
+    private final String baseUrl;
+    private final String user_id;
+    private final String password;
+    private final Object currProgressLabel;
+    private final CookieManager cookies;
+    private Map<String, String> courseLinks;
+    private ConcurrentHashMap<String, Course> courseList;
+    private SyncState.Diff diff;
+    private volatile PageRecorder recorder;
+
+    /**
+     * @overview
+     * This class holds what a course page says about one gradeable
+     */
+    static final class Gradeable {
+        String text;
+        String link;
+        String meterStyle;
+        String dueText;
+    }
+
+    /**
+     * @overview
+     * This class is an open element while a page is read
+     */
+    private static final class Frame {
+        final String tag;
+        final String classes;
+        final int textStart;
+        Gradeable button;
+        String meterStyle;
+        List<Gradeable> rows;
+        List<Gradeable> children;
+
+        Frame(String tag, String classes, int textStart) {
+            this.tag = tag;
+            this.classes = classes;
+            this.textStart = textStart;
+        }
+    }
+
+    /**
+     * This is the basic constructor of this class
+     * @param user_id Submitty user id
+     * @param password Submitty password
+     * @param currProgressLabel a label to show current progress
+     * @requires user_id != NULL; password != NULL
+     * @modifies user_id, password
+     * @effects create a new HttpSubmittyScraper object
+     * @throws SubmittyAccess.LoginFailException if user id or password is empty
+     */
+    public HttpSubmittyScraper(String user_id, String password, Object currProgressLabel)
+            throws SubmittyAccess.LoginFailException {
+        this(DEFAULT_URL, user_id, password, currProgressLabel);
+    }
+
+    /**
+     * This is the constructor of this class for a given Submitty server
+     * @param baseUrl the Submitty server, without a trailing slash
+     * @param user_id Submitty user id
+     * @param password Submitty password
+     * @param currProgressLabel a label to show current progress
+     * @requires baseUrl != NULL; user_id != NULL; password != NULL
+     * @modifies baseUrl, user_id, password
+     * @effects create a new HttpSubmittyScraper object
+     * @throws SubmittyAccess.LoginFailException if user id or password is empty
+     */
+    public HttpSubmittyScraper(String baseUrl, String user_id, String password, Object currProgressLabel)
+            throws SubmittyAccess.LoginFailException {
+        if (user_id.equals("") || password.equals(""))
+            throw new SubmittyAccess.LoginFailException("User id or password cannot be empty.");
+        this.baseUrl = baseUrl;
+        this.user_id = user_id;
+        this.password = password;
+        this.currProgressLabel = currProgressLabel;
+        this.cookies = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        this.courseList = new ConcurrentHashMap<>();
+        this.courseLinks = Collections.emptyMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void login() throws SubmittyAccess.LoginFailException {
+        synchronized (this) {
+            if (currProgressLabel instanceof JLabel) {
+                ((JLabel) currProgressLabel).setText("Establishing connection...");
+                ((JLabel) currProgressLabel).repaint();
+            }
+        }
+        try {
+            // read the login form, including any hidden token
+            Map<String, String> form = new LinkedHashMap<>();
+            String[] action = {null};
+            String loginUrl = this.fetch(this.baseUrl + "/home", null, html -> readLoginForm(html, form, action));
+            if (!form.containsKey("user_id")) {
+                throw new SubmittyAccess.LoginFailException("Login failed: no login form at " + loginUrl);
+            }
+            form.put("user_id", this.user_id);
+            form.put("password", this.password);
+            String target = (action[0] == null || action[0].isEmpty()) ? loginUrl : resolve(loginUrl, action[0]);
+
+            // post it and read the course buttons of the page it leads to
+            Map<String, String> links = new LinkedHashMap<>();
+            boolean[] failed = {false};
+            String home = this.fetch(target, encodeForm(form), html -> readCourseLinks(html, links, failed));
+            if (failed[0]) {
+                throw new SubmittyAccess.LoginFailException("Login failed: Could not login using " +
+                        "that user id or password");
+            }
+            for (Map.Entry<String, String> link : links.entrySet()) {
+                link.setValue(resolve(home, link.getValue()));
+            }
+            this.courseLinks = links;
+        } catch (IOException e) {
+            throw new SubmittyAccess.LoginFailException(e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void parser(HashSet<String> ExceptionCourses, SyncState state, int maxConnections) {
+        Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+        AtomicInteger unchanged = new AtomicInteger();
+        int threads = Math.max(1, Math.min(maxConnections, this.courseLinks.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "submitty-course");
+            t.setDaemon(true);
+            return t;
+        });
+        Map<String, Future<Course>> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, String> course : this.courseLinks.entrySet()) {
+                results.put(course.getKey(), pool.submit(() ->
+                        this.readCourse(course.getKey(), course.getValue(), state, fingerprints, unchanged)));
+            }
+            for (Map.Entry<String, Future<Course>> result : results.entrySet()) {
+                this.courseList.put(result.getKey(), result.getValue().get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching courses", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (state != null) {
+            this.diff = state.update(this.user_id, this.courseList, fingerprints);
+            Log.debug("DEBUG: [accessHttp] " + unchanged.get() + " courses unchanged, " + this.diff);
+        }
+        Log.debug("DEBUG: [accessHttp] End of parsing");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConcurrentHashMap<String, Course> getCourseMap() {
+        return new ConcurrentHashMap<>(this.courseList);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SyncState.Diff getDiff() {
+        return this.diff;
+    }
+
+    /**
+     * This function saves every page this scraper reads from now on
+     * @param recorder the recorder to save pages to, null to stop recording
+     * @requires None
+     * @modifies this
+     * @effects set the recorder
+     */
+    public void setRecorder(PageRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * {@inheritDoc}
+     * There is no browser to close, so this only forgets the session cookies.
+     */
+    @Override
+    public void close() {
+        this.cookies.getCookieStore().removeAll();
+    }
+
+    /**
+     * This function fetches and reads one course page
+     * @requires None
+     * @modifies fingerprints, unchanged
+     * @effects fetch the course page
+     * @return the course on the page
+     */
+    private Course readCourse(String courseName, String link, SyncState state,
+                              Map<String, Long> fingerprints, AtomicInteger unchanged) {
+        Log.debug("DEBUG: [accessHttp] Parsing current course " + courseName);
+        List<Gradeable> gradeables = new ArrayList<>();
+        try {
+            String page = this.fetch(link, null, html -> readGradeables(html, gradeables));
+            resolveLinks(page, gradeables);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error when fetching " + courseName, e);
+        }
+        Log.debug("DEBUG: [accessHttp] Course <" + courseName + "> Found " + gradeables.size() + " gradables");
+        if (state != null) {
+            List<String> parts = new ArrayList<>(gradeables.size() * 4);
+            for (Gradeable g : gradeables) {
+                parts.add(g.text);
+                parts.add(g.link);
+                parts.add(g.meterStyle);
+                parts.add(g.dueText);
+            }
+            long fingerprint = SyncState.fingerprint(parts);
+            fingerprints.put(courseName, fingerprint);
+            Course last = state.getUnchangedCourse(this.user_id, courseName, fingerprint);
+            if (last != null) {
+                unchanged.incrementAndGet();
+                return last;
+            }
+        }
+        return toCourse(courseName, gradeables);
+    }
+
+    /**
+     * This function reads the gradeables of a course page that was already downloaded
+     * @param courseName the text of the course button on the home page
+     * @param pageUrl the url of the page, links are resolved against it
+     * @param page the page
+     * @requires courseName != null, pageUrl != null, page != null
+     * @modifies page
+     * @effects None
+     * @return the course on the page
+     * @throws IOException if the page cannot be read
+     */
+    public static Course readCoursePage(String courseName, String pageUrl, Reader page) throws IOException {
+        List<Gradeable> gradeables = new ArrayList<>();
+        readGradeables(new HtmlTokenizer(page), gradeables);
+        resolveLinks(pageUrl, gradeables);
+        return toCourse(courseName, gradeables);
+    }
+
+    /**
+     * This function makes the links of gradeables absolute, the way a browser reports them
+     * @requires None
+     * @modifies gradeables
+     * @effects None
+     */
+    private static void resolveLinks(String pageUrl, List<Gradeable> gradeables) throws IOException {
+        for (Gradeable g : gradeables) {
+            if (g.link != null) {
+                g.link = resolve(pageUrl, g.link);
+            }
+        }
+    }
+
+    private static Course toCourse(String courseName, List<Gradeable> gradeables) {
+        Course course = new Course(courseName.replace("Fall 2019", "").trim());
+        for (Gradeable g : gradeables) {
+            GradeableParser.addGradeable(course, courseName, g.text, g.link, () -> g.meterStyle, () -> g.dueText);
+        }
+        return course;
+    }
+
+    /**
+     * @overview
+     * This interface reads a page while it downloads
+     */
+    interface PageReader {
+        void read(HtmlTokenizer html) throws IOException;
+    }
+
+    /**
+     * This function requests a page, follows redirects and keeps the cookies
+     * @param url the page
+     * @param form the url encoded form to post, null for a GET request
+     * @param reader reads the final page
+     * @requires url != null, reader != null
+     * @modifies cookies
+     * @effects request the page, and save it if a recorder is set
+     * @return the url of the final page
+     * @throws IOException if the page cannot be fetched
+     */
+    private String fetch(String url, String form, PageReader reader) throws IOException {
+        boolean posted = form != null;
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            URI uri = toUri(url);
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setInstanceFollowRedirects(false);
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestProperty("User-Agent", USER_AGENT);
+            for (Map.Entry<String, List<String>> header :
+                    this.cookies.get(uri, Collections.emptyMap()).entrySet()) {
+                if (!header.getValue().isEmpty()) {
+                    connection.setRequestProperty(header.getKey(), String.join("; ", header.getValue()));
+                }
+            }
+            if (form != null) {
+                byte[] body = form.getBytes(StandardCharsets.UTF_8);
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+                connection.setFixedLengthStreamingMode(body.length);
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(body);
+                }
+            }
+            int code = connection.getResponseCode();
+            this.cookies.put(uri, connection.getHeaderFields());
+            String location = connection.getHeaderField("Location");
+            if (code >= 300 && code < 400 && location != null) {
+                connection.getInputStream().close();
+                url = resolve(url, location);
+                if (code != 307 && code != 308) {
+                    form = null;
+                }
+                continue;
+            }
+            InputStream stream = code >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            if (stream == null) {
+                throw new IOException("HTTP " + code + " from " + url);
+            }
+            try (BufferedReader page = new BufferedReader(new InputStreamReader(stream,
+                    charsetOf(connection.getContentType())))) {
+                if (code >= 400) {
+                    throw new IOException("HTTP " + code + " from " + url);
+                }
+                PageRecorder recorder = this.recorder;
+                if (recorder == null) {
+                    reader.read(new HtmlTokenizer(page));
+                } else {
+                    StringWriter copy = new StringWriter();
+                    char[] buffer = new char[8192];
+                    int n;
+                    while ((n = page.read(buffer)) > 0) {
+                        copy.write(buffer, 0, n);
+                    }
+                    recorder.record(url, copy.toString(), posted);
+                    reader.read(new HtmlTokenizer(new StringReader(copy.toString())));
+                }
+            }
+            return url;
+        }
+        throw new IOException("Too many redirects from " + url);
+    }
+
+    /**
+     * This function reads the fields of the form that contains the user_id input
+     * @requires None
+     * @modifies fields, action
+     * @effects None
+     */
+    static void readLoginForm(HtmlTokenizer html, Map<String, String> fields, String[] action) throws IOException {
+        Map<String, String> current = null;
+        String currentAction = null;
+        HtmlTokenizer.Token token;
+        while ((token = html.next()) != HtmlTokenizer.Token.EOF) {
+            if (token == HtmlTokenizer.Token.START_TAG) {
+                if (html.getTagName().equals("form")) {
+                    current = new LinkedHashMap<>();
+                    currentAction = html.getAttribute("action");
+                } else if (current != null && html.getTagName().equals("input")) {
+                    String name = html.getAttribute("name");
+                    if (name != null) {
+                        String value = html.getAttribute("value");
+                        current.put(name, value == null ? "" : value);
+                    }
+                }
+            } else if (token == HtmlTokenizer.Token.END_TAG && html.getTagName().equals("form")) {
+                if (current != null && current.containsKey("user_id")) {
+                    fields.putAll(current);
+                    action[0] = currentAction;
+                    return;
+                }
+                current = null;
+            }
+        }
+        if (current != null && current.containsKey("user_id")) {
+            fields.putAll(current);
+            action[0] = currentAction;
+        }
+    }
+
+    /**
+     * This function reads the course buttons of the home page, and whether the page
+     * says that the login failed
+     * @requires None
+     * @modifies links, failed
+     * @effects None
+     */
+    static void readCourseLinks(HtmlTokenizer html, Map<String, String> links, boolean[] failed) throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<Frame> stack = new ArrayList<>();
+        List<String> hrefs = new ArrayList<>();
+        HtmlTokenizer.Token token;
+        while ((token = html.next()) != HtmlTokenizer.Token.EOF) {
+            if (token == HtmlTokenizer.Token.TEXT) {
+                appendText(text, html.getText());
+                if (html.getText().contains(LOGIN_FAILED_TEXT)) {
+                    failed[0] = true;
+                }
+            } else if (token == HtmlTokenizer.Token.START_TAG) {
+                String tag = html.getTagName();
+                if (BLOCK_ELEMENTS.contains(tag)) {
+                    text.append('\n');
+                }
+                if (VOID_ELEMENTS.contains(tag) || html.isSelfClosing()) {
+                    continue;
+                }
+                stack.add(new Frame(tag, html.getAttribute("class"), text.length()));
+                hrefs.add(html.getAttribute("href"));
+            } else {
+                int open = lastOpen(stack, html.getTagName());
+                while (open >= 0 && stack.size() > open) {
+                    Frame frame = stack.remove(stack.size() - 1);
+                    String href = hrefs.remove(hrefs.size() - 1);
+                    if (HtmlTokenizer.hasClass(frame.classes, "btn-block") && href != null) {
+                        links.put(visibleText(text, frame.textStart), href);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * This function reads every gradeable of a course page. For each element with
+     * the btn-nav-submit class it keeps the text of its grandparent, its link, the
+     * style of the span in a sibling div with the meter class and the text of a
+     * descendant with the subtitle class, which is what a browser based scraper
+     * would read.
+     * @requires None
+     * @modifies gradeables
+     * @effects None
+     */
+    static void readGradeables(HtmlTokenizer html, List<Gradeable> gradeables) throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<Frame> stack = new ArrayList<>();
+        HtmlTokenizer.Token token;
+        while ((token = html.next()) != HtmlTokenizer.Token.EOF) {
+            if (token == HtmlTokenizer.Token.TEXT) {
+                appendText(text, html.getText());
+            } else if (token == HtmlTokenizer.Token.START_TAG) {
+                String tag = html.getTagName();
+                if (BLOCK_ELEMENTS.contains(tag)) {
+                    text.append('\n');
+                }
+                if (VOID_ELEMENTS.contains(tag) || html.isSelfClosing()) {
+                    continue;
+                }
+                Frame frame = new Frame(tag, html.getAttribute("class"), text.length());
+                int size = stack.size();
+                if (HtmlTokenizer.hasClass(frame.classes, "btn-nav-submit")) {
+                    Gradeable g = new Gradeable();
+                    g.link = html.getAttribute("href");
+                    gradeables.add(g);
+                    frame.button = g;
+                    if (size >= 1) {
+                        Frame parent = stack.get(size - 1);
+                        if (parent.children == null) {
+                            parent.children = new ArrayList<>();
+                        }
+                        parent.children.add(g);
+                    }
+                    if (size >= 2) {
+                        Frame row = stack.get(size - 2);
+                        if (row.rows == null) {
+                            row.rows = new ArrayList<>();
+                        }
+                        row.rows.add(g);
+                    }
+                }
+                if (tag.equals("span") && size >= 2) {
+                    Frame meter = stack.get(size - 1);
+                    Frame owner = stack.get(size - 2);
+                    if (meter.tag.equals("div") && meter.classes != null && meter.classes.contains("meter")
+                            && owner.meterStyle == null) {
+                        String style = html.getAttribute("style");
+                        owner.meterStyle = style == null ? "" : style;
+                    }
+                }
+                stack.add(frame);
+            } else {
+                int open = lastOpen(stack, html.getTagName());
+                while (open >= 0 && stack.size() > open) {
+                    Frame frame = stack.remove(stack.size() - 1);
+                    if (HtmlTokenizer.hasClass(frame.classes, "subtitle")) {
+                        for (int i = stack.size() - 1; i >= 0; i--) {
+                            Gradeable g = stack.get(i).button;
+                            if (g != null) {
+                                if (g.dueText == null) {
+                                    g.dueText = visibleText(text, frame.textStart);
+                                }
+                                break;
+                            }
+                        }
+                    }
+                    if (frame.children != null) {
+                        for (Gradeable g : frame.children) {
+                            g.meterStyle = frame.meterStyle;
+                        }
+                    }
+                    if (frame.rows != null) {
+                        String rowText = visibleText(text, frame.textStart);
+                        for (Gradeable g : frame.rows) {
+                            g.text = rowText;
+                        }
+                    }
+                    if (BLOCK_ELEMENTS.contains(frame.tag)) {
+                        text.append('\n');
+                    }
+                }
+            }
+        }
+        // rows that were never closed end with the page
+        for (Gradeable g : gradeables) {
+            if (g.text == null) {
+                g.text = "";
+            }
+        }
+    }
+
+    private static int lastOpen(List<Frame> stack, String tag) {
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            if (stack.get(i).tag.equals(tag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This function appends text with every run of whitespace collapsed to a space
+     * @requires None
+     * @modifies text
+     * @effects None
+     */
+    private static void appendText(StringBuilder text, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                int last = text.length() - 1;
+                if (last >= 0 && text.charAt(last) != ' ' && text.charAt(last) != '\n') {
+                    text.append(' ');
+                }
+            } else {
+                text.append(c);
+            }
+        }
+    }
+
+    /**
+     * This function returns the visible text from an offset: every line trimmed and
+     * empty lines dropped, the way a browser reports the text of an element
+     * @requires 0 <= from <= text.length()
+     * @modifies None
+     * @effects None
+     * @return the visible text
+     */
+    private static String visibleText(StringBuilder text, int from) {
+        StringBuilder out = new StringBuilder();
+        int start = from;
+        for (int i = from; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == '\n') {
+                String line = text.substring(start, i).trim();
+                if (!line.isEmpty()) {
+                    if (out.length() > 0) {
+                        out.append('\n');
+                    }
+                    out.append(line);
+                }
+                start = i + 1;
+            }
+        }
+        return out.toString();
+    }
+
+    private static String encodeForm(Map<String, String> form) throws UnsupportedEncodingException {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> field : form.entrySet()) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(field.getKey(), "UTF-8"))
+                    .append('=')
+                    .append(URLEncoder.encode(field.getValue(), "UTF-8"));
+        }
+        return body.toString();
+    }
+
+    private static String resolve(String base, String link) throws IOException {
+        return new URL(new URL(base), link).toString();
+    }
+
+    private static URI toUri(String url) throws IOException {
+        try {
+            return new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid url " + url, e);
+        }
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            int at = contentType.toLowerCase(Locale.ENGLISH).indexOf("charset=");
+            if (at >= 0) {
+                String name = contentType.substring(at + 8).replace("\"", "").trim();
+                int end = name.indexOf(';');
+                if (end >= 0) {
+                    name = name.substring(0, end).trim();
+                }
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalArgumentException e) {
+                    Log.debug("DEBUG: [accessHttp] unknown charset " + name);
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -1,6 +1,7 @@
 package webService;
 
 import com.gargoylesoftware.htmlunit.BrowserVersion;
+import com.gargoylesoftware.htmlunit.CookieManager;
 import com.gargoylesoftware.htmlunit.SilentCssErrorHandler;
 import com.gargoylesoftware.htmlunit.WebClient;
 import com.sun.istack.internal.NotNull;
@@ -12,9 +13,20 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
 import javax.swing.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @overview
@@ -23,6 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @abstract_value
  * driver -> a WebDriver object which will simulate a browser
+ * baseUrl -> the Submitty server
  * user_id, password -> String object which stores the user_id and password for login
  * courseList -> a <course_name, course_object> map
  * SilentHtmlUnitDriver -> a extended HtmlUnitDriver which suppresses CSS error
@@ -30,26 +43,48 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @constructor
  * SubmittyAccess(String user_id, String password)
+ * SubmittyAccess(String baseUrl, String user_id, String password)
  *
  * @mutator
  * login() throws LoginFailException
+ * parser(HashSet<String> ExceptionCourses, SyncState state)
+ * parser(HashSet<String> ExceptionCourses, SyncState state, int maxDrivers)
  * close()
  *
  * @accessor
  * String getPageSource()
  * HashMap<String, Course> getCourseMap()
+ * SyncState.Diff getDiff()
  */
-public class SubmittyAccess {
-    private WebDriver driver;
+public class SubmittyAccess implements SubmittyScraper {
+    private SilentHtmlUnitDriver driver;
     private final String user_id;
     private final String password;
+    private final String baseUrl;
     private final Object currProgressLabel;
     private ConcurrentHashMap<String, Course> courseList;
+    private SyncState.Diff diff;
+    private final List<SilentHtmlUnitDriver> workers = new ArrayList<>();
     private class SilentHtmlUnitDriver extends HtmlUnitDriver {
         SilentHtmlUnitDriver(BrowserVersion b) {
             super(b);
             this.getWebClient().setCssErrorHandler(new SilentCssErrorHandler());
         }
+
+        /**
+         * This method copies the cookies of another driver so that this driver uses
+         * the same logged in session
+         * @param other the logged in driver
+         * @requires other != null
+         * @modifies this
+         * @effects add every cookie of other to this
+         */
+        void shareCookies(SilentHtmlUnitDriver other) {
+            CookieManager cookies = this.getWebClient().getCookieManager();
+            for (com.gargoylesoftware.htmlunit.util.Cookie cookie : other.getWebClient().getCookieManager().getCookies()) {
+                cookies.addCookie(cookie);
+            }
+        }
     }
     public static class LoginFailException extends RuntimeException {
         LoginFailException(String e) {
@@ -69,6 +104,22 @@ public class SubmittyAccess {
      * @throws LoginFailException if user id or password is empty
      */
     public SubmittyAccess(@NotNull String user_id, @NotNull String password, Object currProgressLabel) throws LoginFailException {
+        this(HttpSubmittyScraper.DEFAULT_URL, user_id, password, currProgressLabel);
+    }
+
+    /**
+     * This is the constructor of this class for a given Submitty server
+     * @param baseUrl the Submitty server, without a trailing slash
+     * @param user_id Submitty user id
+     * @param password Submitty password
+     * @param currProgressLabel a label to show current progress
+     * @requires baseUrl != NULL; user_id != NULL; password != NULL
+     * @modifies baseUrl, user_id, password
+     * @effects create a new SubmittyAccess object
+     * @throws LoginFailException if user id or password is empty
+     */
+    public SubmittyAccess(@NotNull String baseUrl, @NotNull String user_id, @NotNull String password,
+                          Object currProgressLabel) throws LoginFailException {
         if (user_id.equals("") || password.equals(""))
             throw new LoginFailException("User id or password cannot be empty.");
         // Create a new instance of the html unit driver
@@ -76,7 +127,24 @@ public class SubmittyAccess {
         // not the implementation.
         final String USER_AGENT = "Mozilla/5.0 (Windows NT 6.1; WOW64; rv:25.0) Gecko/20160101 Firefox/66.0";
         System.setProperty("https.protocols", "TLSv1,TLSv1.1,TLSv1.2");
-        driver = new SilentHtmlUnitDriver(BrowserVersion.FIREFOX_38) {
+        driver = this.newDriver();
+        this.baseUrl = baseUrl;
+        this.user_id = user_id;
+        this.password = password;
+        this.courseList = new ConcurrentHashMap<>();
+        this.currProgressLabel = currProgressLabel;
+    }
+
+    /**
+     * This function creates a driver that accepts Submitty's certificate and
+     * does not report CSS errors
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a new driver
+     */
+    private SilentHtmlUnitDriver newDriver() {
+        return new SilentHtmlUnitDriver(BrowserVersion.FIREFOX_38) {
             @Override
             protected WebClient newWebClient(BrowserVersion version) {
                 WebClient webClient = super.newWebClient(version);
@@ -84,10 +152,6 @@ public class SubmittyAccess {
                 return webClient;
             }
         };
-        this.user_id = user_id;
-        this.password = password;
-        this.courseList = new ConcurrentHashMap<>();
-        this.currProgressLabel = currProgressLabel;
     }
 
     /**
@@ -99,6 +163,7 @@ public class SubmittyAccess {
      * @throws LoginFailException when the program cannot login into submitty using
      *                            the provided user id and password
      */
+    @Override
     public void login() throws LoginFailException {
         synchronized (this) {
             if (currProgressLabel != null){
@@ -111,7 +176,7 @@ public class SubmittyAccess {
 
         // And now use this to visit Submitty
         try {
-            driver.get("https://submitty.cs.rpi.edu/home");
+            driver.get(baseUrl + "/home");
         } catch (WebDriverException e) {
             throw new LoginFailException(e.getMessage());
         }
@@ -141,6 +206,7 @@ public class SubmittyAccess {
      * @effects None
      * @return courseList, a <course_name, course_object> map
      */
+    @Override
     public ConcurrentHashMap<String, Course> getCourseMap() {
         return new ConcurrentHashMap<>(this.courseList);
     }
@@ -153,122 +219,234 @@ public class SubmittyAccess {
      * @effects loop over every courses and get their gradeables
      */
     public void parser(HashSet<String> ExceptionCourses) {
+        this.parser(ExceptionCourses, null);
+    }
+
+    /**
+     * This function will loop over the course list and get information from each
+     * course's gradeables. If a sync state is given, a course whose page has the
+     * same fingerprint as in the last refresh is not parsed again, and the
+     * difference to the last refresh is available from getDiff()
+     * @param ExceptionCourses the courses the user ignores
+     * @param state the state of the last refresh, null to always parse every course
+     * @requires None
+     * @modifies courseList, driver, diff, state
+     * @effects loop over every courses and get their gradeables
+     */
+    public void parser(HashSet<String> ExceptionCourses, SyncState state) {
+        Map<String, Long> fingerprints = new HashMap<>();
+        AtomicInteger unchanged = new AtomicInteger();
         List<WebElement> CourseElementList = driver.findElements(By.className("btn-block"));
         for (int i=0; i<CourseElementList.size(); ++i) {
             WebElement currCourseBtn = CourseElementList.get(i);
             String courseName = currCourseBtn.getText();
             System.err.println("DEBUG: [accessDriver] Parsing current course " + courseName);
 
-            // generate a course object
-            Course currCourse = new Course(courseName.replace("Fall 2019", "").trim());
-
             // Get information about current course
             currCourseBtn.click();
-            List<WebElement> DeadlineList = driver.findElements(By.className("btn-nav-submit"));
-            System.err.println("DEBUG: [accessDriver] Course <" + courseName + "> Found " + DeadlineList.size()+ " gradables");
-            for (WebElement gradeable: DeadlineList) {
-                String text = gradeable.findElement(By.xpath("..")).findElement(By.xpath("..")).getText();
-                System.err.println("DEBUG: [accessDriver] Working on a new gradable " + text);
-                if (text.contains("VIEW GRADE") ||             // Finished Homework
-                        text.contains("NO SUBMISSION") ||      // Past Homework
-                        text.contains("OVERDUE SUBMISSION") || // Past Homework
-                        text.contains("GRADE") ||              // TA Homework
-                        text.contains("REGRADE"))              // TA Homework
-                    continue;
-                String id = gradeable.getAttribute("id");
+            this.courseList.put(courseName, this.readCourse(driver, courseName, state, fingerprints, unchanged));
+            driver.navigate().back();
+            CourseElementList = driver.findElements(By.className("btn-block"));
+        }
+        this.finishParsing(state, fingerprints, unchanged.get());
+    }
 
-                String status;
-                if (text.contains("LATE SUBMIT")) {
-                    status = Deadline.STATUS.LATE_SUBMIT;
-                } else if (text.contains("LATE RESUBMIT")) {
-                    status = Deadline.STATUS.LATE_RESUBMIT;
-                } else if (text.contains("RESUBMIT")) {
-                    status = Deadline.STATUS.RESUBMIT;
-                } else if (text.contains("OVERDUE SUBMISSION")) {
-                    status = Deadline.STATUS.OVERDUE_SUBMISSION;
-                } else if (text.contains("NO SUBMISSION")) {
-                    status = Deadline.STATUS.NO_SUBMISSION;
-                } else if (text.contains("MUST BE ON A TEAM")) {
-                    status = Deadline.STATUS.MUST_ON_TEAM;
-                } else {
-                    status = Deadline.STATUS.DEFAULT;
-                }
-                // progress
-                if (status.equals(Deadline.STATUS.RESUBMIT)) {
-                    try {
-                        String progressStr = gradeable.findElement(By.xpath("../div[contains(@class, 'meter')]/span")).getAttribute("style");
-                        if (progressStr.startsWith("width: ")) {
-                            int progress = Integer.valueOf(progressStr.replace("width: ", "").replace("%", ""));
-                            if (progress == 100) {
-                                status = Deadline.STATUS.FINISHED;
-                            }
+    /**
+     * This function does the same as parser(ExceptionCourses, state), but fetches
+     * the course pages at the same time. The session cookies of the logged in
+     * driver are copied into at most maxDrivers extra drivers, and each of them
+     * opens course pages directly by their link, so a refresh takes about as long
+     * as the slowest course. If a course button has no link, or maxDrivers is 1,
+     * the courses are walked one after another instead.
+     * @param ExceptionCourses the courses the user ignores
+     * @param state the state of the last refresh, null to always parse every course
+     * @param maxDrivers the maximum number of course pages fetched at the same time
+     * @requires maxDrivers > 0, login() was successful
+     * @modifies courseList, diff, state
+     * @effects get the gradeables of every course
+     */
+    @Override
+    public void parser(HashSet<String> ExceptionCourses, SyncState state, int maxDrivers) {
+        Map<String, String> courseLinks = new LinkedHashMap<>();
+        for (WebElement courseBtn : driver.findElements(By.className("btn-block"))) {
+            String link = courseBtn.getAttribute("href");
+            if (link == null || link.isEmpty()) {
+                courseLinks = null;
+                break;
+            }
+            courseLinks.put(courseBtn.getText(), link);
+        }
+        if (maxDrivers <= 1 || courseLinks == null || courseLinks.size() <= 1) {
+            this.parser(ExceptionCourses, state);
+            return;
+        }
+
+        Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+        AtomicInteger unchanged = new AtomicInteger();
+        int threads = Math.min(maxDrivers, courseLinks.size());
+        BlockingQueue<SilentHtmlUnitDriver> idle = new LinkedBlockingQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "submitty-course");
+            t.setDaemon(true);
+            return t;
+        });
+        Map<String, Future<Course>> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, String> course : courseLinks.entrySet()) {
+                results.put(course.getKey(), pool.submit(() -> {
+                    SilentHtmlUnitDriver page = idle.poll();
+                    if (page == null) {
+                        page = this.newDriver();
+                        page.shareCookies(this.driver);
+                        synchronized (this.workers) {
+                            this.workers.add(page);
                         }
-                    } catch (NoSuchElementException e) {
-                        Log.error("DEBUG: [accessDriver] Deadline " + text + " for " + courseName + " contains no width");
                     }
+                    try {
+                        System.err.println("DEBUG: [accessDriver] Parsing current course " + course.getKey());
+                        page.get(course.getValue());
+                        return this.readCourse(page, course.getKey(), state, fingerprints, unchanged);
+                    } finally {
+                        idle.add(page);
+                    }
+                }));
+            }
+            for (Map.Entry<String, Future<Course>> result : results.entrySet()) {
+                Course course;
+                try {
+                    course = result.getValue().get();
+                } catch (ExecutionException e) {
+                    // try once more on the logged in driver, which throws if it fails again
+                    Log.error("[accessDriver] Error when fetching " + result.getKey() + ", retrying", e.getCause());
+                    driver.get(courseLinks.get(result.getKey()));
+                    course = this.readCourse(driver, result.getKey(), state, fingerprints, unchanged);
                 }
-                String link;
+                this.courseList.put(result.getKey(), course);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while fetching courses", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        this.finishParsing(state, fingerprints, unchanged.get());
+    }
+
+    /**
+     * This function reads the course page that a driver shows
+     * @param page the driver that shows the course page
+     * @param courseName the full course name on the course button
+     * @param state the state of the last refresh, may be null
+     * @param fingerprints receives the fingerprint of the page if state != null
+     * @param unchanged counts the courses that were not parsed again
+     * @requires page != null, fingerprints != null
+     * @modifies fingerprints, unchanged
+     * @effects None
+     * @return the course on the page
+     */
+    private Course readCourse(WebDriver page, String courseName, SyncState state,
+                              Map<String, Long> fingerprints, AtomicInteger unchanged) {
+        List<WebElement> DeadlineList = page.findElements(By.className("btn-nav-submit"));
+        System.err.println("DEBUG: [accessDriver] Course <" + courseName + "> Found " + DeadlineList.size()+ " gradables");
+        if (state != null) {
+            long fingerprint = this.fingerprintPage(page, DeadlineList);
+            fingerprints.put(courseName, fingerprint);
+            Course last = state.getUnchangedCourse(this.user_id, courseName, fingerprint);
+            if (last != null) {
+                Log.debug("DEBUG: [accessDriver] Course <" + courseName + "> unchanged");
+                unchanged.incrementAndGet();
+                return last;
+            }
+        }
+        // generate a course object
+        Course currCourse = new Course(courseName.replace("Fall 2019", "").trim());
+        this.parseCourse(courseName, currCourse, DeadlineList);
+        return currCourse;
+    }
+
+    /**
+     * This function stores the result of a refresh in the sync state
+     * @requires fingerprints != null
+     * @modifies diff, state
+     * @effects update the sync state
+     */
+    private void finishParsing(SyncState state, Map<String, Long> fingerprints, int unchanged) {
+        if (state != null) {
+            this.diff = state.update(this.user_id, this.courseList, fingerprints);
+            Log.debug("DEBUG: [accessDriver] " + unchanged + " courses unchanged, " + this.diff);
+        }
+        System.err.println("DEBUG: [accessDriver] End of parsing");
+    }
+
+    /**
+     * This function returns the difference between the last refresh and the one
+     * done by parser(ExceptionCourses, state)
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the difference, or null if parser was called without a sync state
+     */
+    @Override
+    public SyncState.Diff getDiff() {
+        return this.diff;
+    }
+
+    /**
+     * This function computes the fingerprint of the current course page from the
+     * visible text, the gradeable links and the progress bars, which is everything
+     * parseCourse reads
+     * @param page the driver that shows the course page
+     * @param gradeables the gradeable buttons on the page
+     * @requires gradeables != null
+     * @modifies None
+     * @effects None
+     * @return the fingerprint of the page
+     */
+    private long fingerprintPage(WebDriver page, List<WebElement> gradeables) {
+        List<String> parts = new ArrayList<>();
+        parts.add(page.findElement(By.tagName("body")).getText());
+        for (WebElement gradeable: gradeables) {
+            parts.add(gradeable.getAttribute("href"));
+        }
+        for (WebElement meter: page.findElements(By.xpath("//div[contains(@class, 'meter')]/span"))) {
+            parts.add(meter.getAttribute("style"));
+        }
+        return SyncState.fingerprint(parts);
+    }
+
+    /**
+     * This function reads the gradeables of the current course page
+     * @param courseName the full course name on the course button
+     * @param currCourse the course to add the deadlines to
+     * @param DeadlineList the gradeable buttons on the page
+     * @requires None
+     * @modifies currCourse
+     * @effects add every open gradeable to currCourse
+     */
+    private void parseCourse(String courseName, Course currCourse, List<WebElement> DeadlineList) {
+        for (WebElement gradeable: DeadlineList) {
+            String text = gradeable.findElement(By.xpath("..")).findElement(By.xpath("..")).getText();
+            String link;
+            try {
+                link = gradeable.getAttribute("href");
+            } catch (NoSuchElementException e) {
+                Log.debug("DEBUG: [accessDriver] Deadline " + text + " for " + courseName + " contains no link");
+                link = "";
+            }
+            GradeableParser.addGradeable(currCourse, courseName, text, link, () -> {
                 try {
-                    link = gradeable.getAttribute("href");
+                    return gradeable.findElement(By.xpath("../div[contains(@class, 'meter')]/span")).getAttribute("style");
                 } catch (NoSuchElementException e) {
-                    Log.debug("DEBUG: [accessDriver] Deadline " + text + " for " + courseName + " contains no link");
-                    link = "";
-                }
-                if (link == null) {
-                    // the attribute's href value is null if the value is not set
-                    link = "";
+                    return null;
                 }
-
-                String name = text.replace("REGRADE","")
-                        .replace("VIEW GRADE","")
-                        .replace("GRADE","")
-                        .replace("VIEW TEAM","")
-                        .replace("LATE SUBMIT","")
-                        .replace("LATE RESUBMIT","")
-                        .replace("RESUBMIT","")
-                        .replace("SUBMIT","")
-                        .replace("OVERDUE SUBMISSION","")
-                        .replace("NO SUBMISSION","");
-                String[] textArr = name.split("\n");
-                name = textArr[0].trim();
+            }, () -> {
                 try {
-                    // team works
-                    if (text.contains("CREATE TEAM") || text.contains("MANAGE TEAM")
-                            || text.contains("CREATE/JOIN TEAM")) {
-                        String teamDueText = textArr[1].trim();
-                        CalendarWrapper teamDueDate;
-                        try {
-                            teamDueDate = Deadline.parseDate(teamDueText);
-                            name = name.
-                                    replace("CREATE TEAM", "").
-                                    replace("MANAGE TEAM", "").
-                                    replace("CREATE/JOIN TEAM", "");
-                            String createTeamName = name + " (MANAGE TEAM)";
-                            Deadline teamDue = new Deadline(teamDueDate, createTeamName, currCourse.getCourseName(), status, link);
-                            currCourse.addDeadline(teamDue);
-                        } catch (CalendarWrapper.CalendarFormatException  ept) {
-                            System.err.println("Due date format not correct: " + textArr[1].trim());
-                        } catch (ArrayIndexOutOfBoundsException ept) {
-                            System.err.println("No team deadlines");
-                        }
-                    }
-                    WebElement due = gradeable.findElement(By.className("subtitle"));
-                    String dueText = due.getText();
-                    CalendarWrapper currDueDate = Deadline.parseDate(dueText);
-                    Deadline currDue = new Deadline(currDueDate, name, currCourse.getCourseName(), status, link);
-                    System.err.println("DEBUG: [accessDriver] Adding " + currDue.toString());
-                    currCourse.addDeadline(currDue);
-                } catch (NoSuchElementException ept) {
-                    System.err.println("No due for this element " + name);
-                } catch (CalendarWrapper.CalendarFormatException  ept) {
-                    System.err.println("Due date format not correct.");
+                    return gradeable.findElement(By.className("subtitle")).getText();
+                } catch (NoSuchElementException e) {
+                    return null;
                 }
-            }
-            this.courseList.put(courseName, currCourse);
-            driver.navigate().back();
-            CourseElementList = driver.findElements(By.className("btn-block"));
+            });
         }
-        System.err.println("DEBUG: [accessDriver] End of parsing");
     }
 
     /**
@@ -277,7 +455,14 @@ public class SubmittyAccess {
      * @modifies driver
      * @effects terminates the web driver
      */
+    @Override
     public void close() {
         driver.quit();
+        synchronized (this.workers) {
+            for (SilentHtmlUnitDriver worker : this.workers) {
+                worker.quit();
+            }
+            this.workers.clear();
+        }
     }
 }
@@ -0,0 +1,100 @@
+package webService;
+
+import model.Course;
+
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @overview
+ * This interface is a way of reading the deadlines of a Submitty user. An
+ * implementation logs in once and then reads the gradeables of every course.
+ *
+ * @mutator
+ * login() throws LoginFailException
+ * parser(HashSet<String> ExceptionCourses, SyncState state, int maxConnections)
+ * close()
+ *
+ * @accessor
+ * ConcurrentHashMap<String, Course> getCourseMap()
+ * SyncState.Diff getDiff()
+ */
+public interface SubmittyScraper {
+    /** the system property that selects the scraper, "http" or "htmlunit" */
+    String SCRAPER_PROPERTY = "submitty.scraper";
+    /** the system property that replaces the Submitty server, e.g. a FixtureServer in tests */
+    String URL_PROPERTY = "submitty.url";
+
+    /**
+     * This function will perform a login action using the user id and password which
+     * the user provides
+     * @requires None
+     * @modifies this
+     * @effects login into submitty
+     * @throws SubmittyAccess.LoginFailException when the program cannot login into
+     *                                           submitty using the provided user id and password
+     */
+    void login() throws SubmittyAccess.LoginFailException;
+
+    /**
+     * This function will get information from each course's gradeables. If a sync
+     * state is given, a course whose page did not change since the last refresh is
+     * not parsed again, and the difference is available from getDiff()
+     * @param ExceptionCourses the courses the user ignores
+     * @param state the state of the last refresh, null to always parse every course
+     * @param maxConnections the maximum number of course pages fetched at the same time
+     * @requires maxConnections > 0, login() was successful
+     * @modifies this, state
+     * @effects get the gradeables of every course
+     */
+    void parser(HashSet<String> ExceptionCourses, SyncState state, int maxConnections);
+
+    /**
+     * This function will return a copy of the course map
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return a <course_name, course_object> map
+     */
+    ConcurrentHashMap<String, Course> getCourseMap();
+
+    /**
+     * This function returns the difference between the last refresh and this one
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the difference, or null if parser was called without a sync state
+     */
+    SyncState.Diff getDiff();
+
+    /**
+     * This function releases every connection or browser of the scraper
+     * @requires None
+     * @modifies this
+     * @effects close the scraper
+     */
+    void close();
+
+    /**
+     * This function creates the scraper selected by the "submitty.scraper" system
+     * property. The HtmlUnit scraper is used unless the property is "http"; the
+     * plain HTTP scraper stays opt-in until it is proven against the live site.
+     * The "submitty.url" system property points either scraper to another server.
+     * @param user_id Submitty user id
+     * @param password Submitty password
+     * @param currProgressLabel a label to show current progress
+     * @requires user_id != NULL; password != NULL
+     * @modifies None
+     * @effects None
+     * @return a new scraper
+     * @throws SubmittyAccess.LoginFailException if user id or password is empty
+     */
+    static SubmittyScraper create(String user_id, String password, Object currProgressLabel)
+            throws SubmittyAccess.LoginFailException {
+        String url = System.getProperty(URL_PROPERTY, HttpSubmittyScraper.DEFAULT_URL);
+        if ("http".equalsIgnoreCase(System.getProperty(SCRAPER_PROPERTY))) {
+            return new HttpSubmittyScraper(url, user_id, password, currProgressLabel);
+        }
+        return new SubmittyAccess(url, user_id, password, currProgressLabel);
+    }
+}
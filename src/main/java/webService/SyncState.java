@@ -0,0 +1,295 @@
+package webService;
+
+import model.Course;
+import model.Deadline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @overview
+ * This class remembers what the last Submitty refresh found so that the next
+ * refresh only parses the courses whose page changed and only reports the
+ * deadlines that were added, changed or removed since then. A controller that
+ * lets the user delete or edit deadlines should apply reconcile() of the refresh
+ * rather than the refresh itself, so that every scraped deadline is restored
+ * the way Submitty has it.
+ *
+ * @abstract_value
+ * userId -> the user the state belongs to
+ * fingerprints -> a <full_course_name, page_fingerprint> map
+ * courses -> a <full_course_name, course_object> map of the last parsed courses
+ *
+ * @constructor
+ * SyncState()
+ *
+ * @mutator
+ * Diff update(String userId, Map<String, Course> courses, Map<String, Long> fingerprints)
+ * reset()
+ *
+ * @accessor
+ * Course getUnchangedCourse(String userId, String courseName, long fingerprint)
+ * Diff reconcile(Map<String, Course> held, Map<String, Course> scraped, Diff refresh)
+ */
+public class SyncState {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private String userId;
+    private Map<String, Long> fingerprints;
+    private Map<String, Course> courses;
+
+    /**
+     * @overview
+     * This class holds the deadlines that differ between two refreshes. A deadline
+     * is changed if its course and name are the same but its due date, status or
+     * link is not.
+     */
+    public static final class Diff {
+        private final List<Deadline> added;
+        private final List<Deadline> changed;
+        private final List<Deadline> removed;
+        private final List<String> addedCourses;
+
+        private Diff(List<Deadline> added, List<Deadline> changed, List<Deadline> removed,
+                     List<String> addedCourses) {
+            this.added = Collections.unmodifiableList(added);
+            this.changed = Collections.unmodifiableList(changed);
+            this.removed = Collections.unmodifiableList(removed);
+            this.addedCourses = Collections.unmodifiableList(addedCourses);
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the deadlines that were not there in the last refresh
+         */
+        public List<Deadline> getAdded() {
+            return this.added;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the new versions of deadlines whose due date, status or link changed
+         */
+        public List<Deadline> getChanged() {
+            return this.changed;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the deadlines of the last refresh that are gone
+         */
+        public List<Deadline> getRemoved() {
+            return this.removed;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return the names of the courses that were not there in the last refresh
+         */
+        public List<String> getAddedCourses() {
+            return this.addedCourses;
+        }
+
+        /**
+         * @requires None
+         * @modifies None
+         * @effects None
+         * @return true if nothing changed
+         */
+        public boolean isEmpty() {
+            return this.added.isEmpty() && this.changed.isEmpty() && this.removed.isEmpty()
+                    && this.addedCourses.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "Diff (" + this.added.size() + " added, " + this.changed.size() + " changed, "
+                    + this.removed.size() + " removed)";
+        }
+    }
+
+    /**
+     * This is the basic constructor of this class. The state starts empty, so the
+     * first refresh parses every course and reports every deadline as added.
+     * @requires None
+     * @modifies fingerprints, courses
+     * @effects create a new SyncState object
+     */
+    public SyncState() {
+        this.fingerprints = new HashMap<>();
+        this.courses = new HashMap<>();
+    }
+
+    /**
+     * This function computes the fingerprint of a course page from the parts of
+     * the page that the parser reads
+     * @param parts the page parts, in page order
+     * @requires parts != null
+     * @modifies None
+     * @effects None
+     * @return a 64-bit FNV-1a hash of the parts
+     */
+    public static long fingerprint(Iterable<String> parts) {
+        long hash = FNV_OFFSET;
+        for (String part : parts) {
+            if (part != null) {
+                for (int i = 0; i < part.length(); i++) {
+                    hash = (hash ^ part.charAt(i)) * FNV_PRIME;
+                }
+            }
+            // separate the parts so that ("ab", "c") and ("a", "bc") differ
+            hash = (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * This function returns the course parsed in the last refresh if its page has
+     * not changed since then
+     * @param userId the Submitty user id
+     * @param courseName the full course name on the course button
+     * @param fingerprint the fingerprint of the course page now
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the last parsed course, or null if the course has to be parsed again
+     */
+    public synchronized Course getUnchangedCourse(String userId, String courseName, long fingerprint) {
+        if (!Objects.equals(this.userId, userId)) {
+            return null;
+        }
+        Long last = this.fingerprints.get(courseName);
+        if (last == null || last != fingerprint) {
+            return null;
+        }
+        return this.courses.get(courseName);
+    }
+
+    /**
+     * This function stores the courses of a refresh and returns what changed
+     * since the last one. A refresh by a different user is compared against an
+     * empty state.
+     * @param userId the Submitty user id
+     * @param newCourses the courses of this refresh, by full course name
+     * @param newFingerprints the page fingerprints of this refresh, by full course name
+     * @requires newCourses != null, newFingerprints != null
+     * @modifies userId, fingerprints, courses
+     * @effects replace the stored state with this refresh
+     * @return the difference between the last refresh and this one
+     */
+    public synchronized Diff update(String userId, Map<String, Course> newCourses,
+                                    Map<String, Long> newFingerprints) {
+        if (!Objects.equals(this.userId, userId)) {
+            this.reset();
+            this.userId = userId;
+        }
+        List<Deadline> added = new ArrayList<>();
+        List<Deadline> changed = new ArrayList<>();
+        List<Deadline> removed = new ArrayList<>();
+        List<String> addedCourses = new ArrayList<>();
+        for (Map.Entry<String, Course> entry : newCourses.entrySet()) {
+            Course now = entry.getValue();
+            Course last = this.courses.get(entry.getKey());
+            if (last == null) {
+                addedCourses.add(now.getCourseName());
+                added.addAll(now.getDeadlinesView().values());
+            } else if (last != now) {
+                diffCourse(last, now, added, changed, removed);
+            }
+        }
+        for (Map.Entry<String, Course> entry : this.courses.entrySet()) {
+            if (!newCourses.containsKey(entry.getKey())) {
+                removed.addAll(entry.getValue().getDeadlinesView().values());
+            }
+        }
+        this.courses = new HashMap<>(newCourses);
+        this.fingerprints = new HashMap<>(newFingerprints);
+        return new Diff(added, changed, removed, addedCourses);
+    }
+
+    /**
+     * This function compares the courses of a refresh with the courses a controller
+     * holds. Added and changed deadlines are taken against what the controller
+     * holds, so a scraped deadline that was deleted or edited locally is restored.
+     * Removed deadlines are those of the refresh, so deadlines that were only
+     * added locally are kept.
+     * @param held the courses the controller holds, by course name
+     * @param scraped the courses of the refresh, by full course name
+     * @param refresh the diff returned by update for the refresh
+     * @requires every argument != null, held is not modified during the call
+     * @modifies None
+     * @effects None
+     * @return the changes that make held match the refresh
+     */
+    public static Diff reconcile(Map<String, Course> held, Map<String, Course> scraped, Diff refresh) {
+        List<Deadline> added = new ArrayList<>();
+        List<Deadline> changed = new ArrayList<>();
+        List<String> addedCourses = new ArrayList<>();
+        for (Course now : scraped.values()) {
+            Course last = held.get(now.getCourseName());
+            if (last == null) {
+                addedCourses.add(now.getCourseName());
+                added.addAll(now.getDeadlinesView().values());
+            } else {
+                diffCourse(last, now, added, changed, null);
+            }
+        }
+        return new Diff(added, changed, new ArrayList<>(refresh.getRemoved()), addedCourses);
+    }
+
+    /**
+     * This method forgets every stored course so that the next refresh is a full one
+     * @requires None
+     * @modifies userId, fingerprints, courses
+     * @effects clear the state
+     */
+    public synchronized void reset() {
+        this.userId = null;
+        this.fingerprints.clear();
+        this.courses.clear();
+    }
+
+    /**
+     * This function compares two versions of the same course
+     * @requires every argument except removed != null
+     * @modifies added, changed, removed
+     * @effects add the differences to the lists; deadlines only in last are
+     * skipped if removed is null
+     */
+    private static void diffCourse(Course last, Course now, List<Deadline> added,
+                                   List<Deadline> changed, List<Deadline> removed) {
+        Map<String, Deadline> before = last.getDeadlinesView();
+        Map<String, Deadline> after = now.getDeadlinesView();
+        for (Map.Entry<String, Deadline> entry : after.entrySet()) {
+            Deadline old = before.get(entry.getKey());
+            Deadline current = entry.getValue();
+            if (old == null) {
+                added.add(current);
+            } else if (old.getDueMinute() != current.getDueMinute()
+                    || !old.getStatus().equals(current.getStatus())
+                    || !old.hasSameLink(current)) {
+                changed.add(current);
+            }
+        }
+        if (removed == null) {
+            return;
+        }
+        for (Map.Entry<String, Deadline> entry : before.entrySet()) {
+            if (!after.containsKey(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package webService.replay;
+
+import webService.HttpSubmittyScraper;
+import webService.SubmittyAccess;
+import webService.SubmittyScraper;
+
+import java.io.Console;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Properties;
+
+/**
+ * @overview
+ * This class saves the pages a scraper reads so that they can be replayed by the
+ * FixtureServer of the tests. Every page is saved as a file of the directory, and an index maps
+ * the path of each page to its file. The scheme and host of the Submitty server are
+ * removed from the pages, so links point to whatever server replays them.
+ * Recorded pages contain the names and courses of the user that logged in.
+ *
+ * @abstract_value
+ * directory -> the folder the pages are saved to
+ * index -> <path, file> of every saved page, plus the login and home paths
+ *
+ * @constructor
+ * PageRecorder(File directory)
+ *
+ * @mutator
+ * record(String url, String page, boolean posted)
+ * save()
+ */
+public class PageRecorder {
+    /** the name of the index file of a recording */
+    public static final String INDEX = "index.properties";
+    /** the index key of the path of the login page */
+    static final String LOGIN_KEY = "login";
+    /** the index key of the path a login form leads to */
+    static final String HOME_KEY = "home";
+
+    private final File directory;
+    private final Properties index = new Properties();
+    private final HashSet<String> files = new HashSet<>();
+
+    /**
+     * This is the basic constructor of this class
+     * @param directory the folder to save pages to
+     * @requires directory != null
+     * @modifies directory
+     * @effects create the folder if it does not exist
+     * @throws IOException if the folder cannot be created
+     */
+    public PageRecorder(File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * This function saves a page
+     * @param url the final url of the page
+     * @param page the page
+     * @param posted true if the page is the answer to a form
+     * @requires url != null, page != null
+     * @modifies this, directory
+     * @effects save the page, the first page that is not the answer to a form is
+     *          taken as the login page, the answer to a form as the home page
+     * @throws IOException if the page cannot be saved
+     */
+    public synchronized void record(String url, String page, boolean posted) throws IOException {
+        URI uri = toUri(url);
+        String path = pathOf(uri);
+        if (posted) {
+            this.index.setProperty(HOME_KEY, path);
+        } else if (this.index.getProperty(LOGIN_KEY) == null) {
+            this.index.setProperty(LOGIN_KEY, path);
+        }
+        String file = this.index.getProperty(path);
+        if (file == null) {
+            file = this.fileName(path);
+            this.index.setProperty(path, file);
+        }
+        String origin = uri.getScheme() + "://" + uri.getRawAuthority();
+        try (Writer out = new OutputStreamWriter(
+                new FileOutputStream(new File(this.directory, file)), StandardCharsets.UTF_8)) {
+            out.write(page.replace(origin, ""));
+        }
+    }
+
+    /**
+     * This function writes the index of the recording
+     * @requires None
+     * @modifies directory
+     * @effects write the index file
+     * @throws IOException if the index cannot be saved
+     */
+    public synchronized void save() throws IOException {
+        try (OutputStream out = new FileOutputStream(new File(this.directory, INDEX))) {
+            this.index.store(out, "Recorded Submitty pages");
+        }
+    }
+
+    /**
+     * This function picks a file name for a path that no other page uses
+     * @requires None
+     * @modifies files
+     * @effects None
+     * @return the file name
+     */
+    private String fileName(String path) {
+        String base = path.replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("^_+|_+$", "");
+        if (base.isEmpty()) {
+            base = "index";
+        }
+        String name = base + ".html";
+        for (int i = 2; !this.files.add(name); i++) {
+            name = base + "_" + i + ".html";
+        }
+        return name;
+    }
+
+    /**
+     * @requires uri != null
+     * @modifies None
+     * @effects None
+     * @return the path and query of a uri, which is how recorded pages are looked up
+     */
+    static String pathOf(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+    }
+
+    private static URI toUri(String url) throws IOException {
+        try {
+            return new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * This function logs into Submitty and records every page it reads.
+     * Usage: PageRecorder directory [user_id]
+     * @param args the folder to save the pages to and an optional user id
+     * @requires None
+     * @modifies None
+     * @effects record the login, home and course pages of a user
+     */
+    public static void main(String[] args) throws IOException {
+        Console console = System.console();
+        if (args.length < 1 || console == null) {
+            System.err.println("Usage: PageRecorder directory [user_id], run from a terminal");
+            return;
+        }
+        String user = args.length > 1 ? args[1] : console.readLine("Submitty user id: ");
+        String password = new String(console.readPassword("Password for %s: ", user));
+        PageRecorder recorder = new PageRecorder(new File(args[0]));
+        String url = System.getProperty(SubmittyScraper.URL_PROPERTY, HttpSubmittyScraper.DEFAULT_URL);
+        HttpSubmittyScraper scraper = new HttpSubmittyScraper(url, user, password, null);
+        scraper.setRecorder(recorder);
+        try {
+            scraper.login();
+            scraper.parser(new HashSet<>(), null, 1);
+        } catch (SubmittyAccess.LoginFailException e) {
+            System.err.println(e.getMessage());
+        } finally {
+            scraper.close();
+            recorder.save();
+        }
+        System.out.println("Recorded " + scraper.getCourseMap().size() + " courses to " + args[0]);
+    }
+}
@@ -0,0 +1,113 @@
+package localParser;
+
+import model.Deadline;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that check that Load.Csv() reads a
+ * file passed as a File line for line the same as the same file passed as a Reader.
+ */
+public class LoadCsvTest {
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("deadlines", ".csv");
+    }
+
+    @After
+    public void tearDown() {
+        assertTrue(file.delete());
+    }
+
+    /**
+     * This function loads the temp file through a Reader and through the File,
+     * checks that both give the same deadlines and returns them
+     */
+    private List<String> loadBoth(String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        List<String> fromReader = new ArrayList<>();
+        assertTrue(new Load(batch -> describe(batch, fromReader), new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8)).Csv());
+        List<String> fromFile = new ArrayList<>();
+        assertTrue(new Load(batch -> describe(batch, fromFile), file).Csv());
+        assertEquals(fromReader, fromFile);
+        return fromFile;
+    }
+
+    private static void describe(List<Deadline> batch, List<String> out) {
+        for (Deadline d : batch) {
+            out.add(d.getCourseName() + "|" + d.getName() + "|" + d.getTime().getYear() + "-"
+                    + d.getTime().getMonth() + "-" + d.getTime().getDay() + " "
+                    + d.getTime().getHourOfDay() + ":" + d.getTime().getMinuteOfHour() + "|"
+                    + d.getStatus() + "|" + d.getLink());
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Parity Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void lineFormatTest() throws IOException {
+        String content = "Course,Deadline,Month,Day,Year,Hour,Minute,Status,Link\r\n"
+                + "CSCI 1200,hw1,9,10,2019,23,59,OPEN,https://example.com/hw1\r\n"
+                + "\r\n"
+                + "CSCI 1200,hw2,9,17,2019,23,59,CLOSED\n"
+                + "CSCI 1200,too short,9,17,2019,23,59\n"
+                + "CSCI 1200,ten fields,9,17,2019,23,59,OPEN,link,extra\n"
+                + "CSCI 1200,trailing,9,17,2019,23,59,OPEN,,\n"
+                + "CSCI 1200,plus,+4,+1,2019,+4,+0,GRADED,\n"
+                + "CSCI 1200,bad number,9,x,2019,23,59,OPEN,\n"
+                + "\n"
+                + "Курс 101,задание,12,1,2019,8,0,IN REVIEW,https://example.com/ü\r"
+                + "CSCI 2300,no newline,1,2,2020,3,4,OPEN,end";
+        List<String> loaded = loadBoth(content);
+        assertEquals(7, loaded.size());
+        assertEquals("CSCI 1200|hw1|2019-9-10 23:59|OPEN|https://example.com/hw1", loaded.get(0));
+        assertEquals("CSCI 1200|plus|2019-4-1 4:0|GRADED|", loaded.get(4));
+        assertEquals("Курс 101|задание|2019-12-1 8:0|IN REVIEW|https://example.com/ü", loaded.get(5));
+    }
+
+    @Test
+    public void headerOnlyTest() throws IOException {
+        assertTrue(loadBoth("Course,Deadline,Month,Day,Year,Hour,Minute,Status,Link\r\n").isEmpty());
+        assertTrue(loadBoth("").isEmpty());
+        assertEquals(1, loadBoth("\r\nCSCI 1200,hw1,9,10,2019,23,59,OPEN,\r\n").size());
+    }
+
+    @Test
+    public void largeFileTest() throws IOException {
+        // enough lines to cross many buffer chunks at every offset of a line,
+        // including between the two bytes of a CRLF, and a line longer than a chunk
+        StringBuilder content = new StringBuilder("header\r\n");
+        for (int i = 0; i < 20000; i++) {
+            content.append("CSCI ").append(i % 7).append(",hw").append(i)
+                    .append(",1,").append(1 + i % 28).append(",2020,").append(i % 24)
+                    .append(",").append(i % 60).append(",OPEN,https://example.com/").append(i)
+                    .append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            longName.append((char) ('a' + i % 26));
+        }
+        content.append("CSCI 1,").append(longName).append(",1,1,2020,0,0,OPEN,\r\n");
+        content.append("CSCI 1,last,1,1,2020,0,0,OPEN,\r\n");
+        List<String> loaded = loadBoth(content.toString());
+        assertEquals(20002, loaded.size());
+        assertEquals("CSCI 1|last|2020-1-1 0:0|OPEN|", loaded.get(20001));
+    }
+}
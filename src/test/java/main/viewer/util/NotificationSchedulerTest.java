@@ -0,0 +1,75 @@
+package main.viewer.util;
+
+import model.Deadline;
+import model.EpochMinute;
+import org.junit.Test;
+
+import java.time.ZoneId;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the NotificationScheduler class.
+ */
+public class NotificationSchedulerTest {
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Next Notification Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void ladderTest() {
+        long due = 1000000;
+        final int day = EpochMinute.MINUTES_PER_DAY;
+        // nothing before the last 14 days
+        assertEquals(due - 14 * day, NotificationScheduler.nextNotificationMinute(due, due - 20 * day));
+        // daily, then hourly
+        assertEquals(due - 2 * day, NotificationScheduler.nextNotificationMinute(due, due - 2 * day - 1));
+        assertEquals(due - day, NotificationScheduler.nextNotificationMinute(due, due - 2 * day));
+        assertEquals(due - 23 * 60, NotificationScheduler.nextNotificationMinute(due, due - day));
+        assertEquals(due - 60, NotificationScheduler.nextNotificationMinute(due, due - 61));
+        // every 15 minutes, every 5 minutes, then every minute
+        assertEquals(due - 45, NotificationScheduler.nextNotificationMinute(due, due - 60));
+        assertEquals(due - 15, NotificationScheduler.nextNotificationMinute(due, due - 30));
+        assertEquals(due - 10, NotificationScheduler.nextNotificationMinute(due, due - 15));
+        assertEquals(due - 5, NotificationScheduler.nextNotificationMinute(due, due - 10));
+        assertEquals(due - 4, NotificationScheduler.nextNotificationMinute(due, due - 5));
+        assertEquals(due - 1, NotificationScheduler.nextNotificationMinute(due, due - 2));
+        // nothing in the last minute or after the due time
+        assertEquals(NotificationScheduler.NO_NOTIFICATION, NotificationScheduler.nextNotificationMinute(due, due - 1));
+        assertEquals(NotificationScheduler.NO_NOTIFICATION, NotificationScheduler.nextNotificationMinute(due, due + 5));
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Queue Test
+    /////////////////////////////////////////////////////////////////////////
+
+    private static Deadline dueIn(long minutes) {
+        EpochMinute due = EpochMinute.ofEpochMinute(EpochMinute.currentEpochMinute() + minutes, ZoneId.systemDefault());
+        return new Deadline(due.toCalendarWrapper(), "Homework " + minutes, "CSCI 1200", Deadline.STATUS.DEFAULT, "");
+    }
+
+    @Test
+    public void scheduleTest() {
+        NotificationScheduler scheduler = new NotificationScheduler();
+        try {
+            DeadlineTimer soon = new DeadlineTimer(dueIn(3 * EpochMinute.MINUTES_PER_DAY), null, scheduler);
+            DeadlineTimer later = new DeadlineTimer(dueIn(30 * EpochMinute.MINUTES_PER_DAY), null, scheduler);
+            DeadlineTimer past = new DeadlineTimer(dueIn(-60), null, scheduler);
+            scheduler.schedule(soon);
+            scheduler.schedule(later);
+            scheduler.schedule(past);
+            assertEquals(2, scheduler.size());
+            // scheduling again replaces the queued notification
+            scheduler.schedule(soon);
+            assertEquals(2, scheduler.size());
+            scheduler.cancel(soon);
+            scheduler.cancel(past);
+            assertEquals(1, scheduler.size());
+        } finally {
+            scheduler.shutdown();
+        }
+        assertEquals(0, scheduler.size());
+    }
+}
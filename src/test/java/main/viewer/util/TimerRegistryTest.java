@@ -0,0 +1,68 @@
+package main.viewer.util;
+
+import model.CalendarWrapper;
+import model.Deadline;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the TimerRegistry class.
+ */
+public class TimerRegistryTest {
+    private final NotificationScheduler scheduler = new NotificationScheduler();
+
+    private DeadlineTimer timer(String course, String name) throws CalendarWrapper.CalendarFormatException {
+        return new DeadlineTimer(new Deadline(2019, 10, 20, 23, 59, name, course, Deadline.STATUS.DEFAULT, ""),
+                null, this.scheduler);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Registry Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void putTest() throws CalendarWrapper.CalendarFormatException {
+        TimerRegistry registry = new TimerRegistry();
+        DeadlineTimer hw1 = timer("CSCI 1200", "Homework 1");
+        assertNull(registry.put(hw1));
+        assertSame(hw1, registry.get("CSCI 1200", "Homework 1"));
+        DeadlineTimer again = timer("CSCI 1200", "Homework 1");
+        assertSame(hw1, registry.put(again));
+        assertSame(again, registry.get("CSCI 1200", "Homework 1"));
+        assertEquals(1, registry.size());
+        assertNull(registry.get("CSCI 1200", "Homework 2"));
+        assertNull(registry.get("CSCI 2300", "Homework 1"));
+    }
+
+    @Test
+    public void courseTest() throws CalendarWrapper.CalendarFormatException {
+        TimerRegistry registry = new TimerRegistry();
+        registry.put(timer("CSCI 1200", "Homework 1"));
+        registry.put(timer("CSCI 1200", "Homework 2"));
+        // a course whose name starts with another course name is a different course
+        registry.put(timer("CSCI 12000", "Homework 1"));
+        registry.put(timer("CSCI 1", "200Homework 1"));
+        assertEquals(2, registry.getCourse("CSCI 1200").size());
+        assertEquals(1, registry.getCourse("CSCI 12000").size());
+        assertEquals(1, registry.getCourse("CSCI 1").size());
+        assertTrue(registry.getCourse("MATH 1010").isEmpty());
+        assertEquals(4, registry.getAll().size());
+    }
+
+    @Test
+    public void removeTest() throws CalendarWrapper.CalendarFormatException {
+        TimerRegistry registry = new TimerRegistry();
+        DeadlineTimer hw1 = timer("CSCI 1200", "Homework 1");
+        registry.put(hw1);
+        registry.put(timer("CSCI 1200", "Homework 2"));
+        assertSame(hw1, registry.remove("CSCI 1200", "Homework 1"));
+        assertNull(registry.remove("CSCI 1200", "Homework 1"));
+        assertNull(registry.remove("CSCI 2300", "Homework 1"));
+        assertEquals(1, registry.size());
+        registry.remove("CSCI 1200", "Homework 2");
+        assertTrue(registry.getCourse("CSCI 1200").isEmpty());
+        assertEquals(0, registry.size());
+    }
+}
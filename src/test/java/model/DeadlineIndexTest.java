@@ -0,0 +1,123 @@
+package model;
+
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the DeadlineIndex class.
+ */
+public class DeadlineIndexTest {
+    private final static ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static Deadline deadline(String course, String name, long dueMinute) {
+        EpochMinute due = EpochMinute.ofEpochMinute(dueMinute, NEW_YORK);
+        return new Deadline(due.toCalendarWrapper(), name, course, Deadline.STATUS.DEFAULT, "");
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Put and Remove Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void putTest() {
+        DeadlineIndex index = new DeadlineIndex();
+        Deadline hw1 = deadline("CSCI 1200", "Homework 1", 1000);
+        assertNull(index.put(hw1));
+        assertNull(index.put(deadline("CSCI 2300", "Homework 1", 1000)));
+        assertEquals(2, index.size());
+        assertSame(hw1, index.get("CSCI 1200", "Homework 1"));
+
+        // a deadline with the same name in the same course is replaced, even if it moves
+        Deadline moved = deadline("CSCI 1200", "Homework 1", 5000);
+        assertSame(hw1, index.put(moved));
+        assertEquals(2, index.size());
+        assertEquals(1, index.range(0, 2000).size());
+        assertSame(moved, index.range(2000, 6000).get(0));
+    }
+
+    @Test
+    public void removeTest() {
+        DeadlineIndex index = new DeadlineIndex();
+        index.put(deadline("CSCI 1200", "Homework 1", 1000));
+        index.put(deadline("CSCI 1200", "Homework 2", 1000));
+        assertNotNull(index.remove("CSCI 1200", "Homework 1"));
+        assertNull(index.remove("CSCI 1200", "Homework 1"));
+        assertNull(index.remove("CSCI 2300", "Homework 2"));
+        assertEquals(1, index.size());
+        assertEquals("Homework 2", index.range(1000, 1001).get(0).getName());
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.getAll().isEmpty());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Range Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void rangeTest() {
+        DeadlineIndex index = new DeadlineIndex();
+        List<Deadline> all = new ArrayList<>();
+        Random random = new Random(19);
+        for (int i = 0; i < 2000; i++) {
+            Deadline d = deadline("Course " + random.nextInt(20), "Homework " + i, random.nextInt(5000));
+            index.put(d);
+            all.add(d);
+        }
+        all.sort(Deadline.DUE_ORDER);
+        assertEquals(all, index.getAll());
+        for (int k = 0; k < 200; k++) {
+            long from = random.nextInt(5200) - 100;
+            long to = from + random.nextInt(1000);
+            List<Deadline> expected = new ArrayList<>();
+            for (Deadline d : all) {
+                if (d.getDueMinute() >= from && d.getDueMinute() < to) {
+                    expected.add(d);
+                }
+            }
+            assertEquals(expected, index.range(from, to));
+        }
+        assertTrue(index.range(3000, 3000).isEmpty());
+        assertTrue(index.range(3000, 1000).isEmpty());
+    }
+
+    @Test
+    public void monthTest() throws CalendarWrapper.CalendarFormatException {
+        DeadlineIndex index = new DeadlineIndex();
+        long lastOfNovember = EpochMinute.of(2019, 11, 30, 23, 59, NEW_YORK).getEpochMinute();
+        long firstOfDecember = EpochMinute.of(2019, 12, 1, 0, 0, NEW_YORK).getEpochMinute();
+        long lastOfDecember = EpochMinute.of(2019, 12, 31, 23, 59, NEW_YORK).getEpochMinute();
+        long firstOfJanuary = EpochMinute.of(2020, 1, 1, 0, 0, NEW_YORK).getEpochMinute();
+        index.put(deadline("CSCI 1200", "Homework 1", lastOfNovember));
+        index.put(deadline("CSCI 1200", "Homework 2", firstOfDecember));
+        index.put(deadline("CSCI 1200", "Homework 3", lastOfDecember));
+        index.put(deadline("CSCI 1200", "Homework 4", firstOfJanuary));
+        List<Deadline> december = index.month(2019, 12, NEW_YORK);
+        assertEquals(2, december.size());
+        assertEquals("Homework 2", december.get(0).getName());
+        assertEquals("Homework 3", december.get(1).getName());
+        assertEquals(1, index.month(2019, 11, NEW_YORK).size());
+        assertEquals(1, index.month(2020, 1, NEW_YORK).size());
+    }
+
+    @Test
+    public void fromTest() {
+        DeadlineIndex index = new DeadlineIndex();
+        index.put(deadline("CSCI 1200", "Homework 1", 1000));
+        index.put(deadline("CSCI 2300", "Homework 2", 2000));
+        index.put(deadline("CSCI 1200", "Homework 3", 2000));
+        Iterator<Deadline> it = index.from(1001).iterator();
+        assertEquals("Homework 3", it.next().getName());
+        assertEquals("Homework 2", it.next().getName());
+        assertFalse(it.hasNext());
+        assertFalse(index.from(2001).iterator().hasNext());
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the DueTextParser class, Deadline.parseDate and Deadline.tryParseDate.
+ */
+public class DueTextParserTest {
+    private final static ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Parse Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void parseTest() {
+        DueTextParser parser = new DueTextParser(NEW_YORK);
+        assertEquals(DueTextParser.OK, parser.parse("(due 04/26/2019 @ 23:59)"));
+        assertEquals(2019, parser.getYear());
+        assertEquals(4, parser.getMonth());
+        assertEquals(26, parser.getDay());
+        assertEquals(23, parser.getHour());
+        assertEquals(59, parser.getMinute());
+
+        assertEquals(DueTextParser.OK, parser.parse("(teams lock 12/01/2019 @ 09:05 AM)"));
+        assertEquals(12, parser.getMonth());
+        assertEquals(1, parser.getDay());
+        assertEquals(9, parser.getHour());
+        assertEquals(5, parser.getMinute());
+    }
+
+    @Test
+    public void twelveHourTest() {
+        DueTextParser parser = new DueTextParser(NEW_YORK);
+        assertEquals(DueTextParser.OK, parser.parse("(due 10/12/2019 @ 12:30 AM)"));
+        assertEquals(0, parser.getHour());
+        assertEquals(DueTextParser.OK, parser.parse("(due 10/12/2019 @ 12:30 PM)"));
+        assertEquals(12, parser.getHour());
+        assertEquals(DueTextParser.OK, parser.parse("(due 10/12/2019 @ 11:59 PM)"));
+        assertEquals(23, parser.getHour());
+        assertEquals(DueTextParser.OK, parser.parse("(due 10/12/2019 @ 01:00 AM)"));
+        assertEquals(1, parser.getHour());
+        assertEquals(DueTextParser.BAD_TIME, parser.parse("(due 10/12/2019 @ 00:30 AM)"));
+        assertEquals(DueTextParser.BAD_TIME, parser.parse("(due 10/12/2019 @ 13:30 PM)"));
+    }
+
+    @Test
+    public void invalidTest() {
+        DueTextParser parser = new DueTextParser(NEW_YORK);
+        assertEquals(DueTextParser.NOT_DUE_TEXT, parser.parse("04/26/2019 @ 23:59"));
+        assertEquals(DueTextParser.NOT_DUE_TEXT, parser.parse(""));
+        assertEquals(DueTextParser.BAD_FORMAT, parser.parse("(due 4/26/2019 @ 23:59)"));
+        assertEquals(DueTextParser.BAD_FORMAT, parser.parse("(due 04/26/2019"));
+        assertEquals(DueTextParser.BAD_FORMAT, parser.parse("(due -4/26/2019 @ 23:59)"));
+        assertEquals(DueTextParser.BAD_MONTH, parser.parse("(due 13/26/2019 @ 23:59)"));
+        assertEquals(DueTextParser.BAD_MONTH, parser.parse("(due 00/26/2019 @ 23:59)"));
+        assertEquals(DueTextParser.BAD_TIME, parser.parse("(due 04/32/2019 @ 23:59)"));
+        assertEquals(DueTextParser.BAD_TIME, parser.parse("(due 04/26/2019 @ 24:00)"));
+        assertEquals(DueTextParser.BAD_TIME, parser.parse("(due 04/26/2019 @ 23:60)"));
+        // a failed text keeps the fields of the last text that was read
+        assertEquals(DueTextParser.OK, parser.parse("(due 04/26/2019 @ 23:59)"));
+        parser.parse("(due 13/26/2019 @ 23:59)");
+        assertEquals(4, parser.getMonth());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Epoch Minute Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void epochMinuteTest() {
+        DueTextParser parser = new DueTextParser(NEW_YORK);
+        String[] texts = {"(due 04/26/2019 @ 11:59 PM)", "(due 04/27/2019 @ 11:59 PM)", "(due 03/10/2019 @ 02:30 AM)",
+                "(due 03/10/2019 @ 03:30 AM)", "(due 11/03/2019 @ 01:30 AM)", "(due 11/03/2019 @ 02:30 AM)",
+                "(due 12/31/2019 @ 11:59 PM)", "(due 01/01/1969 @ 12:00 AM)"};
+        for (int round = 0; round < 2; round++) {
+            for (String text : texts) {
+                assertEquals(DueTextParser.OK, parser.parse(text));
+                long expected = EpochMinute.of(parser.getYear(), parser.getMonth(), parser.getDay(),
+                        parser.getHour(), parser.getMinute(), NEW_YORK).getEpochMinute();
+                assertEquals(text, expected, parser.getEpochMinute());
+            }
+        }
+    }
+
+    @Test
+    public void fixedOffsetTest() {
+        DueTextParser parser = new DueTextParser(ZoneOffset.ofHours(-5));
+        parser.parse("(due 04/26/2019 @ 11:59 PM)");
+        long expected = LocalDateTime.of(2019, 4, 26, 23, 59).toEpochSecond(ZoneOffset.ofHours(-5)) / 60;
+        assertEquals(expected, parser.getEpochMinute());
+        parser.parse("(due 04/26/2049 @ 11:59 PM)");
+        expected = LocalDateTime.of(2049, 4, 26, 23, 59).toEpochSecond(ZoneOffset.ofHours(-5)) / 60;
+        assertEquals(expected, parser.getEpochMinute());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  parseDate Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void parseDateTest() {
+        assertEquals(new CalendarWrapper(2019, CalendarWrapper.APRIL, 26, 23, 59),
+                Deadline.parseDate("(due 04/26/2019 @ 23:59)"));
+        assertEquals(new CalendarWrapper(2019, 12, 6, 12, 0),
+                Deadline.parseDate("(teams lock 12/06/2019 @ 12:00 PM)"));
+    }
+
+    @Test
+    public void parseDateInvalidTest() {
+        try {
+            Deadline.parseDate("(due 4/26/2019 @ 23:59)");
+            fail();
+        } catch (CalendarWrapper.CalendarFormatException e) {
+            fail();
+        } catch (RuntimeException e) {
+            assertEquals("(due 4/26/2019 @ 23:59) is not a valid due text", e.getMessage());
+        }
+        try {
+            Deadline.parseDate("(teams lock 13/26/2019 @ 23:59)");
+            fail();
+        } catch (CalendarWrapper.CalendarFormatException e) {
+            assertEquals("13 is not a valid month text", e.getMessage());
+        }
+    }
+
+    @Test
+    public void tryParseDateTest() {
+        assertEquals(new CalendarWrapper(2019, CalendarWrapper.APRIL, 26, 23, 59),
+                Deadline.tryParseDate("(due 04/26/2019 @ 23:59)"));
+        assertEquals(new CalendarWrapper(2019, 12, 6, 0, 30),
+                Deadline.tryParseDate("(teams lock 12/06/2019 @ 12:30 AM)"));
+        assertNull(Deadline.tryParseDate("(due 4/26/2019 @ 23:59)"));
+        assertNull(Deadline.tryParseDate("(teams lock 13/26/2019 @ 23:59)"));
+        assertNull(Deadline.tryParseDate("(due 04/26/2019 @ 24:00)"));
+        assertNull(Deadline.tryParseDate(""));
+    }
+}
@@ -0,0 +1,198 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the EpochMinute class.
+ */
+public class EpochMinuteTest {
+    private final static ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private EpochMinute time20190901;
+    private EpochMinute time20190330;
+
+    @Before
+    public void setUp() {
+        time20190901 = EpochMinute.of(2019, CalendarWrapper.SEPTEMBER, 1, 0, 0, NEW_YORK);
+        time20190330 = EpochMinute.of(2019, CalendarWrapper.MARCH, 30, 23, 59, NEW_YORK);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Constructor
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void testOfUtc() {
+        EpochMinute t = EpochMinute.of(1970, CalendarWrapper.JANUARY, 2, 1, 1, ZoneOffset.UTC);
+        assertEquals(24 * 60 + 61, t.getEpochMinute());
+    }
+
+    @Test
+    public void testOfBeforeEpoch() {
+        EpochMinute t = EpochMinute.of(1969, CalendarWrapper.DECEMBER, 31, 23, 59, ZoneOffset.UTC);
+        assertEquals(-1, t.getEpochMinute());
+        assertEquals(1969, t.getYear());
+        assertEquals(12, t.getMonth());
+        assertEquals(31, t.getDay());
+        assertEquals(23, t.getHourOfDay());
+        assertEquals(59, t.getMinuteOfHour());
+    }
+
+    @Test(expected = CalendarWrapper.CalendarFormatException.class)
+    public void testOfInvalidMonth() {
+        EpochMinute.of(2019, 13, 1, 0, 0, NEW_YORK);
+    }
+
+    @Test(expected = CalendarWrapper.CalendarFormatException.class)
+    public void testOfInvalidMinute() {
+        EpochMinute.of(2019, 1, 1, 0, 60, NEW_YORK);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Field Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void fieldTest() {
+        assertEquals(2019, time20190330.getYear());
+        assertEquals(3, time20190330.getMonth());
+        assertEquals(30, time20190330.getDay());
+        assertEquals(23, time20190330.getHourOfDay());
+        assertEquals(59, time20190330.getMinuteOfHour());
+    }
+
+    @Test
+    public void weekDayTest() {
+        // 2019-09-01 was a Sunday, 2019-03-30 was a Saturday
+        assertEquals(0, time20190901.getWeekDay());
+        assertEquals(6, time20190330.getWeekDay());
+    }
+
+    @Test
+    public void leapDayTest() {
+        EpochMinute t = EpochMinute.of(2020, CalendarWrapper.FEBRUARY, 29, 12, 30, NEW_YORK);
+        assertEquals(2020, t.getYear());
+        assertEquals(2, t.getMonth());
+        assertEquals(29, t.getDay());
+    }
+
+    @Test
+    public void dayRollOverTest() {
+        EpochMinute t = EpochMinute.of(2019, CalendarWrapper.FEBRUARY, 31, 0, 0, NEW_YORK);
+        assertEquals(3, t.getMonth());
+        assertEquals(3, t.getDay());
+    }
+
+    @Test
+    public void matchesGregorianCalendarTest() {
+        TimeZone tz = TimeZone.getTimeZone(NEW_YORK);
+        Calendar cal = new GregorianCalendar(tz);
+        cal.clear();
+        cal.set(1999, Calendar.JANUARY, 1, 0, 0);
+        for (int i = 0; i < 4000; i++) {
+            cal.add(Calendar.MINUTE, 7919);
+            EpochMinute t = EpochMinute.ofEpochMinute(cal.getTimeInMillis() / 60000, NEW_YORK);
+            assertEquals(cal.get(Calendar.YEAR), t.getYear());
+            assertEquals(cal.get(Calendar.MONTH) + 1, t.getMonth());
+            assertEquals(cal.get(Calendar.DATE), t.getDay());
+            assertEquals(cal.get(Calendar.HOUR_OF_DAY), t.getHourOfDay());
+            assertEquals(cal.get(Calendar.MINUTE), t.getMinuteOfHour());
+            assertEquals(cal.get(Calendar.DAY_OF_WEEK) - 1, t.getWeekDay());
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Daylight saving Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void springForwardGapTest() {
+        Calendar cal = CalendarWrapper.createJavaCalendar(TimeZone.getTimeZone(NEW_YORK),
+                2019, CalendarWrapper.MARCH, 10, 2, 30);
+        cal.set(Calendar.MILLISECOND, 0);
+        EpochMinute t = EpochMinute.of(2019, CalendarWrapper.MARCH, 10, 2, 30, NEW_YORK);
+        assertEquals(cal.getTimeInMillis() / 60000, t.getEpochMinute());
+        assertEquals(3, t.getHourOfDay());
+    }
+
+    @Test
+    public void fallBackOverlapTest() {
+        Calendar cal = CalendarWrapper.createJavaCalendar(TimeZone.getTimeZone(NEW_YORK),
+                2019, CalendarWrapper.NOVEMBER, 3, 1, 30);
+        cal.set(Calendar.MILLISECOND, 0);
+        EpochMinute t = EpochMinute.of(2019, CalendarWrapper.NOVEMBER, 3, 1, 30, NEW_YORK);
+        assertEquals(cal.getTimeInMillis() / 60000, t.getEpochMinute());
+        assertEquals(1, t.getHourOfDay());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Compare Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void compareToTest() {
+        assertTrue(time20190901.compareTo(time20190330) > 0);
+        assertTrue(time20190330.compareTo(time20190901) < 0);
+        assertEquals(0, time20190330.compareTo(
+                EpochMinute.of(2019, CalendarWrapper.MARCH, 30, 23, 59, NEW_YORK)));
+    }
+
+    @Test
+    public void compareAcrossZonesTest() {
+        EpochMinute utc = EpochMinute.ofEpochMinute(time20190901.getEpochMinute(), ZoneOffset.UTC);
+        assertEquals(0, utc.compareTo(time20190901));
+        assertNotEquals(utc, time20190901);
+        assertEquals(4, utc.getHourOfDay());
+    }
+
+    @Test
+    public void isAfterIsBeforeTest() {
+        assertTrue(time20190901.isAfter(time20190330));
+        assertFalse(time20190901.isBefore(time20190330));
+        assertFalse(time20190901.isAfter(time20190901));
+    }
+
+    @Test
+    public void equalsHashCodeTest() {
+        EpochMinute same = EpochMinute.of(2019, CalendarWrapper.SEPTEMBER, 1, 0, 0, NEW_YORK);
+        assertEquals(time20190901, same);
+        assertEquals(time20190901.hashCode(), same.hashCode());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Conversion Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void fromCalendarWrapperTest() {
+        CalendarWrapper c = new CalendarWrapper(2019, CalendarWrapper.MARCH, 30, 23, 59);
+        EpochMinute t = c.toEpochMinute();
+        assertEquals(c.getYear(), t.getYear());
+        assertEquals(c.getMonth(), t.getMonth());
+        assertEquals(c.getDay(), t.getDay());
+        assertEquals(c.getHourOfDay(), t.getHourOfDay());
+        assertEquals(c.getMinuteOfHour(), t.getMinuteOfHour());
+        assertEquals(c.getWeekDay(), t.getWeekDay());
+    }
+
+    @Test
+    public void roundTripTest() {
+        CalendarWrapper c = time20190330.toCalendarWrapper();
+        assertEquals(time20190330, EpochMinute.from(c));
+        assertEquals(time20190330.getEpochMinute(), c.getEpochMinute());
+    }
+
+    @Test
+    public void toStringTest() {
+        assertEquals("EpochMinute (03/30/2019 @ 23:59)", time20190330.toString());
+    }
+}
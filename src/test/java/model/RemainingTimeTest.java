@@ -0,0 +1,134 @@
+package model;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the RemainingTime class and Deadline.getRemainingTime.
+ */
+public class RemainingTimeTest {
+    private final static ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static long minute(int year, int month, int day, int hour, int minute, ZoneId zone) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(zone).toEpochSecond() / 60;
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Between Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void leftTest() {
+        long now = minute(2019, 10, 1, 12, 0, NEW_YORK);
+        RemainingTime remain = RemainingTime.between(now, minute(2019, 10, 3, 15, 30, NEW_YORK), NEW_YORK);
+        assertTrue(remain.isLeft());
+        assertEquals(0, remain.getMonths());
+        assertEquals(2, remain.getDays());
+        assertEquals(3, remain.getHours());
+        assertEquals(30, remain.getMinutes());
+        assertEquals(now, remain.getNowMinute());
+        assertEquals((2 * 24 + 3) * 60 + 30, remain.getTotalMinutes());
+    }
+
+    @Test
+    public void agoTest() {
+        long due = minute(2019, 10, 1, 12, 0, NEW_YORK);
+        RemainingTime remain = RemainingTime.between(due + 61, due, NEW_YORK);
+        assertFalse(remain.isLeft());
+        assertEquals(1, remain.getHours());
+        assertEquals(1, remain.getMinutes());
+        // the due minute itself has passed
+        assertFalse(RemainingTime.between(due, due, NEW_YORK).isLeft());
+        assertEquals(0, RemainingTime.between(due, due, NEW_YORK).getTotalMinutes());
+    }
+
+    @Test
+    public void monthTest() {
+        // Jan 31 plus a month is the last day of February
+        RemainingTime remain = RemainingTime.between(minute(2019, 1, 31, 10, 0, NEW_YORK),
+                minute(2019, 2, 28, 10, 0, NEW_YORK), NEW_YORK);
+        assertEquals(1, remain.getMonths());
+        assertEquals(0, remain.getDays());
+        remain = RemainingTime.between(minute(2019, 1, 5, 10, 0, NEW_YORK),
+                minute(2019, 2, 5, 9, 59, NEW_YORK), NEW_YORK);
+        assertEquals(0, remain.getMonths());
+        assertEquals(30, remain.getDays());
+        assertEquals(23, remain.getHours());
+        assertEquals(59, remain.getMinutes());
+        // years are counted as months
+        remain = RemainingTime.between(minute(2019, 1, 5, 10, 0, NEW_YORK),
+                minute(2020, 2, 6, 10, 0, NEW_YORK), NEW_YORK);
+        assertEquals(13, remain.getMonths());
+        assertEquals(1, remain.getDays());
+    }
+
+    @Test
+    public void daylightSavingTest() {
+        // a local day across the spring transition is still a day
+        RemainingTime remain = RemainingTime.between(minute(2019, 3, 9, 12, 0, NEW_YORK),
+                minute(2019, 3, 10, 12, 0, NEW_YORK), NEW_YORK);
+        assertEquals(1, remain.getDays());
+        assertEquals(0, remain.getHours());
+        assertEquals(23 * 60, remain.getTotalMinutes());
+    }
+
+    @Test
+    public void periodTest() {
+        // the same fields as a joda Period with years as months and weeks as days
+        DateTimeZone utc = DateTimeZone.UTC;
+        Random random = new Random(15);
+        long base = minute(2019, 1, 1, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 20000; i++) {
+            long now = base + random.nextInt(800 * 24 * 60);
+            long due = now + random.nextInt(800 * 24 * 60) - 400 * 24 * 60;
+            RemainingTime remain = RemainingTime.between(now, due, ZoneOffset.UTC);
+            DateTime start = new DateTime(Math.min(now, due) * 60000, utc);
+            DateTime end = new DateTime(Math.max(now, due) * 60000, utc);
+            Period period = new Period(start, end);
+            String message = now + " " + due;
+            assertEquals(message, due > now, remain.isLeft());
+            assertEquals(message, period.getYears() * 12 + period.getMonths(), remain.getMonths());
+            assertEquals(message, period.getWeeks() * 7 + period.getDays(), remain.getDays());
+            assertEquals(message, period.getHours(), remain.getHours());
+            assertEquals(message, period.getMinutes(), remain.getMinutes());
+        }
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Deadline Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void cacheTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline deadline = new Deadline(2019, 10, 20, 23, 59, "Homework 1", "CSCI 1200",
+                Deadline.STATUS.DEFAULT, "");
+        long now = deadline.getDueMinute() - 90;
+        RemainingTime remain = deadline.getRemainingTime(now);
+        assertSame(remain, deadline.getRemainingTime(now));
+        assertEquals(1, remain.getHours());
+        assertEquals(30, remain.getMinutes());
+        RemainingTime next = deadline.getRemainingTime(now + 1);
+        assertNotSame(remain, next);
+        assertEquals(29, next.getMinutes());
+    }
+
+    @Test
+    public void remainingTextTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline deadline = new Deadline(2019, 12, 31, 23, 59, "Homework 1", "CSCI 1200",
+                Deadline.STATUS.DEFAULT, "");
+        assertEquals("01 Months 06 Days 03 Hours 04 Minutes Left.",
+                deadline.getRemainingText(new CalendarWrapper(2019, 11, 25, 20, 55)));
+        assertEquals("00 Days 00 Hours 01 Minutes Ago.",
+                deadline.getRemainingText(new CalendarWrapper(2020, 1, 1, 0, 0)));
+    }
+}
@@ -0,0 +1,87 @@
+package model;
+
+import org.junit.Test;
+
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the StringPool class and the pooled fields of Deadline.
+ */
+public class StringPoolTest {
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Pool Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void statusTest() {
+        String read = new String(Deadline.STATUS.LATE_SUBMIT.toCharArray());
+        assertSame(Deadline.STATUS.LATE_SUBMIT, StringPool.status(read));
+        String unknown = new String("IN REVIEW".toCharArray());
+        assertSame(StringPool.status("IN REVIEW"), StringPool.status(unknown));
+        assertNull(StringPool.status(null));
+    }
+
+    @Test
+    public void courseTest() {
+        String course = StringPool.course(new String("CSCI 4430".toCharArray()));
+        assertSame(course, StringPool.course(new String("CSCI 4430".toCharArray())));
+        assertEquals("CSCI 4430", course);
+    }
+
+    @Test
+    public void linkPrefixTest() {
+        String prefix = StringPool.linkPrefix("https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/hw1");
+        assertEquals("https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/", prefix);
+        assertSame(prefix, StringPool.linkPrefix("https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/hw2"));
+        assertSame(prefix, StringPool.linkPrefix(new String(prefix.toCharArray())));
+        assertEquals("", StringPool.linkPrefix("no-slash"));
+        assertEquals("", StringPool.linkPrefix(""));
+        assertNull(StringPool.linkPrefix(null));
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Deadline Test
+    /////////////////////////////////////////////////////////////////////////
+
+    private static Deadline deadline(String course, String status, String link)
+            throws CalendarWrapper.CalendarFormatException {
+        return new Deadline(2019, 10, 20, 23, 59, "Homework 1", course, status, link);
+    }
+
+    @Test
+    public void deadlineTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline d1 = deadline(new String("CSCI 1200".toCharArray()), new String("FINISHED".toCharArray()), "");
+        Deadline d2 = deadline(new String("CSCI 1200".toCharArray()), "FINISHED", "");
+        assertSame(d1.getCourseName(), d2.getCourseName());
+        assertSame(Deadline.STATUS.FINISHED, d1.getStatus());
+    }
+
+    @Test
+    public void linkTest() throws CalendarWrapper.CalendarFormatException {
+        String[] links = {"https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/hw1",
+                "https://submitty.cs.rpi.edu/courses/f19/csci1200/", "/courses/hw", "hw1", ""};
+        for (String link : links) {
+            assertEquals(link, deadline("CSCI 1200", Deadline.STATUS.DEFAULT, link).getLink());
+        }
+        assertNull(deadline("CSCI 1200", Deadline.STATUS.DEFAULT, null).getLink());
+    }
+
+    @Test
+    public void sameLinkTest() throws CalendarWrapper.CalendarFormatException {
+        String[] links = {"https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/hw1",
+                "https://submitty.cs.rpi.edu/courses/f19/csci1200/gradeable/hw2",
+                "https://submitty.cs.rpi.edu/courses/f19/csci1200/", "/courses/hw", "hw1", "", null};
+        for (String link1 : links) {
+            for (String link2 : links) {
+                Deadline d1 = deadline("CSCI 1200", Deadline.STATUS.DEFAULT, link1);
+                Deadline d2 = deadline("CSCI 1200", Deadline.STATUS.DEFAULT,
+                        link2 == null ? null : new String(link2.toCharArray()));
+                assertEquals(Objects.equals(link1, link2), d1.hasSameLink(d2));
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package model;
+
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the UpcomingDeadlines class.
+ */
+public class UpcomingDeadlinesTest {
+    private final static ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static Deadline deadline(String course, String name, long dueMinute, String status) {
+        EpochMinute due = EpochMinute.ofEpochMinute(dueMinute, NEW_YORK);
+        return new Deadline(due.toCalendarWrapper(), name, course, status, "");
+    }
+
+    private static Deadline deadline(String course, String name, long dueMinute) {
+        return deadline(course, name, dueMinute, Deadline.STATUS.DEFAULT);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Peek Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void peekTest() {
+        UpcomingDeadlines upcoming = new UpcomingDeadlines();
+        assertNull(upcoming.peek(0));
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 1000));
+        upcoming.put(deadline("CSCI 1200", "Homework 2", 2000));
+        upcoming.put(deadline("CSCI 1200", "Homework 3", 3000, Deadline.STATUS.FINISHED));
+        assertEquals("Homework 1", upcoming.peek(0).getName());
+        assertEquals("Homework 1", upcoming.peek(999).getName());
+        // a deadline due in the current minute is no longer upcoming
+        assertEquals("Homework 2", upcoming.peek(1000).getName());
+        assertNull(upcoming.peek(2000));
+    }
+
+    @Test
+    public void replaceTest() {
+        UpcomingDeadlines upcoming = new UpcomingDeadlines();
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 1000));
+        upcoming.put(deadline("CSCI 1200", "Homework 2", 2000));
+        assertEquals("Homework 1", upcoming.peek(0).getName());
+        // a status change replaces the deadline
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 1000, Deadline.STATUS.FINISHED));
+        assertEquals("Homework 2", upcoming.peek(0).getName());
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 1000, Deadline.STATUS.LATE_SUBMIT));
+        assertEquals("Homework 1", upcoming.peek(0).getName());
+        // so does moving it
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 3000));
+        assertEquals("Homework 2", upcoming.peek(0).getName());
+        upcoming.remove("CSCI 1200", "Homework 2");
+        assertEquals("Homework 1", upcoming.peek(0).getName());
+        upcoming.remove("CSCI 1200", "Homework 1");
+        upcoming.remove("CSCI 2300", "Homework 1");
+        assertNull(upcoming.peek(0));
+    }
+
+    @Test
+    public void ignoreTest() {
+        UpcomingDeadlines upcoming = new UpcomingDeadlines();
+        upcoming.put(deadline("CSCI 1200", "Homework 1", 1000));
+        upcoming.put(deadline("CSCI 1200", "Homework 2", 1500, Deadline.STATUS.FINISHED));
+        upcoming.put(deadline("CSCI 12000", "Homework 1", 2000));
+        upcoming.ignoreCourse("CSCI 1200");
+        assertEquals("CSCI 12000", upcoming.peek(0).getCourseName());
+        // deadlines of an ignored course are kept for when it is no longer ignored
+        upcoming.put(deadline("CSCI 1200", "Homework 3", 500));
+        assertEquals("CSCI 12000", upcoming.peek(0).getCourseName());
+        upcoming.unignoreCourse("CSCI 1200");
+        assertEquals("Homework 3", upcoming.peek(0).getName());
+        assertEquals("Homework 1", upcoming.peek(500).getName());
+        assertEquals("CSCI 12000", upcoming.peek(1000).getCourseName());
+    }
+
+    @Test
+    public void randomTest() {
+        UpcomingDeadlines upcoming = new UpcomingDeadlines();
+        List<Deadline> all = new ArrayList<>();
+        Set<String> ignored = new HashSet<>();
+        Random random = new Random(20);
+        long now = 0;
+        for (int i = 0; i < 5000; i++) {
+            String course = "Course " + random.nextInt(10);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                String status = random.nextInt(4) == 0 ? Deadline.STATUS.FINISHED : Deadline.STATUS.DEFAULT;
+                Deadline d = deadline(course, "Homework " + random.nextInt(50), now + random.nextInt(2000), status);
+                all.removeIf(o -> o.getCourseName().equals(d.getCourseName()) && o.getName().equals(d.getName()));
+                all.add(d);
+                upcoming.put(d);
+            } else if (op < 7) {
+                String name = "Homework " + random.nextInt(50);
+                all.removeIf(o -> o.getCourseName().equals(course) && o.getName().equals(name));
+                upcoming.remove(course, name);
+            } else if (op < 8) {
+                ignored.add(course);
+                upcoming.ignoreCourse(course);
+            } else if (op < 9) {
+                ignored.remove(course);
+                upcoming.unignoreCourse(course);
+            } else {
+                now += random.nextInt(20);
+            }
+            Deadline expected = null;
+            for (Deadline d : all) {
+                if (d.getDueMinute() > now && !ignored.contains(d.getCourseName())
+                        && !d.getStatus().equals(Deadline.STATUS.FINISHED)
+                        && (expected == null || Deadline.DUE_ORDER.compare(d, expected) < 0)) {
+                    expected = d;
+                }
+            }
+            assertSame(expected, upcoming.peek(now));
+        }
+    }
+}
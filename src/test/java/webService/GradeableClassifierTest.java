@@ -0,0 +1,80 @@
+package webService;
+
+import model.Deadline;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the GradeableClassifier class.
+ */
+public class GradeableClassifierTest {
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Skip Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void skipTest() {
+        assertTrue(GradeableClassifier.classify("Homework 0\nVIEW GRADE\nVIEW GRADE").isSkipped());
+        assertTrue(GradeableClassifier.classify("Homework 0\nREGRADE").isSkipped());
+        assertTrue(GradeableClassifier.classify("Homework 0\nGRADE").isSkipped());
+        assertTrue(GradeableClassifier.classify("Quiz\nNO SUBMISSION\n(due 10/12/2019 @ 11:59 PM)").isSkipped());
+        assertTrue(GradeableClassifier.classify("Quiz\nOVERDUE SUBMISSION").isSkipped());
+        assertFalse(GradeableClassifier.classify("Graded Quiz\nSUBMIT").isSkipped());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Status Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void statusTest() {
+        assertEquals(Deadline.STATUS.DEFAULT, GradeableClassifier.classify("Homework 1\nSUBMIT").getStatus());
+        assertEquals(Deadline.STATUS.RESUBMIT, GradeableClassifier.classify("Homework 1\nRESUBMIT").getStatus());
+        assertEquals(Deadline.STATUS.LATE_SUBMIT, GradeableClassifier.classify("Homework 1\nLATE SUBMIT").getStatus());
+        assertEquals(Deadline.STATUS.LATE_RESUBMIT,
+                GradeableClassifier.classify("Homework 1\nLATE RESUBMIT").getStatus());
+        assertEquals(Deadline.STATUS.MUST_ON_TEAM,
+                GradeableClassifier.classify("Project\nMUST BE ON A TEAM TO SUBMIT").getStatus());
+        // late submit is checked first
+        assertEquals(Deadline.STATUS.LATE_SUBMIT,
+                GradeableClassifier.classify("Homework 1\nRESUBMIT LATE SUBMIT").getStatus());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Name Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void nameTest() {
+        GradeableClassifier g = GradeableClassifier.classify("  Lab 3 & Quiz \nLATE SUBMIT\n(due 10/05/2019 @ 04:00 PM)");
+        assertEquals("Lab 3 & Quiz", g.getName());
+        assertFalse(g.isTeam());
+        assertNull(g.getTeamDueText());
+        assertEquals("Homework", GradeableClassifier.classify("HomeworkRESUBMIT VIEW TEAM").getName());
+        assertEquals("", GradeableClassifier.classify("").getName());
+        assertEquals("", GradeableClassifier.classify("\n\nSUBMIT").getName());
+    }
+
+    @Test
+    public void teamTest() {
+        GradeableClassifier g = GradeableClassifier.classify(
+                "Project 1 CREATE TEAM\n(teams lock 10/01/2019 @ 11:59 PM)\nSUBMIT\n(due 10/20/2019 @ 11:59 PM)");
+        assertTrue(g.isTeam());
+        assertEquals("Project 1 CREATE TEAM", g.getName());
+        assertEquals("Project 1 ", g.getTeamName());
+        assertEquals("(teams lock 10/01/2019 @ 11:59 PM)", g.getTeamDueText());
+
+        g = GradeableClassifier.classify("Project 2 CREATE/JOIN TEAM MANAGE TEAM\n\n\n");
+        assertTrue(g.isTeam());
+        assertEquals("Project 2  ", g.getTeamName());
+        assertNull(g.getTeamDueText());
+
+        g = GradeableClassifier.classify("Project 3\n\nMANAGE TEAM");
+        assertTrue(g.isTeam());
+        assertEquals("Project 3", g.getTeamName());
+        assertEquals("", g.getTeamDueText());
+    }
+}
@@ -0,0 +1,108 @@
+package webService;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the HtmlTokenizer class.
+ */
+public class HtmlTokenizerTest {
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Tag Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void startTagTest() throws IOException {
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader(
+                "<A Class=\"btn btn-nav-submit\" href='/a?x=1&amp;y=2' data-x=plain disabled>"));
+        assertEquals(HtmlTokenizer.Token.START_TAG, html.next());
+        assertEquals("a", html.getTagName());
+        assertEquals("btn btn-nav-submit", html.getAttribute("class"));
+        assertEquals("/a?x=1&y=2", html.getAttribute("href"));
+        assertEquals("plain", html.getAttribute("data-x"));
+        assertEquals("", html.getAttribute("disabled"));
+        assertNull(html.getAttribute("id"));
+        assertEquals(HtmlTokenizer.Token.EOF, html.next());
+    }
+
+    @Test
+    public void selfClosingTest() throws IOException {
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader("<br/><input name=a />"));
+        assertEquals(HtmlTokenizer.Token.START_TAG, html.next());
+        assertTrue(html.isSelfClosing());
+        assertEquals(HtmlTokenizer.Token.START_TAG, html.next());
+        assertTrue(html.isSelfClosing());
+        assertEquals("a", html.getAttribute("name"));
+    }
+
+    @Test
+    public void endTagTest() throws IOException {
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader("<div>x</DIV >"));
+        html.next();
+        html.next();
+        assertEquals(HtmlTokenizer.Token.END_TAG, html.next());
+        assertEquals("div", html.getTagName());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Text Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void textTest() throws IOException {
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader(
+                "Lab &amp; Quiz&nbsp;&#35;&#x41; &unknown; 1 < 2"));
+        assertEquals(HtmlTokenizer.Token.TEXT, html.next());
+        assertEquals("Lab & Quiz #A &unknown; 1 < 2", html.getText());
+        assertEquals(HtmlTokenizer.Token.EOF, html.next());
+    }
+
+    @Test
+    public void skipCommentAndScriptTest() throws IOException {
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader(
+                "<!DOCTYPE html><!-- <b>no</b> --><script>if (a < b) { s = '</b>'; }</script>yes"));
+        assertEquals(HtmlTokenizer.Token.START_TAG, html.next());
+        assertEquals("script", html.getTagName());
+        assertEquals(HtmlTokenizer.Token.END_TAG, html.next());
+        assertEquals("script", html.getTagName());
+        assertEquals(HtmlTokenizer.Token.TEXT, html.next());
+        assertEquals("yes", html.getText());
+    }
+
+    @Test
+    public void longPageTest() throws IOException {
+        StringBuilder page = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            page.append("<p class=\"row\">row ").append(i).append("</p>");
+        }
+        HtmlTokenizer html = new HtmlTokenizer(new StringReader(page.toString()));
+        int rows = 0;
+        HtmlTokenizer.Token token;
+        while ((token = html.next()) != HtmlTokenizer.Token.EOF) {
+            if (token == HtmlTokenizer.Token.TEXT) {
+                assertEquals("row " + rows, html.getText());
+                rows++;
+            }
+        }
+        assertEquals(5000, rows);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Class Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void hasClassTest() {
+        assertTrue(HtmlTokenizer.hasClass("btn btn-block", "btn-block"));
+        assertTrue(HtmlTokenizer.hasClass("btn-block", "btn-block"));
+        assertFalse(HtmlTokenizer.hasClass("btn-block-wide", "btn-block"));
+        assertFalse(HtmlTokenizer.hasClass("btn", "btn-block"));
+        assertFalse(HtmlTokenizer.hasClass(null, "btn-block"));
+    }
+}
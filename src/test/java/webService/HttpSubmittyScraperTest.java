@@ -0,0 +1,223 @@
+package webService;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import model.Course;
+import model.Deadline;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the HttpSubmittyScraper class against a local server that
+ * serves recorded Submitty pages.
+ */
+public class HttpSubmittyScraperTest {
+    private final static String SESSION = "submitty_session=abc123";
+    private HttpServer server;
+    private String baseUrl;
+    private Map<String, String> pages;
+
+    @Before
+    public void setUp() throws IOException {
+        pages = new HashMap<>();
+        for (String page : new String[]{"login", "login_failed", "home", "csci1200", "csci2300"}) {
+            pages.put(page, read("/submitty/" + page + ".html"));
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Login Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void loginTest() {
+        HttpSubmittyScraper scraper = new HttpSubmittyScraper(baseUrl, "alice", "secret", null);
+        scraper.login();
+        scraper.parser(new HashSet<>(), null, 2);
+        assertEquals(2, scraper.getCourseMap().size());
+    }
+
+    @Test(expected = SubmittyAccess.LoginFailException.class)
+    public void wrongPasswordTest() {
+        new HttpSubmittyScraper(baseUrl, "alice", "wrong", null).login();
+    }
+
+    @Test(expected = SubmittyAccess.LoginFailException.class)
+    public void emptyPasswordTest() {
+        new HttpSubmittyScraper(baseUrl, "alice", "", null);
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Gradeable Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void gradeableTest() {
+        ConcurrentHashMap<String, Course> courses = this.scrape(null);
+        Course csci1200 = find(courses, "CSCI 1200");
+        Map<String, Deadline> deadlines = csci1200.getDeadlinesView();
+        // Homework 0 is graded, Project 1 adds a team deadline
+        assertEquals(4, deadlines.size());
+        assertEquals(Deadline.STATUS.DEFAULT, deadlines.get("Homework 1").getStatus());
+        assertEquals(baseUrl + "/f19/csci1200/gradeable/hw1", deadlines.get("Homework 1").getLink());
+        assertEquals(12, deadlines.get("Homework 1").getDay());
+        assertEquals(23, deadlines.get("Homework 1").getHour());
+        assertEquals(Deadline.STATUS.FINISHED, deadlines.get("Homework 2").getStatus());
+        assertEquals(9, deadlines.get("Homework 2").getHour());
+        assertNotNull(deadlines.get("Project 1 "));
+        assertNotNull(deadlines.get("Project 1  (MANAGE TEAM)"));
+        assertEquals(1, deadlines.get("Project 1  (MANAGE TEAM)").getDay());
+    }
+
+    @Test
+    public void entityTest() {
+        Course csci2300 = find(this.scrape(null), "CSCI 2300");
+        Deadline lab = csci2300.getDeadlinesView().get("Lab 3 & Quiz");
+        assertNotNull(lab);
+        assertEquals(Deadline.STATUS.LATE_SUBMIT, lab.getStatus());
+        assertEquals(16, lab.getHour());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Sync Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void syncTest() {
+        SyncState state = new SyncState();
+        HttpSubmittyScraper first = this.login();
+        first.parser(new HashSet<>(), state, 2);
+        assertEquals(5, first.getDiff().getAdded().size());
+
+        HttpSubmittyScraper second = this.login();
+        second.parser(new HashSet<>(), state, 2);
+        assertTrue(second.getDiff().isEmpty());
+
+        pages.put("csci2300", pages.get("csci2300").replace("LATE SUBMIT", "SUBMIT"));
+        HttpSubmittyScraper third = this.login();
+        third.parser(new HashSet<>(), state, 2);
+        assertEquals(1, third.getDiff().getChanged().size());
+        assertEquals(Deadline.STATUS.DEFAULT, third.getDiff().getChanged().get(0).getStatus());
+    }
+
+    private HttpSubmittyScraper login() {
+        HttpSubmittyScraper scraper = new HttpSubmittyScraper(baseUrl, "alice", "secret", null);
+        scraper.login();
+        return scraper;
+    }
+
+    private ConcurrentHashMap<String, Course> scrape(SyncState state) {
+        HttpSubmittyScraper scraper = this.login();
+        scraper.parser(new HashSet<>(), state, 2);
+        scraper.close();
+        return scraper.getCourseMap();
+    }
+
+    private static Course find(Map<String, Course> courses, String name) {
+        for (Course c : courses.values()) {
+            if (c.getCourseName().equals(name)) {
+                return c;
+            }
+        }
+        fail("no course " + name + " in " + courses.keySet());
+        return null;
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Stub Server
+    /////////////////////////////////////////////////////////////////////////
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        boolean loggedIn = cookie != null && cookie.contains(SESSION);
+        if (path.equals("/authentication/check_login") && exchange.getRequestMethod().equals("POST")) {
+            Map<String, String> form = parseForm(new String(readAll(exchange.getRequestBody()), StandardCharsets.UTF_8));
+            if ("token&42".equals(form.get("csrf_token")) && "alice".equals(form.get("user_id"))
+                    && "secret".equals(form.get("password"))) {
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION + "; Path=/; HttpOnly");
+                redirect(exchange, "/home");
+            } else {
+                respond(exchange, 200, pages.get("login_failed"));
+            }
+        } else if (path.equals("/authentication/login")) {
+            respond(exchange, 200, pages.get("login"));
+        } else if (!loggedIn) {
+            redirect(exchange, "/authentication/login");
+        } else if (path.equals("/home")) {
+            respond(exchange, 200, pages.get("home"));
+        } else if (path.equals("/f19/csci1200")) {
+            respond(exchange, 200, pages.get("csci1200"));
+        } else if (path.equals("/f19/csci2300")) {
+            respond(exchange, 200, pages.get("csci2300"));
+        } else {
+            respond(exchange, 404, "not found");
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        for (String field : body.split("&")) {
+            String[] pair = field.split("=", 2);
+            form.put(URLDecoder.decode(pair[0], "UTF-8"), pair.length > 1 ? URLDecoder.decode(pair[1], "UTF-8") : "");
+        }
+        return form;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static String read(String resource) throws IOException {
+        try (InputStream in = HttpSubmittyScraperTest.class.getResourceAsStream(resource)) {
+            assertNotNull("missing " + resource, in);
+            return new String(readAll(in), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package webService;
+
+import model.CalendarWrapper;
+import model.Course;
+import model.Deadline;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the SyncState class.
+ */
+public class SyncStateTest {
+    private static final String USER = "smithj";
+    private static final String FULL_NAME = "Fall 2019 CSCI 1200";
+    private static final String NAME = "CSCI 1200";
+    private SyncState state;
+
+    @Before
+    public void setUp() {
+        state = new SyncState();
+    }
+
+    private static Deadline deadline(String name, int day, String status, String link)
+            throws CalendarWrapper.CalendarFormatException {
+        return new Deadline(2019, 10, day, 23, 59, name, NAME, status, link);
+    }
+
+    private static Course course(Deadline... deadlines) {
+        Course c = new Course(NAME);
+        for (Deadline d : deadlines) {
+            c.addDeadline(d);
+        }
+        return c;
+    }
+
+    private static Map<String, Course> scraped(Course c) {
+        Map<String, Course> courses = new HashMap<>();
+        courses.put(FULL_NAME, c);
+        return courses;
+    }
+
+    private static Map<String, Long> fingerprints(long fingerprint) {
+        Map<String, Long> fingerprints = new HashMap<>();
+        fingerprints.put(FULL_NAME, fingerprint);
+        return fingerprints;
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Update Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void firstUpdateTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        SyncState.Diff diff = state.update(USER, scraped(course(hw1)), fingerprints(1));
+        assertEquals(Arrays.asList(hw1), diff.getAdded());
+        assertEquals(Arrays.asList(NAME), diff.getAddedCourses());
+        assertTrue(diff.getChanged().isEmpty());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertFalse(diff.isEmpty());
+    }
+
+    @Test
+    public void sameCourseTest() throws CalendarWrapper.CalendarFormatException {
+        Course c = course(deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1"));
+        state.update(USER, scraped(c), fingerprints(1));
+        assertTrue(state.update(USER, scraped(c), fingerprints(1)).isEmpty());
+        Course copy = course(deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1"));
+        assertTrue(state.update(USER, scraped(copy), fingerprints(2)).isEmpty());
+    }
+
+    @Test
+    public void addedAndRemovedTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        Deadline hw2 = deadline("hw2", 8, Deadline.STATUS.DEFAULT, "link2");
+        state.update(USER, scraped(course(hw1)), fingerprints(1));
+        SyncState.Diff diff = state.update(USER, scraped(course(hw2)), fingerprints(2));
+        assertEquals(Arrays.asList(hw2), diff.getAdded());
+        assertEquals(Arrays.asList(hw1), diff.getRemoved());
+        assertTrue(diff.getChanged().isEmpty());
+        assertTrue(diff.getAddedCourses().isEmpty());
+    }
+
+    @Test
+    public void changedTest() throws CalendarWrapper.CalendarFormatException {
+        state.update(USER, scraped(course(deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1"))),
+                fingerprints(1));
+
+        Deadline due = deadline("hw1", 2, Deadline.STATUS.DEFAULT, "link1");
+        assertEquals(Arrays.asList(due), state.update(USER, scraped(course(due)), fingerprints(2)).getChanged());
+
+        Deadline status = deadline("hw1", 2, Deadline.STATUS.RESUBMIT, "link1");
+        SyncState.Diff diff = state.update(USER, scraped(course(status)), fingerprints(3));
+        assertEquals(1, diff.getChanged().size());
+        assertSame(status, diff.getChanged().get(0));
+
+        Deadline link = deadline("hw1", 2, Deadline.STATUS.RESUBMIT, "link2");
+        diff = state.update(USER, scraped(course(link)), fingerprints(4));
+        assertEquals(1, diff.getChanged().size());
+        assertSame(link, diff.getChanged().get(0));
+        assertTrue(diff.getAdded().isEmpty());
+        assertTrue(diff.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void courseDroppedTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        state.update(USER, scraped(course(hw1)), fingerprints(1));
+        SyncState.Diff diff = state.update(USER, new HashMap<>(), new HashMap<>());
+        assertEquals(Arrays.asList(hw1), diff.getRemoved());
+        assertTrue(diff.getAdded().isEmpty());
+        assertNull(state.getUnchangedCourse(USER, FULL_NAME, 1));
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Unchanged Course Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void getUnchangedCourseTest() throws CalendarWrapper.CalendarFormatException {
+        Course c = course(deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1"));
+        assertNull(state.getUnchangedCourse(USER, FULL_NAME, 1));
+        state.update(USER, scraped(c), fingerprints(1));
+        assertSame(c, state.getUnchangedCourse(USER, FULL_NAME, 1));
+        assertNull(state.getUnchangedCourse(USER, FULL_NAME, 2));
+        assertNull(state.getUnchangedCourse(USER, "Fall 2019 CSCI 2300", 1));
+        assertNull(state.getUnchangedCourse("doej", FULL_NAME, 1));
+    }
+
+    @Test
+    public void otherUserTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        Course c = course(hw1);
+        state.update(USER, scraped(c), fingerprints(1));
+        // a different user is compared against an empty state
+        SyncState.Diff diff = state.update("doej", scraped(c), fingerprints(1));
+        assertEquals(Arrays.asList(hw1), diff.getAdded());
+        assertEquals(Arrays.asList(NAME), diff.getAddedCourses());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertNull(state.getUnchangedCourse(USER, FULL_NAME, 1));
+        assertSame(c, state.getUnchangedCourse("doej", FULL_NAME, 1));
+    }
+
+    @Test
+    public void resetTest() throws CalendarWrapper.CalendarFormatException {
+        Course c = course(deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1"));
+        state.update(USER, scraped(c), fingerprints(1));
+        state.reset();
+        assertNull(state.getUnchangedCourse(USER, FULL_NAME, 1));
+        assertEquals(1, state.update(USER, scraped(c), fingerprints(1)).getAdded().size());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Reconcile Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void reconcileTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        Deadline hw2 = deadline("hw2", 8, Deadline.STATUS.DEFAULT, "link2");
+        Deadline hw3 = deadline("hw3", 15, Deadline.STATUS.DEFAULT, "link3");
+        Course c = course(hw1, hw2, hw3);
+        state.update(USER, scraped(c), fingerprints(1));
+        // the page did not change, but the user deleted hw1, edited hw2 and added a note
+        SyncState.Diff refresh = state.update(USER, scraped(c), fingerprints(1));
+        assertTrue(refresh.isEmpty());
+        Deadline note = deadline("note", 20, Deadline.STATUS.DEFAULT, "");
+        Map<String, Course> held = new HashMap<>();
+        held.put(NAME, course(deadline("hw2", 9, Deadline.STATUS.DEFAULT, "link2"), hw3, note));
+
+        SyncState.Diff diff = SyncState.reconcile(held, scraped(c), refresh);
+        assertEquals(Arrays.asList(hw1), diff.getAdded());
+        assertEquals(Arrays.asList(hw2), diff.getChanged());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertTrue(diff.getAddedCourses().isEmpty());
+    }
+
+    @Test
+    public void reconcileRemovedTest() throws CalendarWrapper.CalendarFormatException {
+        Deadline hw1 = deadline("hw1", 1, Deadline.STATUS.DEFAULT, "link1");
+        state.update(USER, scraped(course(hw1)), fingerprints(1));
+        SyncState.Diff refresh = state.update(USER, new HashMap<>(), new HashMap<>());
+        Map<String, Course> held = new HashMap<>();
+        held.put(NAME, course(hw1));
+
+        SyncState.Diff diff = SyncState.reconcile(held, new HashMap<>(), refresh);
+        assertEquals(Arrays.asList(hw1), diff.getRemoved());
+        assertTrue(diff.getAdded().isEmpty());
+
+        // a course the controller does not hold is added with all its deadlines
+        diff = SyncState.reconcile(new HashMap<>(), scraped(course(hw1)), refresh);
+        assertEquals(Arrays.asList(NAME), diff.getAddedCourses());
+        assertEquals(Arrays.asList(hw1), diff.getAdded());
+    }
+}
@@ -0,0 +1,266 @@
+package webService.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @overview
+ * This class is an in-process HTTP server that replays recorded Submitty pages, so
+ * that a scraper can be tested and profiled without the real server. It acts like
+ * Submitty just enough for a scraper to log in: a page requested without the
+ * session cookie redirects to the login page, and any form posted to it logs in,
+ * whatever the user id and password, and redirects to the home page.
+ *
+ * The server writes headers and body separately, so unless the caller sets the
+ * system property sun.net.httpserver.nodelay to true before the first server
+ * starts, every response waits for a delayed acknowledgement.
+ *
+ * @abstract_value
+ * pages -> <path, page> of every page that is replayed
+ * loginPath -> the path of the login page
+ * homePath -> the path a login form leads to
+ * requests -> the number of requests answered
+ *
+ * @constructor
+ * FixtureServer(Map<String, String> pages, String loginPath, String homePath)
+ *
+ * @mutator
+ * String start()
+ * putPage(String path, String page)
+ * stop()
+ *
+ * @accessor
+ * int getRequestCount()
+ */
+public class FixtureServer {
+    private static final String SESSION = "replay_session=1";
+
+    private final Map<String, String> pages;
+    private final String loginPath;
+    private final String homePath;
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * This is the basic constructor of this class
+     * @param pages <path, page> of every page, paths include the query if any
+     * @param loginPath the path of the login page
+     * @param homePath the path a login form leads to
+     * @requires pages != null, loginPath != null, homePath != null
+     * @modifies None
+     * @effects create a new FixtureServer object that is not started
+     */
+    public FixtureServer(Map<String, String> pages, String loginPath, String homePath) {
+        this.pages = new ConcurrentHashMap<>(pages);
+        this.loginPath = loginPath;
+        this.homePath = homePath;
+    }
+
+    /**
+     * This function reads a recording saved by a PageRecorder
+     * @param directory the folder of the recording
+     * @requires directory != null
+     * @modifies None
+     * @effects None
+     * @return a server that replays the recording
+     * @throws IOException if the recording cannot be read
+     */
+    public static FixtureServer fromDirectory(File directory) throws IOException {
+        return load(name -> {
+            File file = new File(directory, name);
+            return file.isFile() ? new FileInputStream(file) : null;
+        });
+    }
+
+    /**
+     * This function reads a recording from the class path
+     * @param folder the class path folder of the recording, e.g. "/submitty/"
+     * @requires folder != null, folder ends with "/"
+     * @modifies None
+     * @effects None
+     * @return a server that replays the recording
+     * @throws IOException if the recording cannot be read
+     */
+    public static FixtureServer fromResources(String folder) throws IOException {
+        return load(name -> FixtureServer.class.getResourceAsStream(folder + name));
+    }
+
+    /**
+     * @overview
+     * This interface opens a file of a recording
+     */
+    private interface Opener {
+        InputStream open(String name) throws IOException;
+    }
+
+    private static FixtureServer load(Opener opener) throws IOException {
+        Properties index = new Properties();
+        try (InputStream in = opener.open(PageRecorder.INDEX)) {
+            if (in == null) {
+                throw new IOException("No " + PageRecorder.INDEX + " in the recording");
+            }
+            index.load(in);
+        }
+        Map<String, String> pages = new ConcurrentHashMap<>();
+        for (String path : index.stringPropertyNames()) {
+            if (!path.startsWith("/")) {
+                continue;
+            }
+            String file = index.getProperty(path);
+            try (InputStream in = opener.open(file)) {
+                if (in == null) {
+                    throw new IOException("Missing recorded page " + file);
+                }
+                pages.put(path, new String(readAll(in), StandardCharsets.UTF_8));
+            }
+        }
+        return new FixtureServer(pages, index.getProperty(PageRecorder.LOGIN_KEY, "/authentication/login"),
+                index.getProperty(PageRecorder.HOME_KEY, "/home"));
+    }
+
+    /**
+     * This function starts the server on a free port of the loopback address
+     * @requires the server is not started
+     * @modifies this
+     * @effects start answering requests
+     * @return the url of the server, without a trailing slash
+     * @throws IOException if the server cannot be started
+     */
+    public String start() throws IOException {
+        return this.start(0);
+    }
+
+    /**
+     * This function starts the server on the loopback address
+     * @param port the port, 0 for any free port
+     * @requires the server is not started
+     * @modifies this
+     * @effects start answering requests
+     * @return the url of the server, without a trailing slash
+     * @throws IOException if the server cannot be started
+     */
+    public String start(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "fixture-server");
+            t.setDaemon(true);
+            return t;
+        });
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+        return "http://127.0.0.1:" + this.server.getAddress().getPort();
+    }
+
+    /**
+     * This function stops the server
+     * @requires None
+     * @modifies this
+     * @effects stop answering requests
+     */
+    public void stop() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.executor.shutdownNow();
+            this.server = null;
+        }
+    }
+
+    /**
+     * This function adds or replaces a page
+     * @param path the path of the page, including the query if any
+     * @param page the page
+     * @requires path != null, page != null
+     * @modifies pages
+     * @effects the page is served from now on
+     */
+    public void putPage(String path, String page) {
+        this.pages.put(path, page);
+    }
+
+    /**
+     * @requires None
+     * @modifies None
+     * @effects None
+     * @return the number of requests answered since the server was created
+     */
+    public int getRequestCount() {
+        return this.requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        this.requests.incrementAndGet();
+        String path = exchange.getRequestURI().getRawPath();
+        if (exchange.getRequestURI().getRawQuery() != null) {
+            path += "?" + exchange.getRequestURI().getRawQuery();
+        }
+        String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        if (exchange.getRequestMethod().equals("POST")) {
+            readAll(exchange.getRequestBody());
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION + "; Path=/");
+            redirect(exchange, this.homePath);
+        } else if ((cookie == null || !cookie.contains(SESSION)) && !path.equals(this.loginPath)) {
+            redirect(exchange, this.loginPath);
+        } else {
+            String page = this.pages.get(path);
+            byte[] body = (page == null ? "Not found: " + path : page).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(page == null ? 404 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * This function replays a recording until the process is stopped. Start the
+     * application with -Dsubmitty.url=http://127.0.0.1:port to use it.
+     * Usage: FixtureServer directory [port]
+     * @param args the folder of the recording and an optional port
+     * @requires None
+     * @modifies None
+     * @effects serve the recording
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: FixtureServer directory [port]");
+            return;
+        }
+        FixtureServer server = fromDirectory(new File(args[0]));
+        String url = server.start(args.length > 1 ? Integer.parseInt(args[1]) : 0);
+        System.out.println("Replaying " + args[0] + " at " + url);
+        Thread.currentThread().join();
+    }
+}
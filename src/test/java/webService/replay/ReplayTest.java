@@ -0,0 +1,128 @@
+package webService.replay;
+
+import model.Course;
+import model.Deadline;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import webService.HttpSubmittyScraper;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class contains a set of test cases that can be used to test the
+ * implementation of the PageRecorder and FixtureServer classes.
+ */
+public class ReplayTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FixtureServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public static void setUpClass() {
+        // the FixtureServer answers without waiting for delayed acknowledgements
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = FixtureServer.fromResources("/submitty/");
+        baseUrl = server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Replay Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void replayTest() {
+        Map<String, String> deadlines = scrape(new HttpSubmittyScraper(baseUrl, "anyone", "anything", null), baseUrl);
+        assertEquals(5, deadlines.size());
+        assertEquals("10/12/2019 23:59 " + Deadline.STATUS.DEFAULT + " /f19/csci1200/gradeable/hw1",
+                deadlines.get("CSCI 1200/Homework 1"));
+        // home, login page, login form, home again and two courses
+        assertEquals(6, server.getRequestCount());
+    }
+
+    @Test
+    public void putPageTest() {
+        server.putPage("/f19/csci2300", "<html><body></body></html>");
+        Map<String, String> deadlines = scrape(new HttpSubmittyScraper(baseUrl, "anyone", "anything", null), baseUrl);
+        assertEquals(4, deadlines.size());
+        assertNull(deadlines.get("CSCI 2300/Lab 3 & Quiz"));
+    }
+
+    @Test(expected = IOException.class)
+    public void missingIndexTest() throws IOException {
+        FixtureServer.fromDirectory(folder.newFolder());
+    }
+
+    /////////////////////////////////////////////////////////////////////////
+    ////  Record Test
+    /////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void recordTest() throws IOException {
+        File directory = folder.newFolder("recording");
+        PageRecorder recorder = new PageRecorder(directory);
+        HttpSubmittyScraper scraper = new HttpSubmittyScraper(baseUrl, "anyone", "anything", null);
+        scraper.setRecorder(recorder);
+        Map<String, String> recorded = scrape(scraper, baseUrl);
+        recorder.save();
+
+        Properties index = new Properties();
+        try (InputStream in = new FileInputStream(new File(directory, PageRecorder.INDEX))) {
+            index.load(in);
+        }
+        assertEquals("/authentication/login", index.getProperty("login"));
+        assertEquals("/home", index.getProperty("home"));
+        assertEquals("f19_csci1200.html", index.getProperty("/f19/csci1200"));
+        assertTrue(new File(directory, "f19_csci2300.html").isFile());
+
+        FixtureServer replay = FixtureServer.fromDirectory(directory);
+        String replayUrl = replay.start();
+        try {
+            assertEquals(recorded, scrape(new HttpSubmittyScraper(replayUrl, "other", "other", null), replayUrl));
+        } finally {
+            replay.stop();
+        }
+    }
+
+    /**
+     * This function logs in, reads every course and describes each deadline
+     * @return <course/name, "date status path"> of every deadline
+     */
+    private static Map<String, String> scrape(HttpSubmittyScraper scraper, String url) {
+        scraper.login();
+        scraper.parser(new HashSet<>(), null, 2);
+        scraper.close();
+        Map<String, String> deadlines = new TreeMap<>();
+        for (Course course : scraper.getCourseMap().values()) {
+            for (Deadline d : course.getDeadlinesView().values()) {
+                deadlines.put(course.getCourseName() + "/" + d.getName(),
+                        String.format("%02d/%02d/%d %02d:%02d %s %s", d.getMonth(), d.getDay(), d.getYear(),
+                                d.getHour(), d.getMinute(), d.getStatus(), d.getLink().replace(url, "")));
+            }
+        }
+        return deadlines;
+    }
+}